@@ -1,5 +1,6 @@
 plugins {
     id("org.openrewrite.build.recipe-library") version "latest.release"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "org.openrewrite.recipe"
@@ -55,6 +56,14 @@ dependencies {
     testRuntimeOnly("org.projectlombok:lombok:latest.release")
 }
 
+jmh {
+    jmhVersion.set("1.37")
+    profilers.add("gc")
+    profilers.add("org.openrewrite.quarkus.benchmarks.PeakHeapProfiler")
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("results/jmh/results.json"))
+}
+
 recipeDependencies {
     parserClasspath("io.quarkus:quarkus-core:3.+")
 }
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.benchmarks;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Generates Quarkus configuration files of a given size, spreading the keys round-robin over the default profile and
+ * a number of named profiles. Every profile also defines {@link #TARGET_KEY}, so that the number of matches of the
+ * benchmarked recipes grows with the profile fan-out.
+ */
+final class QuarkusConfigGenerator {
+    static final String TARGET_KEY = "quarkus.bench.target";
+
+    private static final int GROUP_SIZE = 100;
+
+    private QuarkusConfigGenerator() {
+    }
+
+    static String properties(int keys, int profiles) {
+        StringBuilder properties = new StringBuilder();
+        for (int i = 0; i < keys; i++) {
+            String profile = profile(i, profiles);
+            if (profile != null) {
+                properties.append('%').append(profile).append('.');
+            }
+            properties.append("quarkus.bench.group").append(i / GROUP_SIZE).append(".key").append(i)
+                    .append("=value").append(i).append('\n');
+        }
+        properties.append(TARGET_KEY).append("=target\n");
+        for (int p = 0; p < profiles; p++) {
+            properties.append('%').append(profileName(p)).append('.').append(TARGET_KEY).append("=target\n");
+        }
+        return properties.toString();
+    }
+
+    static String yaml(int keys, int profiles) {
+        StringBuilder yaml = new StringBuilder();
+        yamlSection(yaml, keys, profiles, null);
+        for (int p = 0; p < profiles; p++) {
+            yamlSection(yaml, keys, profiles, profileName(p));
+        }
+        return yaml.toString();
+    }
+
+    private static void yamlSection(StringBuilder yaml, int keys, int profiles, @Nullable String profile) {
+        String indent = "";
+        if (profile != null) {
+            yaml.append("\"%").append(profile).append("\":\n");
+            indent = "  ";
+        }
+        yaml.append(indent).append("quarkus:\n");
+        yaml.append(indent).append("  bench:\n");
+        yaml.append(indent).append("    target: target\n");
+        int group = -1;
+        for (int i = 0; i < keys; i++) {
+            String keyProfile = profile(i, profiles);
+            if (profile == null ? keyProfile != null : !profile.equals(keyProfile)) {
+                continue;
+            }
+            if (i / GROUP_SIZE != group) {
+                group = i / GROUP_SIZE;
+                yaml.append(indent).append("    group").append(group).append(":\n");
+            }
+            yaml.append(indent).append("      key").append(i).append(": value").append(i).append('\n');
+        }
+    }
+
+    private static @Nullable String profile(int key, int profiles) {
+        int slot = key % (profiles + 1);
+        return slot == 0 ? null : profileName(slot - 1);
+    }
+
+    private static String profileName(int profile) {
+        return "profile" + profile;
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openrewrite.*;
+import org.openrewrite.config.Environment;
+import org.openrewrite.internal.InMemoryLargeSourceSet;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.maven.MavenParser;
+import org.openrewrite.quarkus.ConfigureQuarkusMavenPluginWithReasonableDefaults;
+import org.openrewrite.quarkus.Slf4jToQuarkusLogger;
+import org.openrewrite.quarkus.quarkus2.GrpcServiceAnnotationToGrpcClient;
+import org.openrewrite.quarkus.quarkus2.UsePanacheEntityBaseUniT;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Throughput of the Java and Maven migration recipes on a synthetic multi-module Quarkus project generated by
+ * {@link QuarkusProjectGenerator}. Each invocation is one full recipe run over every source file of the project;
+ * the {@code files} secondary result reports the throughput in source files per second. Run with
+ * {@code ./gradlew jmh}, which attaches the GC and {@link PeakHeapProfiler} profilers and writes the results as JSON
+ * to {@code build/results/jmh/results.json}.
+ * <p>
+ * The composite migration upgrades Maven plugin and dependency versions, so its first iteration downloads the
+ * metadata of these artifacts; it is cached for the following iterations.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@State(Scope.Benchmark)
+public class QuarkusMigrationRecipesBenchmark {
+
+    @Param({"30", "300", "3000"})
+    int classes;
+
+    @Param({"1", "5"})
+    int modules;
+
+    LargeSourceSet project;
+
+    int sourceFiles;
+
+    final Recipe slf4jToQuarkusLogger = new Slf4jToQuarkusLogger();
+    final Recipe usePanacheEntityBaseUniT = new UsePanacheEntityBaseUniT();
+    final Recipe grpcServiceAnnotationToGrpcClient = new GrpcServiceAnnotationToGrpcClient();
+    final Recipe configureQuarkusMavenPlugin = new ConfigureQuarkusMavenPluginWithReasonableDefaults();
+    final Recipe quarkus1to2Migration = Environment.builder()
+            .scanRuntimeClasspath("org.openrewrite.quarkus")
+            .build()
+            .activateRecipes("org.openrewrite.quarkus.quarkus2.Quarkus1to2Migration");
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Files {
+        public long files;
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        ExecutionContext ctx = new InMemoryExecutionContext(Throwable::printStackTrace);
+        List<SourceFile> sources = new ArrayList<>();
+        sources.addAll(MavenParser.builder().build()
+                .parseInputs(QuarkusProjectGenerator.poms(modules), null, ctx)
+                .collect(toList()));
+        List<String> javaSources = QuarkusProjectGenerator.javaSources(classes, modules);
+        List<SourceFile> javaFiles = JavaParser.fromJavaVersion()
+                .dependsOn(QuarkusProjectGenerator.STUBS)
+                .build()
+                .parse(ctx, javaSources.toArray(new String[0]))
+                .collect(toList());
+        for (int i = 0; i < javaFiles.size(); i++) {
+            SourceFile javaFile = javaFiles.get(i);
+            sources.add(javaFile.withSourcePath(Paths.get(QuarkusProjectGenerator.module(i, modules), "src/main/java")
+                    .resolve(javaFile.getSourcePath())));
+        }
+        project = new InMemoryLargeSourceSet(sources);
+        sourceFiles = sources.size();
+    }
+
+    @Benchmark
+    public RecipeRun slf4jToQuarkusLogger(Files files) {
+        return run(slf4jToQuarkusLogger, files);
+    }
+
+    @Benchmark
+    public RecipeRun usePanacheEntityBaseUniT(Files files) {
+        return run(usePanacheEntityBaseUniT, files);
+    }
+
+    @Benchmark
+    public RecipeRun grpcServiceAnnotationToGrpcClient(Files files) {
+        return run(grpcServiceAnnotationToGrpcClient, files);
+    }
+
+    @Benchmark
+    public RecipeRun configureQuarkusMavenPluginWithReasonableDefaults(Files files) {
+        return run(configureQuarkusMavenPlugin, files);
+    }
+
+    @Benchmark
+    public RecipeRun quarkus1to2Migration(Files files) {
+        return run(quarkus1to2Migration, files);
+    }
+
+    private RecipeRun run(Recipe recipe, Files files) {
+        files.files += sourceFiles;
+        return recipe.run(project, new InMemoryExecutionContext());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(QuarkusMigrationRecipesBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .addProfiler(PeakHeapProfiler.class)
+                .build();
+        new Runner(opt).run();
+    }
+}
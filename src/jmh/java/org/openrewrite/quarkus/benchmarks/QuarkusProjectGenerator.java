@@ -0,0 +1,190 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.benchmarks;
+
+import org.openrewrite.Parser;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Deterministically generates a synthetic multi-module Quarkus 1.x project: a parent pom, one pom per module
+ * declaring the {@code quarkus-maven-plugin}, and Java classes spread round-robin over the modules. The classes
+ * alternate between SLF4J logger usages, reactive Panache entities and {@code @GrpcService} clients.
+ */
+final class QuarkusProjectGenerator {
+
+    /**
+     * Minimal stubs of the APIs used by the generated classes, so that they can be parsed with full type attribution
+     * without the actual libraries on the classpath.
+     */
+    static final String[] STUBS = {
+            "package org.slf4j;\n" +
+            "public interface Logger {\n" +
+            "    void info(String msg, Object... args);\n" +
+            "    void debug(String msg, Object... args);\n" +
+            "    void warn(String msg, Object... args);\n" +
+            "}",
+            "package org.slf4j;\n" +
+            "public class LoggerFactory {\n" +
+            "    public static Logger getLogger(Class<?> clazz) { return null; }\n" +
+            "}",
+            "package io.smallrye.mutiny;\n" +
+            "public interface Uni<T> {\n" +
+            "    Uni<Void> replaceWithVoid();\n" +
+            "}",
+            "package io.quarkus.hibernate.reactive.panache;\n" +
+            "import io.smallrye.mutiny.Uni;\n" +
+            "public abstract class PanacheEntityBase {\n" +
+            "    public Uni<Void> persist() { return null; }\n" +
+            "    public Uni<Void> persistAndFlush() { return null; }\n" +
+            "}",
+            "package io.quarkus.grpc.runtime.annotations;\n" +
+            "public @interface GrpcService {\n" +
+            "    String value() default \"\";\n" +
+            "}",
+            "package com.example.grpc;\n" +
+            "public interface GreeterStub {\n" +
+            "    String sayHello(String name);\n" +
+            "}"
+    };
+
+    private QuarkusProjectGenerator() {
+    }
+
+    static String module(int clazz, int modules) {
+        return "module" + (clazz % modules);
+    }
+
+    static List<String> javaSources(int classes, int modules) {
+        List<String> sources = new ArrayList<>(classes);
+        for (int i = 0; i < classes; i++) {
+            String pkg = "com.example." + module(i, modules);
+            switch (i % 3) {
+                case 0:
+                    sources.add(loggingService(pkg, i));
+                    break;
+                case 1:
+                    sources.add(panacheEntity(pkg, i));
+                    break;
+                default:
+                    sources.add(grpcClient(pkg, i));
+            }
+        }
+        return sources;
+    }
+
+    static List<Parser.Input> poms(int modules) {
+        List<Parser.Input> poms = new ArrayList<>(modules + 1);
+        StringBuilder moduleTags = new StringBuilder();
+        for (int m = 0; m < modules; m++) {
+            moduleTags.append("    <module>module").append(m).append("</module>\n");
+        }
+        poms.add(Parser.Input.fromString(Paths.get("pom.xml"),
+                "<project>\n" +
+                "  <modelVersion>4.0.0</modelVersion>\n" +
+                "  <groupId>com.example</groupId>\n" +
+                "  <artifactId>parent</artifactId>\n" +
+                "  <version>1.0.0-SNAPSHOT</version>\n" +
+                "  <packaging>pom</packaging>\n" +
+                "  <modules>\n" +
+                moduleTags +
+                "  </modules>\n" +
+                "</project>\n"));
+        for (int m = 0; m < modules; m++) {
+            Path path = Paths.get("module" + m, "pom.xml");
+            poms.add(Parser.Input.fromString(path,
+                    "<project>\n" +
+                    "  <modelVersion>4.0.0</modelVersion>\n" +
+                    "  <parent>\n" +
+                    "    <groupId>com.example</groupId>\n" +
+                    "    <artifactId>parent</artifactId>\n" +
+                    "    <version>1.0.0-SNAPSHOT</version>\n" +
+                    "  </parent>\n" +
+                    "  <artifactId>module" + m + "</artifactId>\n" +
+                    "  <build>\n" +
+                    "    <plugins>\n" +
+                    "      <plugin>\n" +
+                    "        <groupId>io.quarkus</groupId>\n" +
+                    "        <artifactId>quarkus-maven-plugin</artifactId>\n" +
+                    "        <version>1.13.7.Final</version>\n" +
+                    "      </plugin>\n" +
+                    "    </plugins>\n" +
+                    "  </build>\n" +
+                    "</project>\n"));
+        }
+        return poms;
+    }
+
+    private static String loggingService(String pkg, int i) {
+        return "package " + pkg + ";\n" +
+               "\n" +
+               "import org.slf4j.Logger;\n" +
+               "import org.slf4j.LoggerFactory;\n" +
+               "\n" +
+               "public class LoggingService" + i + " {\n" +
+               "    private static final Logger LOG = LoggerFactory.getLogger(LoggingService" + i + ".class);\n" +
+               "\n" +
+               "    public void handle(String id, int attempt) {\n" +
+               "        LOG.info(\"Handling {} attempt {}\", id, attempt);\n" +
+               "        LOG.debug(\"Handled {}\", id);\n" +
+               "        if (attempt > 3) {\n" +
+               "            LOG.warn(\"Too many attempts for {}\", id);\n" +
+               "        }\n" +
+               "    }\n" +
+               "}\n";
+    }
+
+    private static String panacheEntity(String pkg, int i) {
+        return "package " + pkg + ";\n" +
+               "\n" +
+               "import io.quarkus.hibernate.reactive.panache.PanacheEntityBase;\n" +
+               "import io.smallrye.mutiny.Uni;\n" +
+               "\n" +
+               "public class Order" + i + " extends PanacheEntityBase {\n" +
+               "    public String name;\n" +
+               "\n" +
+               "    public static Uni<Void> create(Order" + i + " order) {\n" +
+               "        return order.persist();\n" +
+               "    }\n" +
+               "\n" +
+               "    public static Uni<Void> createAndFlush(Order" + i + " order) {\n" +
+               "        return order.persistAndFlush();\n" +
+               "    }\n" +
+               "}\n";
+    }
+
+    private static String grpcClient(String pkg, int i) {
+        return "package " + pkg + ";\n" +
+               "\n" +
+               "import com.example.grpc.GreeterStub;\n" +
+               "import io.quarkus.grpc.runtime.annotations.GrpcService;\n" +
+               "\n" +
+               "public class GreeterClient" + i + " {\n" +
+               "    @GrpcService(\"greeter\")\n" +
+               "    GreeterStub greeter;\n" +
+               "\n" +
+               "    @GrpcService(\"greeter-" + i + "\")\n" +
+               "    GreeterStub secondary;\n" +
+               "\n" +
+               "    public String greet(String name) {\n" +
+               "        return greeter.sayHello(name) + secondary.sayHello(name);\n" +
+               "    }\n" +
+               "}\n";
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openrewrite.*;
+import org.openrewrite.properties.PropertiesParser;
+import org.openrewrite.quarkus.AddQuarkusProperty;
+import org.openrewrite.quarkus.ChangeQuarkusPropertyKey;
+import org.openrewrite.quarkus.ChangeQuarkusPropertyValue;
+import org.openrewrite.quarkus.DeleteQuarkusProperty;
+import org.openrewrite.quarkus.search.FindQuarkusProperties;
+import org.openrewrite.yaml.YamlParser;
+
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+import static org.openrewrite.quarkus.benchmarks.QuarkusConfigGenerator.TARGET_KEY;
+
+/**
+ * Throughput of the Quarkus configuration property recipes on a single generated configuration file.
+ * Run with {@code ./gradlew jmh}, which also attaches the GC profiler to report the allocation rate.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@State(Scope.Benchmark)
+public class QuarkusPropertyRecipesBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    int keys;
+
+    @Param({"0", "3"})
+    int profiles;
+
+    @Param({"properties", "yaml"})
+    String format;
+
+    SourceFile sourceFile;
+
+    final Recipe findProperties = new FindQuarkusProperties(TARGET_KEY, null, null, null);
+    final Recipe changeKey = new ChangeQuarkusPropertyKey(TARGET_KEY, "quarkus.bench.renamed", null, null, null);
+    final Recipe changeValue = new ChangeQuarkusPropertyValue(TARGET_KEY, "changed", null, null, null, null);
+    final Recipe deleteProperty = new DeleteQuarkusProperty(TARGET_KEY, null, null, null, null);
+    final Recipe addProperty = new AddQuarkusProperty("quarkus.bench.added", "added", null, null, null);
+
+    @Setup(Level.Trial)
+    public void setup() {
+        ExecutionContext ctx = new InMemoryExecutionContext(Throwable::printStackTrace);
+        Parser parser = "yaml".equals(format) ? new YamlParser() : new PropertiesParser();
+        String source = "yaml".equals(format) ?
+                QuarkusConfigGenerator.yaml(keys, profiles) :
+                QuarkusConfigGenerator.properties(keys, profiles);
+        sourceFile = parser.parse(ctx, source)
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("Unable to parse the generated configuration"))
+                .withSourcePath(Paths.get("src/main/resources/application." + format));
+    }
+
+    @Benchmark
+    public Tree findQuarkusProperties() {
+        return run(findProperties);
+    }
+
+    @Benchmark
+    public Tree changeQuarkusPropertyKey() {
+        return run(changeKey);
+    }
+
+    @Benchmark
+    public Tree changeQuarkusPropertyValue() {
+        return run(changeValue);
+    }
+
+    @Benchmark
+    public Tree deleteQuarkusProperty() {
+        return run(deleteProperty);
+    }
+
+    @Benchmark
+    public Tree addQuarkusProperty() {
+        return run(addProperty);
+    }
+
+    private Tree run(Recipe recipe) {
+        return recipe.getVisitor().visit(sourceFile, new InMemoryExecutionContext());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(QuarkusPropertyRecipesBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(opt).run();
+    }
+}
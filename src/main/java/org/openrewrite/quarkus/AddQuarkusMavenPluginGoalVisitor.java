@@ -17,6 +17,7 @@ package org.openrewrite.quarkus;
 
 import lombok.RequiredArgsConstructor;
 import org.openrewrite.ExecutionContext;
+import org.openrewrite.TreeVisitor;
 import org.openrewrite.maven.MavenIsoVisitor;
 import org.openrewrite.maven.search.FindPlugin;
 import org.openrewrite.xml.AddToTagVisitor;
@@ -33,9 +34,20 @@ public class AddQuarkusMavenPluginGoalVisitor extends MavenIsoVisitor<ExecutionC
     private static final Predicate<? super Xml.Tag> TAG_CONTENT_IS_CHAR_DATA = tag -> tag.getContent().get(0) instanceof Xml.CharData;
     private static final BiPredicate<? super Xml.Tag, String> TAG_CONTENT_MATCHES = (tag, str) -> ((Xml.CharData) tag.getContent().get(0)).getText().equals(str);
 
+    /**
+     * The name of the recipe using this visitor, reported in its Java Flight Recorder events.
+     */
+    private final String recipeName;
+
     private final String goalName;
 
 
+    @Override
+    public void doAfterVisit(TreeVisitor<?, ExecutionContext> visitor) {
+        QuarkusRecipePerformanceVisitor.afterVisitScheduled();
+        super.doAfterVisit(visitor);
+    }
+
     @Override
     public Xml.Document visitDocument(Xml.Document document, ExecutionContext ctx) {
         /*
@@ -43,26 +55,31 @@ public class AddQuarkusMavenPluginGoalVisitor extends MavenIsoVisitor<ExecutionC
          * really be helpful is having this walk a configured (fully-defined) path, and try to add any new nodes if none exist.
          * fixme
          */
-        FindPlugin.find(document, "io.quarkus", "quarkus-maven-plugin").forEach(plugin -> {
+        QuarkusRecipeEvent.Event event = QuarkusRecipeEvent.POM_EDIT.begin();
+        int tagsAdded = 0;
+        for (Xml.Tag plugin : FindPlugin.find(document, "io.quarkus", "quarkus-maven-plugin")) {
             Optional<Xml.Tag> maybeExecutions = plugin.getChild("executions");
             if (!maybeExecutions.isPresent()) {
                 Xml.Tag executionsTag = Xml.Tag.build("<executions/>");
                 doAfterVisit(new AddToTagVisitor<>(plugin, executionsTag));
-                doAfterVisit(new AddQuarkusMavenPluginGoalVisitor(goalName));
+                tagsAdded++;
+                doAfterVisit(new AddQuarkusMavenPluginGoalVisitor(recipeName, goalName));
             } else {
                 Xml.Tag executions = maybeExecutions.get();
                 Optional<Xml.Tag> maybeExecution = executions.getChildren().stream().filter(exe -> "execution".equals(exe.getName())).findFirst();
                 if (!maybeExecution.isPresent()) {
                     Xml.Tag executionTag = Xml.Tag.build("<execution/>");
                     doAfterVisit(new AddToTagVisitor<>(executions, executionTag));
-                    doAfterVisit(new AddQuarkusMavenPluginGoalVisitor(goalName));
+                    tagsAdded++;
+                    doAfterVisit(new AddQuarkusMavenPluginGoalVisitor(recipeName, goalName));
                 } else {
                     Xml.Tag execution = maybeExecution.get();
                     Optional<Xml.Tag> maybeGoals = execution.getChild("goals");
                     if (!maybeGoals.isPresent()) {
                         Xml.Tag goalsTag = Xml.Tag.build("<goals/>");
                         doAfterVisit(new AddToTagVisitor<>(execution, goalsTag));
-                        doAfterVisit(new AddQuarkusMavenPluginGoalVisitor(goalName));
+                        tagsAdded++;
+                        doAfterVisit(new AddQuarkusMavenPluginGoalVisitor(recipeName, goalName));
                     } else {
                         Xml.Tag goals = maybeGoals.get();
                         Optional<Xml.Tag> foundGoals = goals.getChildren().stream()
@@ -74,11 +91,15 @@ public class AddQuarkusMavenPluginGoalVisitor extends MavenIsoVisitor<ExecutionC
                         if (!foundGoals.isPresent()) {
                             Xml.Tag goalsTag = Xml.Tag.build("<goal>" + goalName + "</goal>");
                             doAfterVisit(new AddToTagVisitor<>(goals, goalsTag));
+                            tagsAdded++;
                         }
                     }
                 }
             }
-        });
+        }
+        if (tagsAdded > 0) {
+            doAfterVisit(new CommitQuarkusRecipeEventVisitor<>(event, recipeName, tagsAdded));
+        }
         return super.visitDocument(document, ctx);
     }
 }
@@ -22,6 +22,7 @@ import org.openrewrite.*;
 import org.openrewrite.internal.StringUtils;
 import org.openrewrite.properties.AddProperty;
 import org.openrewrite.properties.tree.Properties;
+import org.openrewrite.quarkus.table.QuarkusRecipePerformance;
 import org.openrewrite.yaml.MergeYaml;
 import org.openrewrite.yaml.tree.Yaml;
 
@@ -79,9 +80,11 @@ public class AddQuarkusProperty extends Recipe {
 
     String description = "Add a Quarkus configuration property to an existing configuration file if it does not already exist in that file.";
 
+    transient QuarkusRecipePerformance performance = new QuarkusRecipePerformance(this);
+
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return new TreeVisitor<Tree, ExecutionContext>() {
+        return new QuarkusRecipePerformanceVisitor(getName(), performance, new TreeVisitor<Tree, ExecutionContext>() {
             @Override
             public boolean isAcceptable(SourceFile sourceFile, ExecutionContext ctx) {
                 QuarkusExecutionContextView quarkusCtx = QuarkusExecutionContextView.view(ctx);
@@ -90,15 +93,21 @@ public class AddQuarkusProperty extends Recipe {
 
             @Override
             public @Nullable Tree visit(@Nullable Tree t, ExecutionContext ctx) {
+                if (!(t instanceof SourceFile)) {
+                    return t;
+                }
+                QuarkusRecipeEvent.Event event = QuarkusRecipeEvent.CONFIG_EDIT.begin();
+                Tree original = t;
                 if (t instanceof Yaml.Documents) {
                     t = createMergeYamlVisitor().getVisitor().visit(t, ctx);
                 } else if (t instanceof Properties.File) {
                     t = new AddProperty(propertyName(property, profile), value, comment, null, null, null, null)
                             .getVisitor().visit(t, ctx);
                 }
+                event.commit(AddQuarkusProperty.class.getName(), ((SourceFile) original).getSourcePath(), t != original ? 1 : 0);
                 return t;
             }
-        };
+        });
     }
 
     private MergeYaml createMergeYamlVisitor() {
@@ -21,6 +21,7 @@ import org.jspecify.annotations.Nullable;
 import org.openrewrite.*;
 import org.openrewrite.internal.StringUtils;
 import org.openrewrite.quarkus.search.FindQuarkusProperties;
+import org.openrewrite.quarkus.table.QuarkusRecipePerformance;
 
 import java.util.List;
 
@@ -81,11 +82,13 @@ public class ChangeQuarkusPropertyKey extends Recipe {
 
     String description = "Change the key of a property in Quarkus configuration files.";
 
+    transient QuarkusRecipePerformance performance = new QuarkusRecipePerformance(this);
+
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(
+        return new QuarkusRecipePerformanceVisitor(getName(), performance, Preconditions.check(
                 new FindQuarkusProperties(oldPropertyKey, profile, changeAllProfiles, pathExpressions).getVisitor(),
-                new ChangeQuarkusPropertyKeyVisitor(oldPropertyKey, newPropertyKey, profile, changeAllProfiles, pathExpressions)
-        );
+                new ChangeQuarkusPropertyKeyVisitor(getName(), oldPropertyKey, newPropertyKey, profile, changeAllProfiles, pathExpressions)
+        ));
     }
 }
@@ -25,6 +25,7 @@ import org.openrewrite.properties.tree.Properties;
 import org.openrewrite.quarkus.search.FindQuarkusProperties;
 import org.openrewrite.yaml.tree.Yaml;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
@@ -34,6 +35,11 @@ import java.util.regex.Pattern;
 @RequiredArgsConstructor
 class ChangeQuarkusPropertyKeyVisitor extends TreeVisitor<Tree, ExecutionContext> {
 
+    /**
+     * The name of the recipe using this visitor, reported in its Java Flight Recorder events.
+     */
+    final String recipeName;
+
     final String oldPropertyKey;
 
     final String newPropertyKey;
@@ -65,8 +71,12 @@ class ChangeQuarkusPropertyKeyVisitor extends TreeVisitor<Tree, ExecutionContext
     }
 
     private @Nullable Tree visitPropertiesFile(Tree tree, ExecutionContext ctx) {
+        QuarkusRecipeEvent.Event event = QuarkusRecipeEvent.CONFIG_EDIT.begin();
+        Path sourcePath = ((SourceFile) tree).getSourcePath();
+        int entriesTouched = 0;
         Set<Properties.Entry> existingProperties = FindQuarkusProperties.find((Properties) tree, oldPropertyKey, profile, changeAllProfiles);
         for (Properties.Entry entry : existingProperties) {
+            entriesTouched++;
             String keyWithoutProfile = QuarkusProfileUtils.getKeyWithoutProfile(entry.getKey());
             String transformedKey = replaceRegex(oldPropertyKey, newPropertyKey, keyWithoutProfile);
             String[] profiles = QuarkusProfileUtils.getProfilesFromPropertyKey(entry.getKey());
@@ -118,12 +128,17 @@ class ChangeQuarkusPropertyKeyVisitor extends TreeVisitor<Tree, ExecutionContext
             }
         }
 
+        event.commit(recipeName, sourcePath, entriesTouched);
         return tree;
     }
 
     private @Nullable Tree visitYamlDocuments(Tree tree, ExecutionContext ctx) {
+        QuarkusRecipeEvent.Event event = QuarkusRecipeEvent.CONFIG_EDIT.begin();
+        Path sourcePath = ((SourceFile) tree).getSourcePath();
+        int entriesTouched = 0;
         Set<Yaml.Mapping.Entry> existingProperties = FindQuarkusProperties.find((Yaml.Documents) tree, oldPropertyKey, profile, changeAllProfiles);
         for (Yaml.Mapping.Entry entry : existingProperties) {
+            entriesTouched++;
             String originalEntryValue = ((Yaml.Scalar) entry.getValue()).getValue();
             String originalKey = entry.getKey().getValue();
             String keyWithoutProfile = QuarkusProfileUtils.getKeyWithoutProfile(originalKey);
@@ -155,6 +170,7 @@ class ChangeQuarkusPropertyKeyVisitor extends TreeVisitor<Tree, ExecutionContext
             }
         }
 
+        event.commit(recipeName, sourcePath, entriesTouched);
         return tree;
     }
 
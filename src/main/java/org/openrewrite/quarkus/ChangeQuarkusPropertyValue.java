@@ -21,6 +21,7 @@ import org.jspecify.annotations.Nullable;
 import org.openrewrite.*;
 import org.openrewrite.internal.StringUtils;
 import org.openrewrite.quarkus.search.FindQuarkusProperties;
+import org.openrewrite.quarkus.table.QuarkusRecipePerformance;
 
 import java.util.List;
 
@@ -87,11 +88,13 @@ public class ChangeQuarkusPropertyValue extends Recipe {
 
     String description = "Change the value of a property in Quarkus configuration files.";
 
+    transient QuarkusRecipePerformance performance = new QuarkusRecipePerformance(this);
+
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(
+        return new QuarkusRecipePerformanceVisitor(getName(), performance, Preconditions.check(
                 new FindQuarkusProperties(propertyKey, profile, changeAllProfiles, pathExpressions).getVisitor(),
-                new ChangeQuarkusPropertyValueVisitor(propertyKey, newValue, oldValue, profile, changeAllProfiles, pathExpressions)
-        );
+                new ChangeQuarkusPropertyValueVisitor(getName(), propertyKey, newValue, oldValue, profile, changeAllProfiles, pathExpressions)
+        ));
     }
 }
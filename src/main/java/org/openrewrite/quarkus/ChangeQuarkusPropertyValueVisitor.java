@@ -25,6 +25,7 @@ import org.openrewrite.properties.tree.Properties;
 import org.openrewrite.quarkus.search.FindQuarkusProperties;
 import org.openrewrite.yaml.tree.Yaml;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
@@ -35,6 +36,11 @@ import static java.util.Collections.singletonList;
 @RequiredArgsConstructor
 class ChangeQuarkusPropertyValueVisitor extends TreeVisitor<Tree, ExecutionContext> {
 
+    /**
+     * The name of the recipe using this visitor, reported in its Java Flight Recorder events.
+     */
+    final String recipeName;
+
     final String propertyKey;
 
     final String newValue;
@@ -69,9 +75,13 @@ class ChangeQuarkusPropertyValueVisitor extends TreeVisitor<Tree, ExecutionConte
     }
 
     private @Nullable Tree visitPropertiesFile(Tree tree, ExecutionContext ctx) {
+        QuarkusRecipeEvent.Event event = QuarkusRecipeEvent.CONFIG_EDIT.begin();
+        Path sourcePath = ((SourceFile) tree).getSourcePath();
+        int entriesTouched = 0;
         Set<Properties.Entry> existingProperties = FindQuarkusProperties.find((Properties) tree, propertyKey, profile, changeAllProfiles);
         for (Properties.Entry entry : existingProperties) {
             if (oldValue == null || oldValue.equals(entry.getValue().getText())) {
+                entriesTouched++;
                 String[] profiles = QuarkusProfileUtils.getProfilesFromPropertyKey(entry.getKey());
 
                 if (profiles.length == 0 || !Boolean.FALSE.equals(changeAllProfiles)) {
@@ -123,14 +133,19 @@ class ChangeQuarkusPropertyValueVisitor extends TreeVisitor<Tree, ExecutionConte
             }
         }
 
+        event.commit(recipeName, sourcePath, entriesTouched);
         return tree;
     }
 
     private @Nullable Tree visitYamlDocuments(Tree tree, ExecutionContext ctx) {
+        QuarkusRecipeEvent.Event event = QuarkusRecipeEvent.CONFIG_EDIT.begin();
+        Path sourcePath = ((SourceFile) tree).getSourcePath();
+        int entriesTouched = 0;
         Set<Yaml.Mapping.Entry> existingProperties = FindQuarkusProperties.find((Yaml.Documents) tree, propertyKey, profile, changeAllProfiles);
         for (Yaml.Mapping.Entry entry : existingProperties) {
             String originalEntryValue = ((Yaml.Scalar) entry.getValue()).getValue();
             if (oldValue == null || oldValue.equals(originalEntryValue)) {
+                entriesTouched++;
                 String key = entry.getKey().getValue();
 
                 String[] profiles = QuarkusProfileUtils.getProfilesFromPropertyKey(key);
@@ -175,6 +190,7 @@ class ChangeQuarkusPropertyValueVisitor extends TreeVisitor<Tree, ExecutionConte
             }
         }
 
+        event.commit(recipeName, sourcePath, entriesTouched);
         return tree;
     }
 }
@@ -0,0 +1,234 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.openrewrite.*;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.VariableNameUtils;
+import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.tree.Expression;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.marker.SearchResult;
+import org.openrewrite.quarkus.table.QuarkusRecipePerformance;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.util.Collections.nCopies;
+
+@EqualsAndHashCode(callSuper = false)
+@Value
+public class CombineIndependentUniChains extends Recipe {
+
+    private static final MethodMatcher CHAIN_MATCHER = new MethodMatcher(QuarkusMutinyUtils.UNI + " chain(..)");
+    private static final MethodMatcher FLAT_MAP_MATCHER = new MethodMatcher(QuarkusMutinyUtils.UNI + " flatMap(..)");
+
+    /**
+     * Methods creating a {@code Uni} without side effects.
+     */
+    private static final MethodMatcher[] UNI_FACTORIES = {
+            new MethodMatcher(QuarkusMutinyUtils.UNI + " createFrom()"),
+            new MethodMatcher("io.smallrye.mutiny.groups.UniCreate item(..)"),
+            new MethodMatcher("io.smallrye.mutiny.groups.UniCreate nullItem()"),
+            new MethodMatcher("io.smallrye.mutiny.groups.UniCreate voidItem()"),
+            new MethodMatcher("io.smallrye.mutiny.groups.UniCreate optional(..)"),
+            new MethodMatcher("io.smallrye.mutiny.groups.UniCreate failure(..)")
+    };
+
+    String displayName = "Combine independent `Uni` chains";
+
+    String description = "Replaces `a.chain(x -> b).chain(y -> c)`, where the lambdas ignore the previous item, with " +
+            "`Uni.combine().all().unis(a, b, c)`, so that `a`, `b` and `c` are subscribed to concurrently instead of " +
+            "one after the other. This also moves the evaluation of `b` and `c` from the time the previous item is " +
+            "received to the time the pipeline is assembled, so only lambdas reading fields, calling getters or " +
+            "creating a `Uni` with `Uni.createFrom()` are combined. Lambdas that ignore the previous item but may " +
+            "depend on the order of evaluation, such as lambdas calling other methods or with a block body, are only " +
+            "marked.";
+
+    transient QuarkusRecipePerformance performance = new QuarkusRecipePerformance(this);
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return new QuarkusRecipePerformanceVisitor(getName(), performance, Preconditions.check(Preconditions.or(
+                new UsesMethod<>(CHAIN_MATCHER),
+                new UsesMethod<>(FLAT_MAP_MATCHER)
+        ), new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public void doAfterVisit(TreeVisitor<?, ExecutionContext> visitor) {
+                QuarkusRecipePerformanceVisitor.afterVisitScheduled();
+                super.doAfterVisit(visitor);
+            }
+
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                // Collect the whole chain from its last link, before the links are visited on their own
+                List<Expression> unis = new ArrayList<>();
+                Expression upstream = method;
+                while (upstream instanceof J.MethodInvocation && isIndependentLink((J.MethodInvocation) upstream)) {
+                    J.MethodInvocation link = (J.MethodInvocation) upstream;
+                    unis.add((Expression) ((J.Lambda) link.getArguments().get(0)).getBody());
+                    upstream = link.getSelect();
+                }
+                if (unis.isEmpty()) {
+                    J.MethodInvocation m = super.visitMethodInvocation(method, ctx);
+                    return isIgnoringItem(m) ? SearchResult.found(m, "Ignores the previous item, consider `Uni.combine().all().unis(...)`") : m;
+                }
+                unis.add(upstream);
+                Collections.reverse(unis);
+                if (unis.size() > QuarkusMutinyUtils.MAX_COMBINED_UNIS) {
+                    return super.visitMethodInvocation(method, ctx);
+                }
+
+                List<String> items = new ArrayList<>();
+                for (int i = 1; i <= unis.size(); i++) {
+                    items.add(VariableNameUtils.generateVariableName("item" + i, getCursor(), VariableNameUtils.GenerationStrategy.INCREMENT_NUMBER));
+                }
+                maybeAddImport(QuarkusMutinyUtils.UNI);
+                J.MethodInvocation combined = JavaTemplate.builder(String.format("Uni.combine().all().unis(%s).with((%s) -> %s)",
+                                String.join(", ", nCopies(unis.size(), "#{any(" + QuarkusMutinyUtils.UNI + ")}")),
+                                String.join(", ", items),
+                                items.get(items.size() - 1)))
+                        .javaParser(QuarkusMutinyUtils.parser())
+                        .imports(QuarkusMutinyUtils.UNI)
+                        .build()
+                        .apply(getCursor(), method.getCoordinates().replace(), unis.toArray());
+                return super.visitMethodInvocation(updateCursor(combined), ctx);
+            }
+        }));
+    }
+
+    private static boolean isChain(J.MethodInvocation method) {
+        return (CHAIN_MATCHER.matches(method) || FLAT_MAP_MATCHER.matches(method)) &&
+               method.getSelect() != null &&
+               method.getArguments().size() == 1 &&
+               method.getArguments().get(0) instanceof J.Lambda;
+    }
+
+    /**
+     * @return Whether the link creates its {@code Uni} without the previous item or any side effect, so that the
+     * {@code Uni} can be created upfront and subscribed to concurrently with the upstream. Any method invocation may
+     * write what the upstream reads or read what it writes, except getters and {@code Uni} factories.
+     */
+    private static boolean isIndependentLink(J.MethodInvocation method) {
+        if (!isIgnoringItem(method)) {
+            return false;
+        }
+        J body = ((J.Lambda) method.getArguments().get(0)).getBody();
+        if (!(body instanceof Expression)) {
+            return false;
+        }
+        AtomicBoolean sideEffects = new AtomicBoolean();
+        new JavaIsoVisitor<AtomicBoolean>() {
+            @Override
+            public J.Assignment visitAssignment(J.Assignment assignment, AtomicBoolean found) {
+                found.set(true);
+                return assignment;
+            }
+
+            @Override
+            public J.AssignmentOperation visitAssignmentOperation(J.AssignmentOperation assignOp, AtomicBoolean found) {
+                found.set(true);
+                return assignOp;
+            }
+
+            @Override
+            public J.Unary visitUnary(J.Unary unary, AtomicBoolean found) {
+                if (unary.getOperator().isModifying()) {
+                    found.set(true);
+                }
+                return super.visitUnary(unary, found);
+            }
+
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, AtomicBoolean found) {
+                if (!isPureAccessor(method)) {
+                    found.set(true);
+                }
+                return super.visitMethodInvocation(method, found);
+            }
+
+            @Override
+            public J.NewClass visitNewClass(J.NewClass newClass, AtomicBoolean found) {
+                found.set(true);
+                return newClass;
+            }
+
+            @Override
+            public J.Lambda visitLambda(J.Lambda lambda, AtomicBoolean found) {
+                // Called back at subscription, which then happens concurrently with the upstream
+                found.set(true);
+                return lambda;
+            }
+
+            @Override
+            public J.MemberReference visitMemberReference(J.MemberReference memberRef, AtomicBoolean found) {
+                found.set(true);
+                return memberRef;
+            }
+        }.visit(body, sideEffects);
+        return !sideEffects.get();
+    }
+
+    /**
+     * @return Whether the method is a {@code Uni} factory or a getter, which only reads the state of its object.
+     */
+    private static boolean isPureAccessor(J.MethodInvocation method) {
+        for (MethodMatcher factory : UNI_FACTORIES) {
+            if (factory.matches(method)) {
+                return true;
+            }
+        }
+        String name = method.getSimpleName();
+        return (method.getArguments().isEmpty() || method.getArguments().get(0) instanceof J.Empty) &&
+               (name.length() > 3 && name.startsWith("get") && Character.isUpperCase(name.charAt(3)) ||
+                name.length() > 2 && name.startsWith("is") && Character.isUpperCase(name.charAt(2)));
+    }
+
+    /**
+     * @return Whether the link is a {@code chain} or {@code flatMap} with a lambda not using the previous item.
+     */
+    private static boolean isIgnoringItem(J.MethodInvocation method) {
+        if (!isChain(method)) {
+            return false;
+        }
+        J.Lambda lambda = (J.Lambda) method.getArguments().get(0);
+        List<J> parameters = lambda.getParameters().getParameters();
+        if (parameters.isEmpty() || parameters.get(0) instanceof J.Empty) {
+            return true;
+        }
+        if (!(parameters.get(0) instanceof J.VariableDeclarations)) {
+            return false;
+        }
+        String name = ((J.VariableDeclarations) parameters.get(0)).getVariables().get(0).getSimpleName();
+        AtomicBoolean used = new AtomicBoolean();
+        new JavaIsoVisitor<AtomicBoolean>() {
+            @Override
+            public J.Identifier visitIdentifier(J.Identifier identifier, AtomicBoolean found) {
+                if (identifier.getSimpleName().equals(name)) {
+                    found.set(true);
+                }
+                return identifier;
+            }
+        }.visit(lambda.getBody(), used);
+        return !used.get();
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus;
+
+import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.SourceFile;
+import org.openrewrite.Tree;
+import org.openrewrite.TreeVisitor;
+
+/**
+ * Commits a {@link QuarkusRecipeEvent.Event} once the visitors scheduled before it with {@code doAfterVisit} have
+ * edited the source file, so that the event is only recorded for edits that actually ran, and covers their duration.
+ */
+@RequiredArgsConstructor
+class CommitQuarkusRecipeEventVisitor<P> extends TreeVisitor<Tree, P> {
+
+    final QuarkusRecipeEvent.Event event;
+
+    final String recipeName;
+
+    final int entriesTouched;
+
+    @Override
+    public @Nullable Tree visit(@Nullable Tree tree, P p) {
+        if (tree instanceof SourceFile) {
+            event.commit(recipeName, ((SourceFile) tree).getSourcePath(), entriesTouched);
+        }
+        return tree;
+    }
+}
@@ -25,6 +25,7 @@ import org.openrewrite.java.ChangeType;
 import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.search.UsesType;
 import org.openrewrite.java.tree.J;
+import org.openrewrite.quarkus.table.QuarkusRecipePerformance;
 
 public class ConfigPropertiesToConfigMapping extends Recipe {
     @Getter
@@ -33,14 +34,22 @@ public class ConfigPropertiesToConfigMapping extends Recipe {
     @Getter
     final String description = "Migrate Quarkus configuration classes annotated with `@ConfigProperties` to the equivalent Smallrye `@ConfigMapping`.";
 
+    transient QuarkusRecipePerformance performance = new QuarkusRecipePerformance(this);
+
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(new UsesType<>("io.quarkus.arc.config.ConfigProperties", null), new ConfigPropertiesToConfigMappingVisitor());
+        return new QuarkusRecipePerformanceVisitor(getName(), performance, Preconditions.check(new UsesType<>("io.quarkus.arc.config.ConfigProperties", null), new ConfigPropertiesToConfigMappingVisitor()));
     }
 
     private static class ConfigPropertiesToConfigMappingVisitor extends JavaIsoVisitor<ExecutionContext> {
         private static final AnnotationMatcher CONFIG_PROPERTIES_ANNOTATION_MATCHER = new AnnotationMatcher("@io.quarkus.arc.config.ConfigProperties");
 
+        @Override
+        public void doAfterVisit(TreeVisitor<?, ExecutionContext> visitor) {
+            QuarkusRecipePerformanceVisitor.afterVisitScheduled();
+            super.doAfterVisit(visitor);
+        }
+
         @Override
         public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
             J.ClassDeclaration cd = super.visitClassDeclaration(classDecl, ctx);
@@ -22,6 +22,7 @@ import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.maven.MavenIsoVisitor;
 import org.openrewrite.maven.search.FindPlugin;
+import org.openrewrite.quarkus.table.QuarkusRecipePerformance;
 import org.openrewrite.xml.AddToTagVisitor;
 import org.openrewrite.xml.ChangeTagValueVisitor;
 import org.openrewrite.xml.tree.Xml;
@@ -35,28 +36,43 @@ public class ConfigureQuarkusMavenPluginWithReasonableDefaults extends Recipe {
 
     String description = "Configures the `quarkus-maven-plugin` with reasonable defaults, such as default activated `goals` and `<extensions>` configuration.";
 
+    transient QuarkusRecipePerformance performance = new QuarkusRecipePerformance(this);
+
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return new ConfigureQuarkusMavenPluginWithReasonableDefaultsVisitor();
+        return new QuarkusRecipePerformanceVisitor(getName(), performance, new ConfigureQuarkusMavenPluginWithReasonableDefaultsVisitor());
     }
 
     private static class ConfigureQuarkusMavenPluginWithReasonableDefaultsVisitor extends MavenIsoVisitor<ExecutionContext> {
+        @Override
+        public void doAfterVisit(TreeVisitor<?, ExecutionContext> visitor) {
+            QuarkusRecipePerformanceVisitor.afterVisitScheduled();
+            super.doAfterVisit(visitor);
+        }
+
         @Override
         public Xml.Document visitDocument(Xml.Document document, ExecutionContext ctx) {
-            doAfterVisit(new AddQuarkusMavenPluginGoalVisitor("build"));
-            doAfterVisit(new AddQuarkusMavenPluginGoalVisitor("generate-code"));
-            doAfterVisit(new AddQuarkusMavenPluginGoalVisitor("generate-code-tests"));
+            QuarkusRecipeEvent.Event event = QuarkusRecipeEvent.POM_EDIT.begin();
+            doAfterVisit(new AddQuarkusMavenPluginGoalVisitor(ConfigureQuarkusMavenPluginWithReasonableDefaults.class.getName(), "build"));
+            doAfterVisit(new AddQuarkusMavenPluginGoalVisitor(ConfigureQuarkusMavenPluginWithReasonableDefaults.class.getName(), "generate-code"));
+            doAfterVisit(new AddQuarkusMavenPluginGoalVisitor(ConfigureQuarkusMavenPluginWithReasonableDefaults.class.getName(), "generate-code-tests"));
 
-            FindPlugin.find(document, "io.quarkus", "quarkus-maven-plugin").forEach(plugin -> {
+            int tagsTouched = 0;
+            for (Xml.Tag plugin : FindPlugin.find(document, "io.quarkus", "quarkus-maven-plugin")) {
                 Optional<Xml.Tag> maybeExtensions = plugin.getChild("extensions");
                 if (!maybeExtensions.isPresent()) {
                     Xml.Tag extensionsTag = Xml.Tag.build("<extensions>true</extensions>");
                     doAfterVisit(new AddToTagVisitor<>(plugin, extensionsTag));
-                } else {
+                    tagsTouched++;
+                } else if (!"true".equals(maybeExtensions.get().getValue().orElse(null))) {
                     // note, might want to instead interpret `<extensions>false</extensions>` as a specific decision fixme
                     doAfterVisit(new ChangeTagValueVisitor<>(maybeExtensions.get(), "true"));
+                    tagsTouched++;
                 }
-            });
+            }
+            if (tagsTouched > 0) {
+                doAfterVisit(new CommitQuarkusRecipeEventVisitor<>(event, ConfigureQuarkusMavenPluginWithReasonableDefaults.class.getName(), tagsTouched));
+            }
             return document;
         }
     }
@@ -21,6 +21,7 @@ import org.jspecify.annotations.Nullable;
 import org.openrewrite.*;
 import org.openrewrite.internal.StringUtils;
 import org.openrewrite.quarkus.search.FindQuarkusProperties;
+import org.openrewrite.quarkus.table.QuarkusRecipePerformance;
 
 import java.util.List;
 
@@ -82,11 +83,13 @@ public class DeleteQuarkusProperty extends Recipe {
 
     String description = "Delete a property from Quarkus configuration files.";
 
+    transient QuarkusRecipePerformance performance = new QuarkusRecipePerformance(this);
+
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(
+        return new QuarkusRecipePerformanceVisitor(getName(), performance, Preconditions.check(
                 new FindQuarkusProperties(propertyKey, profile, deleteFromAllProfiles, pathExpressions).getVisitor(),
-                new DeleteQuarkusPropertyVisitor(propertyKey, oldValue, profile, deleteFromAllProfiles, pathExpressions)
-        );
+                new DeleteQuarkusPropertyVisitor(getName(), propertyKey, oldValue, profile, deleteFromAllProfiles, pathExpressions)
+        ));
     }
 }
@@ -25,6 +25,7 @@ import org.openrewrite.properties.tree.Properties;
 import org.openrewrite.quarkus.search.FindQuarkusProperties;
 import org.openrewrite.yaml.tree.Yaml;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
@@ -32,6 +33,11 @@ import java.util.Set;
 @RequiredArgsConstructor
 public class DeleteQuarkusPropertyVisitor extends TreeVisitor<Tree, ExecutionContext> {
 
+    /**
+     * The name of the recipe using this visitor, reported in its Java Flight Recorder events.
+     */
+    final String recipeName;
+
     final String propertyKey;
 
     @Nullable
@@ -64,9 +70,13 @@ public class DeleteQuarkusPropertyVisitor extends TreeVisitor<Tree, ExecutionCon
     }
 
     private @Nullable Tree visitPropertiesFile(Tree tree, ExecutionContext ctx) {
+        QuarkusRecipeEvent.Event event = QuarkusRecipeEvent.CONFIG_EDIT.begin();
+        Path sourcePath = ((SourceFile) tree).getSourcePath();
+        int entriesTouched = 0;
         Set<Properties.Entry> existingProperties = FindQuarkusProperties.find((Properties) tree, propertyKey, profile, searchAllProfiles);
         for (Properties.Entry entry : existingProperties) {
             if (oldValue == null || oldValue.equals(entry.getValue().getText())) {
+                entriesTouched++;
                 String[] profiles = QuarkusProfileUtils.getProfilesFromPropertyKey(entry.getKey());
 
                 if (profiles.length == 0 || !Boolean.FALSE.equals(searchAllProfiles)) {
@@ -106,14 +116,19 @@ public class DeleteQuarkusPropertyVisitor extends TreeVisitor<Tree, ExecutionCon
             }
         }
 
+        event.commit(recipeName, sourcePath, entriesTouched);
         return tree;
     }
 
     private @Nullable Tree visitYamlDocuments(Tree tree, ExecutionContext ctx) {
+        QuarkusRecipeEvent.Event event = QuarkusRecipeEvent.CONFIG_EDIT.begin();
+        Path sourcePath = ((SourceFile) tree).getSourcePath();
+        int entriesTouched = 0;
         Set<Yaml.Mapping.Entry> existingProperties = FindQuarkusProperties.find((Yaml.Documents) tree, propertyKey, profile, searchAllProfiles);
         for (Yaml.Mapping.Entry entry : existingProperties) {
             String originalEntryValue = ((Yaml.Scalar) entry.getValue()).getValue();
             if (oldValue == null || oldValue.equals(originalEntryValue)) {
+                entriesTouched++;
                 String key = entry.getKey().getValue();
 
                 String[] profiles = QuarkusProfileUtils.getProfilesFromPropertyKey(key);
@@ -153,6 +168,7 @@ public class DeleteQuarkusPropertyVisitor extends TreeVisitor<Tree, ExecutionCon
             }
         }
 
+        event.commit(recipeName, sourcePath, entriesTouched);
         return tree;
     }
 }
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.tree.Expression;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.TypeUtils;
+import org.openrewrite.quarkus.table.QuarkusRecipePerformance;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static java.util.Collections.emptyList;
+
+@EqualsAndHashCode(callSuper = false)
+@Value
+public class JBossLoggerToQuarkusLogger extends Recipe {
+
+    private static final String JBOSS_LOGGER = "org.jboss.logging.Logger";
+    private static final MethodMatcher LOGGER_METHOD = new MethodMatcher(JBOSS_LOGGER + " *(..)", true);
+    private static final Pattern LOGGING_METHOD = Pattern.compile("(trace|debug|info|warn|error|fatal)([fv]?)");
+    private static final Pattern LEVEL_CHECK = Pattern.compile("is(Trace|Debug|Info)Enabled");
+
+    @Option(displayName = QuarkusLogVisitor.GUARD_EXPENSIVE_ARGUMENTS,
+            description = QuarkusLogVisitor.GUARD_EXPENSIVE_ARGUMENTS_DESCRIPTION,
+            required = false)
+    @Nullable
+    Boolean guardExpensiveArguments;
+
+    String displayName = "Migrate JBoss Logging Logger injection and usage to Quarkus static `Log`";
+
+    String description = "Removes usage of JBoss Logging `Logger` fields, whether injected or obtained from `Logger.getLogger()`, " +
+            "adjusts imports, and replaces logger method calls with the equivalent static Quarkus `Log` calls.";
+
+    public JBossLoggerToQuarkusLogger() {
+        this(null);
+    }
+
+    @JsonCreator
+    public JBossLoggerToQuarkusLogger(@Nullable Boolean guardExpensiveArguments) {
+        this.guardExpensiveArguments = guardExpensiveArguments;
+    }
+
+    transient QuarkusRecipePerformance performance = new QuarkusRecipePerformance(this);
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return new QuarkusRecipePerformanceVisitor(getName(), performance, Preconditions.check(
+                new UsesType<>(JBOSS_LOGGER, true),
+                new QuarkusLogVisitor(getName(), guardExpensiveArguments) {
+                    @Override
+                    String loggerType() {
+                        return JBOSS_LOGGER;
+                    }
+
+                    @Override
+                    List<String> loggerImports() {
+                        return emptyList();
+                    }
+
+                    @Override
+                    String lombokAnnotation() {
+                        return "lombok.extern.jbosslog.JBossLog";
+                    }
+
+                    @Override
+                    @Nullable LogCall logCall(J.MethodInvocation method) {
+                        if (!LOGGER_METHOD.matches(method)) {
+                            return null;
+                        }
+                        Matcher matcher = LOGGING_METHOD.matcher(method.getSimpleName());
+                        if (!matcher.matches()) {
+                            return null;
+                        }
+                        List<Expression> args = method.getArguments();
+                        switch (matcher.group(2)) {
+                            case "f":
+                                return new LogCall(matcher.group(1), Style.PRINTF, args);
+                            case "v":
+                                return new LogCall(matcher.group(1), Style.MESSAGE_FORMAT, args);
+                            default:
+                                // Only `debug(Object)` and `debug(Object, Throwable)` have a `Log` equivalent
+                                if (args.size() == 1 ||
+                                    args.size() == 2 && TypeUtils.isAssignableTo("java.lang.Throwable", args.get(1).getType())) {
+                                    return new LogCall(matcher.group(1), Style.PLAIN, args);
+                                }
+                                return null;
+                        }
+                    }
+
+                    @Override
+                    @Nullable String checkedLevel(J.MethodInvocation method) {
+                        if (!LOGGER_METHOD.matches(method)) {
+                            return null;
+                        }
+                        Matcher matcher = LEVEL_CHECK.matcher(method.getSimpleName());
+                        if (matcher.matches()) {
+                            return matcher.group(1).toLowerCase(Locale.ROOT);
+                        }
+                        if ("isEnabled".equals(method.getSimpleName()) && method.getArguments().get(0) instanceof J.FieldAccess) {
+                            return ((J.FieldAccess) method.getArguments().get(0)).getSimpleName().toLowerCase(Locale.ROOT);
+                        }
+                        return null;
+                    }
+                }
+        ));
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.tree.Expression;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.TypeUtils;
+import org.openrewrite.quarkus.table.QuarkusRecipePerformance;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static java.util.Collections.singletonList;
+
+@EqualsAndHashCode(callSuper = false)
+@Value
+public class JulToQuarkusLogger extends Recipe {
+
+    private static final String JUL_LOGGER = "java.util.logging.Logger";
+    private static final String JUL_LEVEL = "java.util.logging.Level";
+    private static final MethodMatcher LOGGER_LEVEL_METHOD = new MethodMatcher(JUL_LOGGER + " *(String)");
+    private static final MethodMatcher LOGGER_LOG = new MethodMatcher(JUL_LOGGER + " log(" + JUL_LEVEL + ", String, ..)");
+    private static final MethodMatcher LOGGER_IS_LOGGABLE = new MethodMatcher(JUL_LOGGER + " isLoggable(" + JUL_LEVEL + ")");
+
+    /**
+     * The {@code Log} level of each {@code java.util.logging} level, following the JBoss Log Manager mapping.
+     */
+    private static final Map<String, String> LEVELS = new HashMap<>();
+
+    static {
+        LEVELS.put("SEVERE", "error");
+        LEVELS.put("WARNING", "warn");
+        LEVELS.put("INFO", "info");
+        LEVELS.put("CONFIG", "debug");
+        LEVELS.put("FINE", "debug");
+        LEVELS.put("FINER", "trace");
+        LEVELS.put("FINEST", "trace");
+    }
+
+    @Option(displayName = QuarkusLogVisitor.GUARD_EXPENSIVE_ARGUMENTS,
+            description = QuarkusLogVisitor.GUARD_EXPENSIVE_ARGUMENTS_DESCRIPTION,
+            required = false)
+    @Nullable
+    Boolean guardExpensiveArguments;
+
+    String displayName = "Migrate `java.util.logging` Logger usage to Quarkus static `Log`";
+
+    String description = "Removes usage of `java.util.logging.Logger` fields, adjusts imports, and replaces logger method calls " +
+            "with static Quarkus Log calls. `java.util.logging` levels are mapped onto the closest `Log` level, and " +
+            "`MessageFormat` parameters onto the `Log` methods with a `v` suffix.";
+
+    public JulToQuarkusLogger() {
+        this(null);
+    }
+
+    @JsonCreator
+    public JulToQuarkusLogger(@Nullable Boolean guardExpensiveArguments) {
+        this.guardExpensiveArguments = guardExpensiveArguments;
+    }
+
+    transient QuarkusRecipePerformance performance = new QuarkusRecipePerformance(this);
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return new QuarkusRecipePerformanceVisitor(getName(), performance, Preconditions.check(
+                new UsesType<>(JUL_LOGGER, true),
+                new QuarkusLogVisitor(getName(), guardExpensiveArguments) {
+                    @Override
+                    String loggerType() {
+                        return JUL_LOGGER;
+                    }
+
+                    @Override
+                    List<String> loggerImports() {
+                        return singletonList(JUL_LEVEL);
+                    }
+
+                    @Override
+                    String lombokAnnotation() {
+                        return "lombok.extern.java.Log";
+                    }
+
+                    @Override
+                    @Nullable LogCall logCall(J.MethodInvocation method) {
+                        if (LOGGER_LEVEL_METHOD.matches(method)) {
+                            String level = LEVELS.get(method.getSimpleName().toUpperCase(Locale.ROOT));
+                            return level == null ? null : new LogCall(level, Style.PLAIN, method.getArguments());
+                        }
+                        if (LOGGER_LOG.matches(method)) {
+                            String level = level(method.getArguments().get(0));
+                            if (level == null) {
+                                return null;
+                            }
+                            List<Expression> args = method.getArguments().subList(1, method.getArguments().size());
+                            if (args.size() == 1 || TypeUtils.isAssignableTo("java.lang.Throwable", args.get(1).getType())) {
+                                return new LogCall(level, Style.PLAIN, args);
+                            }
+                            return new LogCall(level, Style.MESSAGE_FORMAT, args);
+                        }
+                        return null;
+                    }
+
+                    @Override
+                    @Nullable String checkedLevel(J.MethodInvocation method) {
+                        return LOGGER_IS_LOGGABLE.matches(method) ? level(method.getArguments().get(0)) : null;
+                    }
+                }
+        ));
+    }
+
+    private static @Nullable String level(Expression level) {
+        if (level instanceof J.FieldAccess) {
+            return LEVELS.get(((J.FieldAccess) level).getSimpleName());
+        }
+        if (level instanceof J.Identifier && TypeUtils.isOfClassType(level.getType(), JUL_LEVEL)) {
+            return LEVELS.get(((J.Identifier) level).getSimpleName());
+        }
+        return null;
+    }
+}
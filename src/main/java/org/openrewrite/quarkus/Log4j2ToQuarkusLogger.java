@@ -0,0 +1,161 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.tree.Expression;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.TypeUtils;
+import org.openrewrite.quarkus.table.QuarkusRecipePerformance;
+
+import java.util.List;
+import java.util.Locale;
+
+import static java.util.Collections.singletonList;
+
+@EqualsAndHashCode(callSuper = false)
+@Value
+public class Log4j2ToQuarkusLogger extends Recipe {
+
+    private static final String LOG4J_LOGGER = "org.apache.logging.log4j.Logger";
+    private static final MethodMatcher LOGGER_TRACE = new MethodMatcher(LOG4J_LOGGER + " trace(String, ..)");
+    private static final MethodMatcher LOGGER_DEBUG = new MethodMatcher(LOG4J_LOGGER + " debug(String, ..)");
+    private static final MethodMatcher LOGGER_INFO = new MethodMatcher(LOG4J_LOGGER + " info(String, ..)");
+    private static final MethodMatcher LOGGER_WARN = new MethodMatcher(LOG4J_LOGGER + " warn(String, ..)");
+    private static final MethodMatcher LOGGER_ERROR = new MethodMatcher(LOG4J_LOGGER + " error(String, ..)");
+    private static final MethodMatcher LOGGER_FATAL = new MethodMatcher(LOG4J_LOGGER + " fatal(String, ..)");
+    private static final String[] UNSUPPORTED_ARGUMENT_TYPES = {
+            "org.apache.logging.log4j.Marker",
+            "org.apache.logging.log4j.message.Message",
+            "org.apache.logging.log4j.util.MessageSupplier",
+            "org.apache.logging.log4j.util.Supplier",
+            "java.util.function.Supplier"
+    };
+    private static final MethodMatcher LOGGER_IS_ENABLED = new MethodMatcher(LOG4J_LOGGER + " is*Enabled()");
+
+    @Option(displayName = QuarkusLogVisitor.GUARD_EXPENSIVE_ARGUMENTS,
+            description = QuarkusLogVisitor.GUARD_EXPENSIVE_ARGUMENTS_DESCRIPTION,
+            required = false)
+    @Nullable
+    Boolean guardExpensiveArguments;
+
+    String displayName = "Migrate Log4j 2 Logger usage to Quarkus static `Log`";
+
+    String description = "Removes usage of Log4j 2 `Logger` fields, adjusts imports, and replaces logger method calls with static " +
+            "Quarkus Log calls, including message formatting and method renaming for parameterized logging.";
+
+    public Log4j2ToQuarkusLogger() {
+        this(null);
+    }
+
+    @JsonCreator
+    public Log4j2ToQuarkusLogger(@Nullable Boolean guardExpensiveArguments) {
+        this.guardExpensiveArguments = guardExpensiveArguments;
+    }
+
+    transient QuarkusRecipePerformance performance = new QuarkusRecipePerformance(this);
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return new QuarkusRecipePerformanceVisitor(getName(), performance, Preconditions.check(
+                new UsesType<>(LOG4J_LOGGER, true),
+                new QuarkusLogVisitor(getName(), guardExpensiveArguments) {
+                    @Override
+                    String loggerType() {
+                        return LOG4J_LOGGER;
+                    }
+
+                    @Override
+                    List<String> loggerImports() {
+                        return singletonList("org.apache.logging.log4j.LogManager");
+                    }
+
+                    @Override
+                    String lombokAnnotation() {
+                        return "lombok.extern.log4j.Log4j2";
+                    }
+
+                    @Override
+                    @Nullable LogCall logCall(J.MethodInvocation method) {
+                        if (!LOGGER_TRACE.matches(method) &&
+                                !LOGGER_DEBUG.matches(method) &&
+                                !LOGGER_INFO.matches(method) &&
+                                !LOGGER_WARN.matches(method) &&
+                                !LOGGER_ERROR.matches(method) &&
+                                !LOGGER_FATAL.matches(method)) {
+                            return null;
+                        }
+                        List<Expression> args = method.getArguments();
+                        if (!TypeUtils.isString(args.get(0).getType()) || !args.stream().allMatch(Log4j2ToQuarkusLogger::isSupportedArgument)) {
+                            return null;
+                        }
+                        if (args.size() > 1 && TypeUtils.isAssignableTo("java.lang.Throwable", args.get(args.size() - 1).getType())) {
+                            // Like `Log.error(Object, Throwable)`, a trailing throwable only survives without placeholders
+                            if (args.size() == 2 && placeholders(args.get(0)) == 0) {
+                                return new LogCall(method.getSimpleName(), Style.PLAIN, args);
+                            }
+                            if (placeholders(args.get(0)) < args.size() - 1) {
+                                return null;
+                            }
+                        }
+                        return new LogCall(method.getSimpleName(), Style.BRACES, args);
+                    }
+
+                    @Override
+                    @Nullable String checkedLevel(J.MethodInvocation method) {
+                        if (LOGGER_IS_ENABLED.matches(method)) {
+                            String name = method.getSimpleName();
+                            return name.substring("is".length(), name.length() - "Enabled".length()).toLowerCase(Locale.ROOT);
+                        }
+                        return null;
+                    }
+                }
+        ));
+    }
+
+    private static boolean isSupportedArgument(Expression argument) {
+        if (argument instanceof J.Lambda || argument instanceof J.MemberReference) {
+            return false;
+        }
+        for (String type : UNSUPPORTED_ARGUMENT_TYPES) {
+            if (TypeUtils.isAssignableTo(type, argument.getType())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the number of {@code {}} placeholders in a literal message, or -1 when the message is not a literal.
+     */
+    private static int placeholders(Expression message) {
+        if (!(message instanceof J.Literal) || !(((J.Literal) message).getValue() instanceof String)) {
+            return -1;
+        }
+        String value = (String) ((J.Literal) message).getValue();
+        int count = 0;
+        for (int i = value.indexOf("{}"); i >= 0; i = value.indexOf("{}", i + 2)) {
+            count++;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.tree.Expression;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaSourceFile;
+import org.openrewrite.quarkus.table.ConcatenatedMultiTransformations;
+import org.openrewrite.quarkus.table.QuarkusRecipePerformance;
+
+import java.util.*;
+
+import static java.util.stream.Collectors.joining;
+
+@EqualsAndHashCode(callSuper = false)
+@Value
+public class MergeOrderInsensitiveMultiTransformations extends Recipe {
+
+    private static final MethodMatcher TRANSFORM_TO_UNI_AND_CONCATENATE_MATCHER = new MethodMatcher("io.smallrye.mutiny.groups.MultiOnItem transformToUniAndConcatenate(..)");
+    private static final MethodMatcher CONCATENATE_MATCHER = new MethodMatcher("io.smallrye.mutiny.groups.MultiFlatten concatenate()");
+    private static final MethodMatcher TRANSFORM_TO_UNI_MATCHER = new MethodMatcher("io.smallrye.mutiny.groups.MultiOnItem transformToUni(..)");
+    private static final MethodMatcher COLLECTORS_MATCHER = new MethodMatcher("java.util.stream.Collectors *(..)");
+
+    /**
+     * Operators passing items on without depending on their order.
+     */
+    private static final Set<String> ORDER_PRESERVING_OPERATORS = new HashSet<>(Arrays.asList(
+            "onItem", "transform", "select", "where", "when", "collect"
+    ));
+
+    /**
+     * Collectors whose result does not depend on the order of the items. Floating-point addition is not associative,
+     * so summing or averaging doubles is left out.
+     */
+    private static final Set<String> ORDER_INSENSITIVE_COLLECTORS = new HashSet<>(Arrays.asList(
+            "counting", "toSet", "toUnmodifiableSet",
+            "summingInt", "summingLong",
+            "averagingInt", "averagingLong"
+    ));
+
+    @Option(displayName = "Concurrency",
+            description = "The maximum number of `Uni`s subscribed to concurrently. Defaults to the Mutiny default " +
+                          "concurrency when not specified.",
+            required = false,
+            example = "16")
+    @Nullable
+    Integer concurrency;
+
+    String displayName = "Merge order-insensitive `Multi` transformations";
+
+    String description = "Replaces `onItem().transformToUniAndConcatenate(..)` and `transformToUni(..).concatenate()` " +
+            "with `transformToUni(..).merge(concurrency)` when the items are only collected into a set, counted, or " +
+            "summed up or averaged as integers downstream, so that the `Uni`s are processed concurrently instead of " +
+            "one at a time. Other concatenations, including those whose items are ignored but whose `Uni`s may " +
+            "depend on running one at a time, are listed in a data table.";
+
+    transient ConcatenatedMultiTransformations concatenations = new ConcatenatedMultiTransformations(this);
+
+    public MergeOrderInsensitiveMultiTransformations() {
+        this(null);
+    }
+
+    @JsonCreator
+    public MergeOrderInsensitiveMultiTransformations(@Nullable Integer concurrency) {
+        this.concurrency = concurrency;
+    }
+
+    @Override
+    public Validated<Object> validate() {
+        return super.validate().and(Validated.test("concurrency", "Must be positive", concurrency,
+                c -> c == null || c > 0));
+    }
+
+    transient QuarkusRecipePerformance performance = new QuarkusRecipePerformance(this);
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        String merge = concurrency == null ? "merge()" : "merge(" + concurrency + ")";
+        return new QuarkusRecipePerformanceVisitor(getName(), performance, Preconditions.check(Preconditions.or(
+                new UsesMethod<>(TRANSFORM_TO_UNI_AND_CONCATENATE_MATCHER),
+                new UsesMethod<>(CONCATENATE_MATCHER)
+        ), new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                J.MethodInvocation m = super.visitMethodInvocation(method, ctx);
+                boolean transformAndConcatenate = TRANSFORM_TO_UNI_AND_CONCATENATE_MATCHER.matches(m);
+                if (!transformAndConcatenate && !(CONCATENATE_MATCHER.matches(m) &&
+                                                  m.getSelect() instanceof J.MethodInvocation &&
+                                                  TRANSFORM_TO_UNI_MATCHER.matches((J.MethodInvocation) m.getSelect()))) {
+                    return m;
+                }
+
+                List<J.MethodInvocation> downstream = new ArrayList<>();
+                J upstream = method;
+                for (Cursor c = getCursor().getParentTreeCursor();
+                     c.getValue() instanceof J.MethodInvocation && ((J.MethodInvocation) c.getValue()).getSelect() == upstream;
+                     c = c.getParentTreeCursor()) {
+                    upstream = c.getValue();
+                    downstream.add((J.MethodInvocation) upstream);
+                }
+                if (!isOrderInsensitive(downstream)) {
+                    concatenations.insertRow(ctx, new ConcatenatedMultiTransformations.Row(
+                            getCursor().firstEnclosingOrThrow(JavaSourceFile.class).getSourcePath().toString(),
+                            m.getSimpleName(),
+                            downstream.stream().map(d -> d.getSimpleName() + "()").collect(joining("."))));
+                    return m;
+                }
+
+                if (transformAndConcatenate) {
+                    return JavaTemplate.builder("#{any(io.smallrye.mutiny.groups.MultiOnItem)}.transformToUni(#{any(java.util.function.Function)})." + merge)
+                            .javaParser(QuarkusMutinyUtils.parser())
+                            .build()
+                            .apply(updateCursor(m), m.getCoordinates().replace(), m.getSelect(), m.getArguments().get(0));
+                }
+                return JavaTemplate.builder("#{any(io.smallrye.mutiny.groups.MultiFlatten)}." + merge)
+                        .javaParser(QuarkusMutinyUtils.parser())
+                        .build()
+                        .apply(updateCursor(m), m.getCoordinates().replace(), m.getSelect());
+            }
+        }));
+    }
+
+    /**
+     * @return Whether the downstream operators end in a result that does not depend on the order of the items.
+     */
+    private static boolean isOrderInsensitive(List<J.MethodInvocation> downstream) {
+        for (J.MethodInvocation operator : downstream) {
+            String name = operator.getSimpleName();
+            if ("asSet".equals(name)) {
+                return true;
+            }
+            if ("with".equals(name) && operator.getArguments().size() == 1) {
+                Expression collector = operator.getArguments().get(0);
+                return collector instanceof J.MethodInvocation &&
+                       COLLECTORS_MATCHER.matches((J.MethodInvocation) collector) &&
+                       ORDER_INSENSITIVE_COLLECTORS.contains(((J.MethodInvocation) collector).getSimpleName());
+            }
+            if (!ORDER_PRESERVING_OPERATORS.contains(name)) {
+                return false;
+            }
+        }
+        return false;
+    }
+}
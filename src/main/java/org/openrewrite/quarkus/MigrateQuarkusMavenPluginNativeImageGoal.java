@@ -21,6 +21,7 @@ import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.maven.MavenIsoVisitor;
 import org.openrewrite.maven.search.FindPlugin;
+import org.openrewrite.quarkus.table.QuarkusRecipePerformance;
 import org.openrewrite.xml.AddToTagVisitor;
 import org.openrewrite.xml.RemoveContentVisitor;
 import org.openrewrite.xml.search.FindTags;
@@ -37,27 +38,48 @@ public class MigrateQuarkusMavenPluginNativeImageGoal extends Recipe {
             "If the `native-image` goal needs to be removed, this adds `<quarkus.package.type>native</quarkus.package.type>` " +
             "to the `native` profile `properties` section, given the `native` profile exists in the `pom.xml`.";
 
+    transient QuarkusRecipePerformance performance = new QuarkusRecipePerformance(this);
+
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return new MavenIsoVisitor<ExecutionContext>() {
+        return new QuarkusRecipePerformanceVisitor(getName(), performance, new MavenIsoVisitor<ExecutionContext>() {
+            @Override
+            public void doAfterVisit(TreeVisitor<?, ExecutionContext> visitor) {
+                QuarkusRecipePerformanceVisitor.afterVisitScheduled();
+                super.doAfterVisit(visitor);
+            }
+
             @Override
             public Xml.Document visitDocument(Xml.Document document, ExecutionContext ctx) {
-                FindPlugin.find(document, "io.quarkus", "quarkus-maven-plugin").forEach(plugin ->
-                        FindTags.find(plugin, "//executions/execution/goals/goal").forEach(goal -> {
-                            if (goal.getContent() != null && goal.getContent().size() == 1 && goal.getContent().get(0) instanceof Xml.CharData) {
-                                Xml.CharData existingValue = (Xml.CharData) goal.getContent().get(0);
-                                if ("native-image".equalsIgnoreCase(existingValue.getText())) {
-                                    doAfterVisit(new RemoveContentVisitor<>(goal, true, true));
-                                    doAfterVisit(new AddQuarkusPackageTypePropertyToNativeProfile());
-                                }
+                QuarkusRecipeEvent.Event event = QuarkusRecipeEvent.POM_EDIT.begin();
+                int goalsRemoved = 0;
+                for (Xml.Tag plugin : FindPlugin.find(document, "io.quarkus", "quarkus-maven-plugin")) {
+                    for (Xml.Tag goal : FindTags.find(plugin, "//executions/execution/goals/goal")) {
+                        if (goal.getContent() != null && goal.getContent().size() == 1 && goal.getContent().get(0) instanceof Xml.CharData) {
+                            Xml.CharData existingValue = (Xml.CharData) goal.getContent().get(0);
+                            if ("native-image".equalsIgnoreCase(existingValue.getText())) {
+                                doAfterVisit(new RemoveContentVisitor<>(goal, true, true));
+                                doAfterVisit(new AddQuarkusPackageTypePropertyToNativeProfile());
+                                goalsRemoved++;
                             }
-                        }));
+                        }
+                    }
+                }
+                if (goalsRemoved > 0) {
+                    doAfterVisit(new CommitQuarkusRecipeEventVisitor<>(event, MigrateQuarkusMavenPluginNativeImageGoal.class.getName(), goalsRemoved));
+                }
                 return super.visitDocument(document, ctx);
             }
-        };
+        });
     }
 
     private static class AddQuarkusPackageTypePropertyToNativeProfile extends MavenIsoVisitor<ExecutionContext> {
+        @Override
+        public void doAfterVisit(TreeVisitor<?, ExecutionContext> visitor) {
+            QuarkusRecipePerformanceVisitor.afterVisitScheduled();
+            super.doAfterVisit(visitor);
+        }
+
         @Override
         public Xml.Document visitDocument(Xml.Document document, ExecutionContext ctx) {
             FindTags.find(document, "/project/profiles/profile").forEach(profile -> {
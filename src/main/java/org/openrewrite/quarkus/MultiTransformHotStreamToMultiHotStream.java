@@ -24,6 +24,7 @@ import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.MethodMatcher;
 import org.openrewrite.java.search.UsesMethod;
 import org.openrewrite.java.tree.J;
+import org.openrewrite.quarkus.table.QuarkusRecipePerformance;
 
 public class MultiTransformHotStreamToMultiHotStream extends Recipe {
     private static final MethodMatcher HOT_STREAM_METHOD_MATCHER = new MethodMatcher("io.smallrye.mutiny.groups.MultiTransform toHotStream()");
@@ -34,9 +35,11 @@ public class MultiTransformHotStreamToMultiHotStream extends Recipe {
     @Getter
     final String description = "Replace Mutiny API usages of `multi.transform().toHotStream()` with `multi.toHotStream()`.";
 
+    transient QuarkusRecipePerformance performance = new QuarkusRecipePerformance(this);
+
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(new UsesMethod<>(HOT_STREAM_METHOD_MATCHER), new MultiTransformHotStreamToMultiHotStreamVisitor());
+        return new QuarkusRecipePerformanceVisitor(getName(), performance, Preconditions.check(new UsesMethod<>(HOT_STREAM_METHOD_MATCHER), new MultiTransformHotStreamToMultiHotStreamVisitor()));
     }
 
     private static class MultiTransformHotStreamToMultiHotStreamVisitor extends JavaIsoVisitor<ExecutionContext> {
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.TypeUtils;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Recognizes the entry points of Quarkus applications, such as REST endpoints and message consumers, and the
+ * reactive types they may return.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class QuarkusEndpointUtils {
+
+    private static final Set<String> HTTP_METHOD_ANNOTATIONS = new HashSet<>(Arrays.asList(
+            "GET", "POST", "PUT", "DELETE", "PATCH", "HEAD", "OPTIONS"
+    ));
+
+    private static final Set<String> JAX_RS_METHOD_ANNOTATIONS = new HashSet<>(Arrays.asList(
+            "GET", "POST", "PUT", "DELETE", "PATCH", "HEAD", "OPTIONS", "Path"
+    ));
+
+    private static final Set<String> ENTRY_POINT_ANNOTATIONS = new HashSet<>(Arrays.asList(
+            "org.eclipse.microprofile.reactive.messaging.Incoming",
+            "io.quarkus.scheduler.Scheduled",
+            "io.quarkus.vertx.ConsumeEvent",
+            "io.quarkus.vertx.web.Route"
+    ));
+
+    private static final String[] REACTIVE_TYPES = {
+            "io.smallrye.mutiny.Uni",
+            "io.smallrye.mutiny.Multi",
+            "java.util.concurrent.CompletionStage",
+            "org.reactivestreams.Publisher",
+            "java.util.concurrent.Flow$Publisher"
+    };
+
+    /**
+     * Types whose methods block the calling thread on I/O.
+     */
+    private static final String[] BLOCKING_TYPES = {
+            "io.quarkus.hibernate.orm.panache.PanacheEntityBase",
+            "io.quarkus.hibernate.orm.panache.PanacheRepositoryBase",
+            "io.quarkus.hibernate.orm.panache.PanacheQuery",
+            "io.quarkus.mongodb.panache.PanacheMongoEntityBase",
+            "io.quarkus.mongodb.panache.PanacheMongoRepositoryBase",
+            "javax.persistence.EntityManager",
+            "jakarta.persistence.EntityManager",
+            "javax.persistence.Query",
+            "jakarta.persistence.Query",
+            "javax.sql.DataSource",
+            "java.sql.Connection",
+            "java.sql.Statement",
+            "java.sql.ResultSet",
+            "javax.ws.rs.client.SyncInvoker",
+            "jakarta.ws.rs.client.SyncInvoker",
+            "java.io.InputStream",
+            "java.io.OutputStream",
+            "java.nio.file.Files",
+            "java.net.Socket",
+            "java.net.URLConnection"
+    };
+
+    /**
+     * Subtypes of the blocking types working in memory only.
+     */
+    private static final String[] IN_MEMORY_TYPES = {
+            "java.io.ByteArrayInputStream",
+            "java.io.ByteArrayOutputStream"
+    };
+
+    /**
+     * Methods blocking the calling thread, regardless of the type declaring them.
+     */
+    private static final MethodMatcher[] BLOCKING_METHODS = {
+            new MethodMatcher("java.lang.Thread sleep(..)"),
+            new MethodMatcher("io.smallrye.mutiny.groups.UniAwait indefinitely()"),
+            new MethodMatcher("io.smallrye.mutiny.groups.UniAwait atMost(..)"),
+            new MethodMatcher("io.smallrye.mutiny.groups.UniAwaitOptional indefinitely()"),
+            new MethodMatcher("io.smallrye.mutiny.groups.UniAwaitOptional atMost(..)"),
+            new MethodMatcher("io.smallrye.mutiny.groups.MultiSubscribe asIterable(..)"),
+            new MethodMatcher("io.smallrye.mutiny.groups.MultiSubscribe asStream(..)")
+    };
+
+    /**
+     * @return Whether the method is a JAX-RS resource method, designated by an HTTP method annotation. Sub-resource
+     * locators, annotated with {@code @Path} only, return the resource handling the request instead.
+     */
+    public static boolean isRestEndpoint(J.MethodDeclaration method) {
+        for (J.Annotation annotation : method.getLeadingAnnotations()) {
+            if (isJaxRsAnnotation(annotation, HTTP_METHOD_ANNOTATIONS)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return Whether the method is invoked by Quarkus on an incoming request, message, event or schedule.
+     */
+    public static boolean isEntryPoint(J.MethodDeclaration method) {
+        for (J.Annotation annotation : method.getLeadingAnnotations()) {
+            JavaType.FullyQualified type = TypeUtils.asFullyQualified(annotation.getType());
+            if (isJaxRsAnnotation(annotation, JAX_RS_METHOD_ANNOTATIONS) ||
+                type != null && ENTRY_POINT_ANNOTATIONS.contains(type.getFullyQualifiedName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return Whether the type is a Mutiny, {@code CompletionStage} or Reactive Streams type, which Quarkus
+     * subscribes to on the event loop.
+     */
+    public static boolean isReactive(@Nullable JavaType type) {
+        for (String reactiveType : REACTIVE_TYPES) {
+            if (TypeUtils.isAssignableTo(reactiveType, type)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return Whether invoking the method blocks the calling thread, as Hibernate ORM Panache, JPA, JDBC,
+     * {@code java.io} streams, synchronous REST clients, {@code Thread.sleep} and awaiting Mutiny results do.
+     */
+    public static boolean isBlocking(JavaType.Method methodType) {
+        for (MethodMatcher blockingMethod : BLOCKING_METHODS) {
+            if (blockingMethod.matches(methodType)) {
+                return true;
+            }
+        }
+        JavaType.FullyQualified declaringType = methodType.getDeclaringType();
+        for (String inMemoryType : IN_MEMORY_TYPES) {
+            if (TypeUtils.isAssignableTo(inMemoryType, declaringType)) {
+                return false;
+            }
+        }
+        for (String blockingType : BLOCKING_TYPES) {
+            if (TypeUtils.isAssignableTo(blockingType, declaringType)) {
+                return true;
+            }
+        }
+        // Synchronous MicroProfile REST client calls
+        for (JavaType.FullyQualified annotation : declaringType.getAnnotations()) {
+            if ("org.eclipse.microprofile.rest.client.inject.RegisterRestClient".equals(annotation.getFullyQualifiedName())) {
+                return !isReactive(methodType.getReturnType());
+            }
+        }
+        return false;
+    }
+
+    private static boolean isJaxRsAnnotation(J.Annotation annotation, Set<String> simpleNames) {
+        JavaType.FullyQualified type = TypeUtils.asFullyQualified(annotation.getType());
+        if (type == null) {
+            return false;
+        }
+        String fqn = type.getFullyQualifiedName();
+        return (fqn.startsWith("javax.ws.rs.") || fqn.startsWith("jakarta.ws.rs.")) &&
+               simpleNames.contains(type.getClassName());
+    }
+}
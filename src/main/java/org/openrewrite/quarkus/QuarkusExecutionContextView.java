@@ -32,6 +32,7 @@ import static java.util.Collections.emptyList;
 public class QuarkusExecutionContextView extends DelegatingExecutionContext {
 
     private static final String DEFAULT_APPLICATION_CONFIGURATION_PATHS = "org.openrewrite.java.quarkus.defaultApplicationConfigurationPaths";
+    private static final String RECIPE_PERFORMANCE_ENABLED = "org.openrewrite.java.quarkus.recipePerformanceEnabled";
 
     public QuarkusExecutionContextView(ExecutionContext delegate) {
         super(delegate);
@@ -70,6 +71,25 @@ public class QuarkusExecutionContextView extends DelegatingExecutionContext {
         );
     }
 
+    /**
+     * Enables the collection of the {@link org.openrewrite.quarkus.table.QuarkusRecipePerformance} data table by the
+     * Quarkus recipes. Collection is disabled by default.
+     *
+     * @param enabled Whether the Quarkus recipes should record their visitor timings and cycles
+     * @return this
+     */
+    public QuarkusExecutionContextView setRecipePerformanceEnabled(boolean enabled) {
+        putMessage(RECIPE_PERFORMANCE_ENABLED, enabled);
+        return this;
+    }
+
+    /**
+     * @return Whether the Quarkus recipes record their visitor timings and cycles
+     */
+    public boolean isRecipePerformanceEnabled() {
+        return getMessage(RECIPE_PERFORMANCE_ENABLED, false);
+    }
+
     public boolean isQuarkusConfigFile(Tree tree, @Nullable List<String> pathExpressions) {
         if (!(tree instanceof Properties.File || tree instanceof Yaml.Documents)) {
             return false;
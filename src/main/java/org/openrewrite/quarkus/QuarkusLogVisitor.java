@@ -0,0 +1,447 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus;
+
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Tree;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.*;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.Markers;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.util.Collections.nCopies;
+
+/**
+ * Replaces the calls of a logging API with calls to the static Quarkus {@code io.quarkus.logging.Log} and removes the
+ * logger fields. Subclasses describe the logging API: the type of its loggers, and how its logging and level check
+ * calls map onto {@code Log} methods.
+ */
+abstract class QuarkusLogVisitor extends JavaIsoVisitor<ExecutionContext> {
+
+    /**
+     * The display name and description of the option shared by the recipes using this visitor, which is passed on to
+     * {@link #QuarkusLogVisitor(String, Boolean)}. Recipe options are read from the fields declared by each recipe,
+     * so the field itself cannot be shared.
+     */
+    static final String GUARD_EXPENSIVE_ARGUMENTS = "Guard expensive arguments";
+    static final String GUARD_EXPENSIVE_ARGUMENTS_DESCRIPTION = "When enabled, `trace` and `debug` calls whose " +
+            "arguments contain method invocations, object creations or string concatenations are wrapped in an " +
+            "`if (Log.isDebugEnabled())` guard unless they already are, and string concatenations used as message are " +
+            "turned into format placeholders. Defaults to `false`.";
+
+    private static final String QUARKUS_LOG = "io.quarkus.logging.Log";
+    private static final String JBOSS_LOGGER = "org.jboss.logging.Logger";
+    private static final String GUARDED_STATEMENTS = "GUARDED_STATEMENTS";
+
+    /**
+     * How the arguments of a logging call are formatted.
+     */
+    enum Style {
+        /**
+         * A message without parameters, optionally followed by a throwable, mapped onto {@code Log.info(Object)}.
+         */
+        PLAIN,
+        /**
+         * A message with SLF4J style {@code {}} placeholders, mapped onto {@code Log.infof(String, Object...)}.
+         */
+        BRACES,
+        /**
+         * A {@link String#format(String, Object...)} pattern, mapped onto {@code Log.infof(String, Object...)}.
+         */
+        PRINTF,
+        /**
+         * A {@link java.text.MessageFormat} pattern, mapped onto {@code Log.infov(String, Object...)}.
+         */
+        MESSAGE_FORMAT
+    }
+
+    @Value
+    static class LogCall {
+        String level;
+        Style style;
+        List<Expression> arguments;
+    }
+
+    final String recipeName;
+    final boolean guardExpensiveArguments;
+
+    QuarkusLogVisitor(String recipeName, @Nullable Boolean guardExpensiveArguments) {
+        this.recipeName = recipeName;
+        this.guardExpensiveArguments = Boolean.TRUE.equals(guardExpensiveArguments);
+    }
+
+    /**
+     * @return The fully qualified name of the logger type whose fields are removed, or {@code null} if the logging
+     * API has no logger fields.
+     */
+    abstract @Nullable String loggerType();
+
+    /**
+     * @return Types used to obtain or configure loggers, whose imports are removed along with the logger fields.
+     */
+    abstract List<String> loggerImports();
+
+    /**
+     * @return The Lombok annotation generating a logger field of {@link #loggerType()}, if any.
+     */
+    abstract @Nullable String lombokAnnotation();
+
+    /**
+     * @return The {@code Log} call replacing this method invocation, or {@code null} if it is not a logging call.
+     */
+    abstract @Nullable LogCall logCall(J.MethodInvocation method);
+
+    /**
+     * @return The level tested by this method invocation, such as {@code debug} for {@code isDebugEnabled()}, or
+     * {@code null} if it is not a level check.
+     */
+    abstract @Nullable String checkedLevel(J.MethodInvocation method);
+
+    /**
+     * @return Whether messages built by string concatenation are turned into format strings.
+     */
+    boolean formatConcatenations() {
+        return guardExpensiveArguments;
+    }
+
+    @Override
+    public void doAfterVisit(TreeVisitor<?, ExecutionContext> visitor) {
+        QuarkusRecipePerformanceVisitor.afterVisitScheduled();
+        super.doAfterVisit(visitor);
+    }
+
+    @Override
+    public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+        String loggerType = loggerType();
+        if (loggerType != null && usesLoggersOtherwise(classDecl, loggerType)) {
+            // Removing the loggers would leave dangling references to them
+            return classDecl;
+        }
+        J.ClassDeclaration cd = super.visitClassDeclaration(classDecl, ctx);
+        String lombokAnnotation = lombokAnnotation();
+        if (cd != classDecl && lombokAnnotation != null) {
+            doAfterVisit(new RemoveAnnotationVisitor(new AnnotationMatcher("@" + lombokAnnotation)));
+        }
+        return cd;
+    }
+
+    @Override
+    public J.Block visitBlock(J.Block block, ExecutionContext ctx) {
+        J.Block b = super.visitBlock(block, ctx);
+        Map<UUID, String> guarded = getCursor().pollMessage(GUARDED_STATEMENTS);
+        if (guarded == null) {
+            return b;
+        }
+        for (Statement statement : b.getStatements()) {
+            String level = guarded.get(statement.getId());
+            if (level != null) {
+                b = JavaTemplate.builder(String.format("if (Log.is%sEnabled()) {\n#{any()};\n}", capitalize(level)))
+                        .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "quarkus-core"))
+                        .imports(QUARKUS_LOG)
+                        .build()
+                        .apply(updateCursor(b), statement.getCoordinates().replace(), statement);
+            }
+        }
+        return b;
+    }
+
+    @Override
+    public J.MethodInvocation visitMethodInvocation(J.MethodInvocation methodInvocation, ExecutionContext ctx) {
+        J.MethodInvocation mi = super.visitMethodInvocation(methodInvocation, ctx);
+        String checkedLevel = checkedLevel(mi);
+        if (checkedLevel != null) {
+            return levelCheck(mi, checkedLevel, ctx);
+        }
+        LogCall logCall = logCall(mi);
+        if (logCall == null) {
+            return mi;
+        }
+
+        maybeRemoveLoggerImport();
+        maybeAddImport(QUARKUS_LOG);
+
+        Style style = logCall.getStyle();
+        List<Expression> args = logCall.getArguments();
+        if (formatConcatenations() && (style == Style.PLAIN || style == Style.BRACES)) {
+            List<Expression> formatArgs = placeholdersForConcatenation(args);
+            if (formatArgs != args) {
+                style = Style.PRINTF;
+                args = formatArgs;
+            }
+        }
+        if (style == Style.BRACES) {
+            args = ListUtils.mapFirst(args, arg ->
+                    arg instanceof J.Literal && ((J.Literal) arg).getValue() instanceof String ? ((J.Literal) arg)
+                            .withValue(((String) ((J.Literal) arg).getValue()).replace("{}", "%s"))
+                            .withValueSource(((J.Literal) arg).getValueSource().replace("{}", "%s")) : arg);
+            style = 1 < args.size() ? Style.PRINTF : Style.PLAIN;
+        }
+
+        String placeholders = String.join(", ", nCopies(args.size(), "#{any()}"));
+        String suffix = style == Style.PRINTF ? "f" : style == Style.MESSAGE_FORMAT ? "v" : "";
+        String template = String.format("Log.%s%s(%s)", logCall.getLevel(), suffix, placeholders);
+        QuarkusRecipeEvent.Event event = QuarkusRecipeEvent.TEMPLATE_APPLY.begin();
+        J.MethodInvocation logged = JavaTemplate.builder(template)
+                .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "quarkus-core"))
+                .imports(QUARKUS_LOG)
+                .build()
+                .apply(updateCursor(mi), mi.getCoordinates().replace(), args.toArray());
+        event.commit(recipeName, getCursor().firstEnclosingOrThrow(JavaSourceFile.class).getSourcePath(), 1);
+
+        if (guardExpensiveArguments && needsGuard(logCall.getLevel(), args)) {
+            getCursor().getParentTreeCursor()
+                    .computeMessageIfAbsent(GUARDED_STATEMENTS, k -> new HashMap<UUID, String>())
+                    .put(logged.getId(), logCall.getLevel());
+        }
+        return logged;
+    }
+
+    @Override
+    public J.@Nullable VariableDeclarations visitVariableDeclarations(J.VariableDeclarations multiVariable, ExecutionContext ctx) {
+        J.VariableDeclarations variableDeclarations = super.visitVariableDeclarations(multiVariable, ctx);
+        String loggerType = loggerType();
+        if (loggerType != null && TypeUtils.isOfClassType(variableDeclarations.getType(), loggerType)) {
+            maybeRemoveImport(loggerType);
+            for (String loggerImport : loggerImports()) {
+                maybeRemoveImport(loggerImport);
+            }
+            maybeRemoveImport("javax.inject.Inject");
+            maybeRemoveImport("jakarta.inject.Inject");
+            return null;
+        }
+        return variableDeclarations;
+    }
+
+    /**
+     * @return Whether the class uses a logger other than through calls with a {@code Log} equivalent, such as calls
+     * to configure it or passing it around, or declares a logger that cannot simply be removed, such as a method
+     * parameter.
+     */
+    private boolean usesLoggersOtherwise(J.ClassDeclaration classDecl, String loggerType) {
+        return new JavaIsoVisitor<AtomicBoolean>() {
+            @Override
+            public J.VariableDeclarations visitVariableDeclarations(J.VariableDeclarations multiVariable, AtomicBoolean found) {
+                if (TypeUtils.isOfClassType(multiVariable.getType(), loggerType) &&
+                    !(getCursor().getParentTreeCursor().getValue() instanceof J.Block)) {
+                    found.set(true);
+                }
+                return super.visitVariableDeclarations(multiVariable, found);
+            }
+
+            @Override
+            public J.VariableDeclarations.NamedVariable visitVariable(J.VariableDeclarations.NamedVariable variable, AtomicBoolean found) {
+                // The name of a declared logger is not a use of it
+                if (variable.getInitializer() != null) {
+                    visit(variable.getInitializer(), found);
+                }
+                return variable;
+            }
+
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, AtomicBoolean found) {
+                if (checkedLevel(method) == null && logCall(method) == null) {
+                    return super.visitMethodInvocation(method, found);
+                }
+                // The logger selected by a migrated call goes away with it, but not when passed as argument
+                for (Expression argument : method.getArguments()) {
+                    visit(argument, found);
+                }
+                return method;
+            }
+
+            @Override
+            public J.Identifier visitIdentifier(J.Identifier identifier, AtomicBoolean found) {
+                if (identifier.getFieldType() != null && TypeUtils.isOfClassType(identifier.getType(), loggerType)) {
+                    found.set(true);
+                }
+                return identifier;
+            }
+        }.reduce(classDecl, new AtomicBoolean()).get();
+    }
+
+    private void maybeRemoveLoggerImport() {
+        String loggerType = loggerType();
+        if (loggerType != null) {
+            maybeRemoveImport(loggerType);
+        }
+    }
+
+    private J.MethodInvocation levelCheck(J.MethodInvocation mi, String level, ExecutionContext ctx) {
+        maybeRemoveLoggerImport();
+        maybeAddImport(QUARKUS_LOG);
+        JavaParser.Builder<?, ?> parser = JavaParser.fromJavaVersion().classpathFromResources(ctx, "quarkus-core");
+        // Quarkus `Log` only has shortcuts up to the info level
+        if ("trace".equals(level) || "debug".equals(level) || "info".equals(level)) {
+            return JavaTemplate.builder("Log.is" + capitalize(level) + "Enabled()")
+                    .javaParser(parser)
+                    .imports(QUARKUS_LOG)
+                    .build()
+                    .apply(updateCursor(mi), mi.getCoordinates().replace());
+        }
+        maybeAddImport(JBOSS_LOGGER);
+        return JavaTemplate.builder("Log.isEnabled(Logger.Level." + level.toUpperCase(Locale.ROOT) + ")")
+                .javaParser(parser.dependsOn("package org.jboss.logging; public class Logger { public enum Level { FATAL, ERROR, WARN, INFO, DEBUG, TRACE } }"))
+                .imports(QUARKUS_LOG, JBOSS_LOGGER)
+                .build()
+                .apply(updateCursor(mi), mi.getCoordinates().replace());
+    }
+
+    private boolean needsGuard(String level, List<Expression> args) {
+        if (!"trace".equals(level) && !"debug".equals(level) ||
+                !(getCursor().getParentTreeCursor().getValue() instanceof J.Block)) {
+            return false;
+        }
+        boolean expensive = false;
+        for (Expression arg : args) {
+            expensive |= isExpensive(arg);
+        }
+        if (!expensive) {
+            return false;
+        }
+        // Keep existing guards, whether they test this level or are already migrated
+        for (Iterator<Cursor> it = getCursor().getPathAsCursors(); it.hasNext(); ) {
+            Object value = it.next().getValue();
+            if (value instanceof J.MethodDeclaration || value instanceof J.Lambda || value instanceof J.ClassDeclaration) {
+                break;
+            }
+            if (value instanceof J.If && isLevelCheck(((J.If) value).getIfCondition().getTree(), level)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static String capitalize(String level) {
+        return Character.toUpperCase(level.charAt(0)) + level.substring(1);
+    }
+
+    private static boolean isStringConcatenation(J j) {
+        return j instanceof J.Binary &&
+               ((J.Binary) j).getOperator() == J.Binary.Type.Addition &&
+               TypeUtils.isString(((J.Binary) j).getType());
+    }
+
+    /**
+     * Whether evaluating the argument may be costly: it invokes a method, creates an object or concatenates strings.
+     * Lambdas are not evaluated by the call, so their bodies are not considered.
+     */
+    private static boolean isExpensive(Expression arg) {
+        return new JavaIsoVisitor<AtomicBoolean>() {
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, AtomicBoolean expensive) {
+                expensive.set(true);
+                return method;
+            }
+
+            @Override
+            public J.NewClass visitNewClass(J.NewClass newClass, AtomicBoolean expensive) {
+                expensive.set(true);
+                return newClass;
+            }
+
+            @Override
+            public J.Binary visitBinary(J.Binary binary, AtomicBoolean expensive) {
+                if (isStringConcatenation(binary)) {
+                    expensive.set(true);
+                    return binary;
+                }
+                return super.visitBinary(binary, expensive);
+            }
+
+            @Override
+            public J.Lambda visitLambda(J.Lambda lambda, AtomicBoolean expensive) {
+                return lambda;
+            }
+        }.reduce(arg, new AtomicBoolean()).get();
+    }
+
+    private static boolean isLevelCheck(J condition, String level) {
+        return new JavaIsoVisitor<AtomicBoolean>() {
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, AtomicBoolean found) {
+                if (method.getSimpleName().equals("is" + capitalize(level) + "Enabled") ||
+                    "isEnabled".equals(method.getSimpleName()) ||
+                    "isLoggable".equals(method.getSimpleName())) {
+                    found.set(true);
+                }
+                return super.visitMethodInvocation(method, found);
+            }
+        }.reduce(condition, new AtomicBoolean()).get();
+    }
+
+    /**
+     * Turns a message built by concatenation, such as {@code "Saved " + id + " in " + elapsed + "ms"}, into a format
+     * string with one {@code %s} placeholder per concatenated expression, so that it is only formatted when the level
+     * is enabled. Messages that are not a concatenation, or that are followed by arguments, are left unchanged.
+     */
+    private static List<Expression> placeholdersForConcatenation(List<Expression> args) {
+        if (args.size() != 1 || !isStringConcatenation(args.get(0))) {
+            return args;
+        }
+        List<Expression> operands = new ArrayList<>();
+        flattenConcatenation(args.get(0), operands);
+
+        StringBuilder value = new StringBuilder();
+        StringBuilder valueSource = new StringBuilder();
+        List<Expression> formatArgs = new ArrayList<>();
+        for (Expression operand : operands) {
+            if (operand instanceof J.Literal && ((J.Literal) operand).getValue() instanceof String) {
+                J.Literal literal = (J.Literal) operand;
+                String source = literal.getValueSource();
+                if (source == null || source.startsWith("\"\"\"")) {
+                    // Text blocks would need to be re-indented into a single line literal
+                    return args;
+                }
+                value.append(((String) literal.getValue()).replace("%", "%%"));
+                valueSource.append(source.substring(1, source.length() - 1).replace("%", "%%"));
+            } else {
+                value.append("%s");
+                valueSource.append("%s");
+                formatArgs.add(operand.withPrefix(Space.SINGLE_SPACE));
+            }
+        }
+        if (formatArgs.isEmpty()) {
+            return args;
+        }
+        formatArgs.add(0, new J.Literal(
+                Tree.randomId(),
+                args.get(0).getPrefix(),
+                Markers.EMPTY,
+                value.toString(),
+                "\"" + valueSource + "\"",
+                null,
+                JavaType.Primitive.String
+        ));
+        return formatArgs;
+    }
+
+    private static void flattenConcatenation(Expression expression, List<Expression> operands) {
+        if (isStringConcatenation(expression)) {
+            J.Binary binary = (J.Binary) expression;
+            flattenConcatenation(binary.getLeft(), operands);
+            flattenConcatenation(binary.getRight(), operands);
+        } else {
+            operands.add(expression);
+        }
+    }
+}
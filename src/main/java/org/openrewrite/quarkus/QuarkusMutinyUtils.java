@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.openrewrite.java.JavaParser;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Shared support for recipes rewriting Mutiny pipelines.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class QuarkusMutinyUtils {
+
+    public static final String UNI = "io.smallrye.mutiny.Uni";
+
+    public static final String MULTI = "io.smallrye.mutiny.Multi";
+
+    /**
+     * The largest number of {@code Uni}s that {@code Uni.combine().all().unis(...)} combines into a typed group.
+     */
+    public static final int MAX_COMBINED_UNIS = 9;
+
+    /**
+     * @return A parser knowing the parts of the Mutiny API used by the templates of the Quarkus recipes.
+     */
+    public static JavaParser.Builder<?, ?> parser() {
+        return JavaParser.fromJavaVersion().dependsOn(stubs().toArray(new String[0]));
+    }
+
+    private static List<String> stubs() {
+        List<String> stubs = new ArrayList<>();
+        stubs.add("package io.smallrye.mutiny;\n" +
+                  "import io.smallrye.mutiny.groups.UniCombine;\n" +
+                  "import java.util.function.Function;\n" +
+                  "public interface Uni<T> {\n" +
+                  "    static UniCombine combine() { return null; }\n" +
+                  "    <O> Uni<O> chain(Function<? super T, Uni<? extends O>> mapper);\n" +
+                  "    <O> Uni<O> map(Function<? super T, ? extends O> mapper);\n" +
+                  "    Uni<Void> replaceWithVoid();\n" +
+                  "}");
+        stubs.add("package io.smallrye.mutiny;\n" +
+                  "import io.smallrye.mutiny.groups.MultiOnItem;\n" +
+                  "public interface Multi<T> {\n" +
+                  "    MultiOnItem<T> onItem();\n" +
+                  "}");
+        stubs.add("package io.smallrye.mutiny.groups;\n" +
+                  "import io.smallrye.mutiny.Multi;\n" +
+                  "import io.smallrye.mutiny.Uni;\n" +
+                  "import java.util.function.Function;\n" +
+                  "public class MultiOnItem<T> {\n" +
+                  "    public <O> MultiFlatten<T, O> transformToUni(Function<? super T, Uni<? extends O>> mapper) { return null; }\n" +
+                  "    public <O> Multi<O> transformToUniAndConcatenate(Function<? super T, Uni<? extends O>> mapper) { return null; }\n" +
+                  "}");
+        stubs.add("package io.smallrye.mutiny.groups;\n" +
+                  "import io.smallrye.mutiny.Multi;\n" +
+                  "public class MultiFlatten<I, O> {\n" +
+                  "    public Multi<O> merge() { return null; }\n" +
+                  "    public Multi<O> merge(int concurrency) { return null; }\n" +
+                  "    public Multi<O> concatenate() { return null; }\n" +
+                  "}");
+        stubs.add("package io.smallrye.mutiny.groups;\n" +
+                  "public class UniCombine {\n" +
+                  "    public UniZip all() { return null; }\n" +
+                  "}");
+
+        StringBuilder zip = new StringBuilder("package io.smallrye.mutiny.groups;\n" +
+                                              "import io.smallrye.mutiny.Uni;\n" +
+                                              "public class UniZip {\n");
+        StringBuilder functions = new StringBuilder("package io.smallrye.mutiny.tuples;\n" +
+                                                    "public class Functions {\n");
+        for (int n = 2; n <= MAX_COMBINED_UNIS; n++) {
+            String typeParameters = typeParameters(n);
+            zip.append("    public <").append(typeParameters).append("> UniAndGroup").append(n).append('<').append(typeParameters).append("> unis(");
+            for (int i = 1; i <= n; i++) {
+                zip.append(i == 1 ? "" : ", ").append("Uni<? extends T").append(i).append("> u").append(i);
+            }
+            zip.append(") { return null; }\n");
+
+            String function = n == 2 ? "java.util.function.BiFunction" : "io.smallrye.mutiny.tuples.Functions.Function" + n;
+            stubs.add("package io.smallrye.mutiny.groups;\n" +
+                      "import io.smallrye.mutiny.Uni;\n" +
+                      "public class UniAndGroup" + n + "<" + typeParameters + "> {\n" +
+                      "    public <O> Uni<O> with(" + function + "<" + typeParameters + ", O> combinator) { return null; }\n" +
+                      "}");
+            if (n > 2) {
+                functions.append("    public interface Function").append(n).append('<').append(typeParameters).append(", R> {\n")
+                        .append("        R apply(");
+                for (int i = 1; i <= n; i++) {
+                    functions.append(i == 1 ? "" : ", ").append('T').append(i).append(" item").append(i);
+                }
+                functions.append(");\n    }\n");
+            }
+        }
+        stubs.add(zip.append('}').toString());
+        stubs.add(functions.append('}').toString());
+        return stubs;
+    }
+
+    private static String typeParameters(int n) {
+        StringBuilder typeParameters = new StringBuilder();
+        for (int i = 1; i <= n; i++) {
+            typeParameters.append(i == 1 ? "" : ", ").append('T').append(i);
+        }
+        return typeParameters.toString();
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus;
+
+import org.jspecify.annotations.Nullable;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static java.util.Collections.singletonList;
+
+/**
+ * Java Flight Recorder events emitted by the Quarkus recipes, carrying the recipe name, the source path and the number
+ * of entries touched, next to the duration recorded by JFR itself.
+ * <p>
+ * The recipes are compiled for Java 8, which does not ship the {@code jdk.jfr} API, so the event types are defined at
+ * runtime through {@code jdk.jfr.EventFactory}. When JFR is not available, or no recording has the event enabled,
+ * {@link #begin()} returns a no-op event without allocating.
+ */
+public final class QuarkusRecipeEvent {
+
+    public static final QuarkusRecipeEvent CONFIG_EDIT = new QuarkusRecipeEvent("QuarkusConfigEdit",
+            "Quarkus Config Edit", "A Quarkus configuration file was edited by a recipe.");
+
+    public static final QuarkusRecipeEvent TEMPLATE_APPLY = new QuarkusRecipeEvent("QuarkusTemplateApply",
+            "Quarkus Template Apply", "A Java template was applied by a Quarkus recipe.");
+
+    public static final QuarkusRecipeEvent POM_EDIT = new QuarkusRecipeEvent("QuarkusPomEdit",
+            "Quarkus POM Edit", "A Maven pom.xml was edited by a Quarkus recipe.");
+
+    private static final Event NOOP = new Event(null);
+
+    private static @Nullable Method newEvent;
+    private static @Nullable Method isEnabled;
+    private static @Nullable Method begin;
+    private static @Nullable Method end;
+    private static @Nullable Method set;
+    private static @Nullable Method commit;
+
+    static {
+        try {
+            newEvent = Class.forName("jdk.jfr.EventFactory").getMethod("newEvent");
+            isEnabled = Class.forName("jdk.jfr.EventType").getMethod("isEnabled");
+            Class<?> eventClass = Class.forName("jdk.jfr.Event");
+            begin = eventClass.getMethod("begin");
+            end = eventClass.getMethod("end");
+            set = eventClass.getMethod("set", int.class, Object.class);
+            commit = eventClass.getMethod("commit");
+        } catch (ReflectiveOperationException | LinkageError ignored) {
+            // JFR is not available on this runtime
+        }
+    }
+
+    private final @Nullable Object factory;
+
+    private final @Nullable Object eventType;
+
+    private QuarkusRecipeEvent(String name, String label, String description) {
+        Object f = null;
+        Object type = null;
+        try {
+            f = createFactory(name, label, description);
+            type = f.getClass().getMethod("getEventType").invoke(f);
+        } catch (ReflectiveOperationException | LinkageError ignored) {
+            // JFR is not available on this runtime
+        }
+        this.factory = f;
+        this.eventType = type;
+    }
+
+    /**
+     * Start timing an event.
+     *
+     * @return The started event, or a no-op event when the event is not being recorded.
+     */
+    public Event begin() {
+        if (factory == null || eventType == null || newEvent == null || isEnabled == null || begin == null) {
+            return NOOP;
+        }
+        try {
+            if (!Boolean.TRUE.equals(isEnabled.invoke(eventType))) {
+                return NOOP;
+            }
+            Object event = newEvent.invoke(factory);
+            begin.invoke(event);
+            return new Event(event);
+        } catch (ReflectiveOperationException ignored) {
+            return NOOP;
+        }
+    }
+
+    public static final class Event {
+        private final @Nullable Object event;
+
+        private Event(@Nullable Object event) {
+            this.event = event;
+        }
+
+        /**
+         * Stop timing the event and commit it to the running recordings.
+         *
+         * @param recipe         The name of the recipe emitting the event.
+         * @param sourcePath     The path of the source file being visited.
+         * @param entriesTouched The number of properties, method invocations or tags touched.
+         */
+        public void commit(String recipe, Path sourcePath, int entriesTouched) {
+            if (event == null || end == null || set == null || commit == null) {
+                return;
+            }
+            try {
+                end.invoke(event);
+                set.invoke(event, 0, recipe);
+                set.invoke(event, 1, sourcePath.toString());
+                set.invoke(event, 2, entriesTouched);
+                commit.invoke(event);
+            } catch (ReflectiveOperationException ignored) {
+                // recording the event is best effort
+            }
+        }
+    }
+
+    private static Object createFactory(String name, String label, String description) throws ReflectiveOperationException {
+        Constructor<?> annotationElement = Class.forName("jdk.jfr.AnnotationElement").getConstructor(Class.class, Object.class);
+        Constructor<?> valueDescriptor = Class.forName("jdk.jfr.ValueDescriptor").getConstructor(Class.class, String.class, List.class);
+        Class<?> nameAnnotation = Class.forName("jdk.jfr.Name");
+        Class<?> labelAnnotation = Class.forName("jdk.jfr.Label");
+
+        List<Object> eventAnnotations = Arrays.asList(
+                annotationElement.newInstance(nameAnnotation, "org.openrewrite.quarkus." + name),
+                annotationElement.newInstance(labelAnnotation, label),
+                annotationElement.newInstance(Class.forName("jdk.jfr.Description"), description),
+                annotationElement.newInstance(Class.forName("jdk.jfr.Category"), new String[]{"OpenRewrite", "Quarkus"})
+        );
+        List<Object> fields = Arrays.asList(
+                valueDescriptor.newInstance(String.class, "recipe", singletonList(annotationElement.newInstance(labelAnnotation, "Recipe"))),
+                valueDescriptor.newInstance(String.class, "sourcePath", singletonList(annotationElement.newInstance(labelAnnotation, "Source Path"))),
+                valueDescriptor.newInstance(int.class, "entriesTouched", singletonList(annotationElement.newInstance(labelAnnotation, "Entries Touched")))
+        );
+        return Class.forName("jdk.jfr.EventFactory")
+                .getMethod("create", List.class, List.class)
+                .invoke(null, eventAnnotations, fields);
+    }
+}
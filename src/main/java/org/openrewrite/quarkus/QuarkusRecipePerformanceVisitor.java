@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus;
+
+import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.SourceFile;
+import org.openrewrite.Tree;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.quarkus.table.QuarkusRecipePerformance;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Decorates the visitor of a Quarkus recipe, recording a {@link QuarkusRecipePerformance} row for every source file it
+ * visits. Recording only happens when enabled through {@link QuarkusExecutionContextView#setRecipePerformanceEnabled(boolean)},
+ * otherwise the visit is handed to the decorated visitor as is.
+ * <p>
+ * {@link TreeVisitor} runs and forgets the visitors scheduled with {@code doAfterVisit} before returning from the visit
+ * of a source file, so visitors that schedule any override {@code doAfterVisit} to call {@link #afterVisitScheduled()}.
+ * This also covers the visitors scheduled by {@code maybeAddImport} and {@code maybeRemoveImport}.
+ */
+@RequiredArgsConstructor
+public class QuarkusRecipePerformanceVisitor extends TreeVisitor<Tree, ExecutionContext> {
+
+    /**
+     * The visits of a source file all happen on the thread visiting it, and nested visitors of other Quarkus recipes,
+     * such as those used as preconditions, are accounted to the outermost recipe.
+     */
+    private static final ThreadLocal<AtomicInteger> AFTER_VISITS_SCHEDULED = new ThreadLocal<>();
+
+    final String recipeName;
+
+    final QuarkusRecipePerformance performance;
+
+    final TreeVisitor<?, ExecutionContext> delegate;
+
+    /**
+     * Counts a visitor scheduled with {@code doAfterVisit} towards the source file currently being recorded, if any.
+     */
+    public static void afterVisitScheduled() {
+        AtomicInteger afterVisits = AFTER_VISITS_SCHEDULED.get();
+        if (afterVisits != null) {
+            afterVisits.incrementAndGet();
+        }
+    }
+
+    @Override
+    public boolean isAcceptable(SourceFile sourceFile, ExecutionContext ctx) {
+        return delegate.isAcceptable(sourceFile, ctx);
+    }
+
+    @Override
+    public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+        if (!(tree instanceof SourceFile) ||
+            !QuarkusExecutionContextView.view(ctx).isRecipePerformanceEnabled() ||
+            AFTER_VISITS_SCHEDULED.get() != null) {
+            return delegate.visit(tree, ctx, getCursor());
+        }
+
+        AtomicInteger afterVisits = new AtomicInteger();
+        AFTER_VISITS_SCHEDULED.set(afterVisits);
+        try {
+            long start = System.nanoTime();
+            Tree t = delegate.visit(tree, ctx, getCursor());
+            long wallTimeNanos = System.nanoTime() - start;
+            performance.insertRow(ctx, new QuarkusRecipePerformance.Row(
+                    recipeName,
+                    sourceFileType(tree),
+                    1,
+                    t != tree ? 1 : 0,
+                    wallTimeNanos,
+                    afterVisits.get(),
+                    ctx.getCycle()
+            ));
+            return t;
+        } finally {
+            AFTER_VISITS_SCHEDULED.remove();
+        }
+    }
+
+    private static String sourceFileType(Tree tree) {
+        String className = tree.getClass().getName();
+        return className.substring(className.lastIndexOf('.') + 1).replace('$', '.');
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.openrewrite.*;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.maven.MavenIsoVisitor;
+import org.openrewrite.maven.tree.GroupArtifact;
+import org.openrewrite.maven.tree.MavenResolutionResult;
+import org.openrewrite.maven.tree.ResolvedDependency;
+import org.openrewrite.maven.tree.Scope;
+import org.openrewrite.quarkus.table.QuarkusRecipePerformance;
+import org.openrewrite.xml.AddToTagVisitor;
+import org.openrewrite.xml.XPathMatcher;
+import org.openrewrite.xml.tree.Xml;
+
+import java.nio.file.Path;
+import java.util.*;
+
+import static java.util.Arrays.asList;
+
+@EqualsAndHashCode(callSuper = false)
+@Value
+public class RemoveCompetingLoggingBackends extends ScanningRecipe<RemoveCompetingLoggingBackends.Accumulator> {
+
+    /**
+     * SLF4J bindings competing with the JBoss Log Manager used by Quarkus.
+     */
+    private static final List<GroupArtifact> LOGGING_BACKENDS = asList(
+            new GroupArtifact("ch.qos.logback", "logback-classic"),
+            new GroupArtifact("org.slf4j", "slf4j-simple"),
+            new GroupArtifact("org.apache.logging.log4j", "log4j-slf4j-impl"),
+            new GroupArtifact("org.apache.logging.log4j", "log4j-slf4j2-impl")
+    );
+
+    private static final XPathMatcher DEPENDENCIES_MATCHER = new XPathMatcher("/project/dependencies");
+    private static final XPathMatcher PROFILE_DEPENDENCIES_MATCHER = new XPathMatcher("/project/profiles/profile/dependencies");
+
+    String displayName = "Remove logging backends competing with the Quarkus log manager";
+
+    String description = "Removes `logback-classic`, `slf4j-simple` and `log4j-slf4j-impl` dependencies from Quarkus " +
+            "projects, and excludes them from the direct dependencies bringing them in transitively. These bindings " +
+            "compete with the JBoss Log Manager used by Quarkus, slow down startup and may format messages twice.";
+
+    transient QuarkusRecipePerformance performance = new QuarkusRecipePerformance(this);
+
+    public static class Accumulator {
+        final Map<Path, Set<GroupArtifact>> removals = new HashMap<>();
+        final Map<Path, Map<GroupArtifact, Set<GroupArtifact>>> exclusions = new HashMap<>();
+    }
+
+    @Override
+    public Accumulator getInitialValue(ExecutionContext ctx) {
+        return new Accumulator();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
+        return new MavenIsoVisitor<ExecutionContext>() {
+            @Override
+            public Xml.Document visitDocument(Xml.Document document, ExecutionContext ctx) {
+                MavenResolutionResult mrr = getResolutionResult();
+                if (!isQuarkusProject(mrr)) {
+                    return document;
+                }
+                Path sourcePath = document.getSourcePath();
+                for (Scope scope : asList(Scope.Compile, Scope.Runtime)) {
+                    for (ResolvedDependency dependency : mrr.getDependencies().getOrDefault(scope, Collections.emptyList())) {
+                        if (dependency.getDepth() != 0) {
+                            continue;
+                        }
+                        GroupArtifact direct = new GroupArtifact(dependency.getGroupId(), dependency.getArtifactId());
+                        if (LOGGING_BACKENDS.contains(direct)) {
+                            acc.removals.computeIfAbsent(sourcePath, k -> new HashSet<>()).add(direct);
+                            continue;
+                        }
+                        for (GroupArtifact backend : LOGGING_BACKENDS) {
+                            if (dependency.findDependency(backend.getGroupId(), backend.getArtifactId()) != null) {
+                                acc.exclusions.computeIfAbsent(sourcePath, k -> new HashMap<>())
+                                        .computeIfAbsent(direct, k -> new LinkedHashSet<>())
+                                        .add(backend);
+                            }
+                        }
+                    }
+                }
+                return document;
+            }
+        };
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(Accumulator acc) {
+        return new QuarkusRecipePerformanceVisitor(getName(), performance, new MavenIsoVisitor<ExecutionContext>() {
+            @Override
+            public Xml.Document visitDocument(Xml.Document document, ExecutionContext ctx) {
+                if (!acc.removals.containsKey(document.getSourcePath()) && !acc.exclusions.containsKey(document.getSourcePath())) {
+                    return document;
+                }
+                Xml.Document d = super.visitDocument(document, ctx);
+                if (d != document) {
+                    maybeUpdateModel();
+                }
+                return d;
+            }
+
+            @Override
+            public Xml.Tag visitTag(Xml.Tag tag, ExecutionContext ctx) {
+                Xml.Tag t = super.visitTag(tag, ctx);
+                Path sourcePath = getCursor().firstEnclosingOrThrow(Xml.Document.class).getSourcePath();
+                if (DEPENDENCIES_MATCHER.matches(getCursor()) || PROFILE_DEPENDENCIES_MATCHER.matches(getCursor())) {
+                    Set<GroupArtifact> removals = acc.removals.getOrDefault(sourcePath, Collections.emptySet());
+                    return t.withContent(ListUtils.map(t.getContent(), content ->
+                            content instanceof Xml.Tag && removals.contains(groupArtifact((Xml.Tag) content)) ? null : content));
+                }
+                if (isDependencyTag()) {
+                    Set<GroupArtifact> backends = acc.exclusions.getOrDefault(sourcePath, Collections.emptyMap()).get(groupArtifact(t));
+                    if (backends != null) {
+                        return exclude(t, backends, ctx);
+                    }
+                }
+                return t;
+            }
+
+            /**
+             * Adds the exclusions to the dependency tag while it is being visited, rather than scheduling one
+             * {@code ExcludeDependency} pass over the whole document per excluded backend.
+             */
+            private Xml.Tag exclude(Xml.Tag dependency, Set<GroupArtifact> backends, ExecutionContext ctx) {
+                Xml.Tag exclusions = dependency.getChild("exclusions").orElse(null);
+                if (exclusions == null) {
+                    dependency = (Xml.Tag) new AddToTagVisitor<ExecutionContext>(dependency, Xml.Tag.build("<exclusions/>"))
+                            .visitNonNull(dependency, ctx, getCursor().getParentOrThrow());
+                    exclusions = dependency.getChild("exclusions").orElseThrow(IllegalStateException::new);
+                }
+                Xml.Tag updated = exclusions;
+                for (GroupArtifact backend : backends) {
+                    boolean alreadyExcluded = false;
+                    for (Xml.Tag exclusion : updated.getChildren("exclusion")) {
+                        alreadyExcluded |= backend.equals(groupArtifact(exclusion));
+                    }
+                    if (!alreadyExcluded) {
+                        updated = (Xml.Tag) new AddToTagVisitor<ExecutionContext>(updated, Xml.Tag.build(
+                                "<exclusion>\n" +
+                                "<groupId>" + backend.getGroupId() + "</groupId>\n" +
+                                "<artifactId>" + backend.getArtifactId() + "</artifactId>\n" +
+                                "</exclusion>"))
+                                .visitNonNull(updated, ctx, new Cursor(getCursor().getParentOrThrow(), dependency));
+                    }
+                }
+                Xml.Tag finalExclusions = exclusions;
+                Xml.Tag finalUpdated = updated;
+                return dependency.withContent(ListUtils.map(dependency.getContent(), content ->
+                        content == finalExclusions ? finalUpdated : content));
+            }
+        });
+    }
+
+    private static boolean isQuarkusProject(MavenResolutionResult mrr) {
+        for (List<ResolvedDependency> dependencies : mrr.getDependencies().values()) {
+            for (ResolvedDependency dependency : dependencies) {
+                if ("io.quarkus".equals(dependency.getGroupId())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static GroupArtifact groupArtifact(Xml.Tag tag) {
+        return new GroupArtifact(tag.getChildValue("groupId").orElse(""), tag.getChildValue("artifactId").orElse(""));
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.AnnotationMatcher;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.VariableNameUtils;
+import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.Markers;
+import org.openrewrite.marker.SearchResult;
+import org.openrewrite.quarkus.table.QuarkusRecipePerformance;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Collections.emptyList;
+
+@EqualsAndHashCode(callSuper = false)
+@Value
+public class ReplaceBlockingAwaitInReactiveMethods extends Recipe {
+
+    private static final MethodMatcher AWAIT_INDEFINITELY = new MethodMatcher("io.smallrye.mutiny.groups.UniAwait indefinitely()");
+    private static final MethodMatcher[] BLOCKING_SUBSCRIPTIONS = {
+            AWAIT_INDEFINITELY,
+            new MethodMatcher("io.smallrye.mutiny.groups.UniAwait atMost(..)"),
+            new MethodMatcher("io.smallrye.mutiny.groups.UniAwaitOptional indefinitely()"),
+            new MethodMatcher("io.smallrye.mutiny.groups.UniAwaitOptional atMost(..)"),
+            new MethodMatcher("io.smallrye.mutiny.groups.MultiSubscribe asIterable(..)"),
+            new MethodMatcher("io.smallrye.mutiny.groups.MultiSubscribe asStream(..)")
+    };
+    private static final MethodMatcher CREATE_ITEM = new MethodMatcher("io.smallrye.mutiny.groups.UniCreate item(..)");
+
+    private static final AnnotationMatcher NON_BLOCKING = new AnnotationMatcher("@io.smallrye.common.annotation.NonBlocking");
+    private static final AnnotationMatcher BLOCKING = new AnnotationMatcher("@io.smallrye.common.annotation.Blocking");
+    private static final AnnotationMatcher ROUTE = new AnnotationMatcher("@io.quarkus.vertx.web.Route");
+
+    String displayName = "Replace blocking `await()` in reactive methods";
+
+    String description = "Finds `await().indefinitely()`, `await().atMost(..)` and `subscribe().asIterable()` in " +
+            "methods returning `Uni` or `Multi`, annotated with `@NonBlocking` or declaring a Vert.x `@Route`, " +
+            "which run on the event loop. `Uni.createFrom().item(..)` awaiting a single other `Uni` is rewritten to " +
+            "that `Uni`, or to a `map` of it. Other blocking subscriptions are marked.";
+
+    transient QuarkusRecipePerformance performance = new QuarkusRecipePerformance(this);
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return new QuarkusRecipePerformanceVisitor(getName(), performance, Preconditions.check(Preconditions.or(
+                new UsesMethod<>("io.smallrye.mutiny.groups.UniAwait* *(..)"),
+                new UsesMethod<>("io.smallrye.mutiny.groups.MultiSubscribe as*(..)")
+        ), new JavaVisitor<ExecutionContext>() {
+            @Override
+            public J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                J j = super.visitMethodInvocation(method, ctx);
+                if (!(j instanceof J.MethodInvocation) || !isReactiveContext()) {
+                    return j;
+                }
+                J.MethodInvocation m = (J.MethodInvocation) j;
+                if (CREATE_ITEM.matches(m)) {
+                    Expression composed = compose(m);
+                    if (composed != null) {
+                        return composed;
+                    }
+                }
+                if (isBlockingSubscription(m)) {
+                    return SearchResult.found(m, "Blocks the event loop, compose with `chain` or `map` instead");
+                }
+                return m;
+            }
+
+            /**
+             * @return The {@code Uni} replacing {@code Uni.createFrom().item(..)} when the item is computed
+             * from a single awaited {@code Uni}.
+             */
+            private @Nullable Expression compose(J.MethodInvocation createItem) {
+                Expression item = createItem.getArguments().get(0);
+                if (item instanceof J.Lambda) {
+                    J.Lambda supplier = (J.Lambda) item;
+                    if (!(supplier.getBody() instanceof Expression) ||
+                        !(supplier.getParameters().getParameters().get(0) instanceof J.Empty)) {
+                        return null;
+                    }
+                    item = (Expression) supplier.getBody();
+                }
+
+                List<J.MethodInvocation> awaits = new ArrayList<>();
+                new JavaIsoVisitor<List<J.MethodInvocation>>() {
+                    @Override
+                    public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, List<J.MethodInvocation> found) {
+                        if (isBlockingSubscription(method)) {
+                            found.add(method);
+                        }
+                        return super.visitMethodInvocation(method, found);
+                    }
+
+                    @Override
+                    public J.Lambda visitLambda(J.Lambda lambda, List<J.MethodInvocation> found) {
+                        // Lambdas may be called any number of times, so their awaits are left alone
+                        return lambda;
+                    }
+                }.visit(item, awaits);
+                if (awaits.size() != 1 || !AWAIT_INDEFINITELY.matches(awaits.get(0))) {
+                    return null;
+                }
+
+                J.MethodInvocation await = awaits.get(0);
+                if (!(await.getSelect() instanceof J.MethodInvocation)) {
+                    return null;
+                }
+                Expression awaited = ((J.MethodInvocation) await.getSelect()).getSelect();
+                if (awaited == null) {
+                    return null;
+                }
+                if (item == await) {
+                    return awaited.withPrefix(createItem.getPrefix());
+                }
+
+                JavaType type = await.getType();
+                String name = VariableNameUtils.generateVariableName("item", getCursor(), VariableNameUtils.GenerationStrategy.INCREMENT_NUMBER);
+                J.Identifier itemRef = new J.Identifier(Tree.randomId(), Space.EMPTY, Markers.EMPTY, emptyList(), name, type,
+                        new JavaType.Variable(null, 0, name, null, type, emptyList()));
+                Expression mapped = (Expression) new JavaVisitor<Integer>() {
+                    @Override
+                    public J visitMethodInvocation(J.MethodInvocation method, Integer p) {
+                        return method.getId().equals(await.getId()) ? itemRef.withPrefix(method.getPrefix()) : super.visitMethodInvocation(method, p);
+                    }
+                }.visitNonNull(item, 0);
+                return JavaTemplate.builder("#{any(io.smallrye.mutiny.Uni)}.map(" + name + " -> #{any()})")
+                        .javaParser(QuarkusMutinyUtils.parser())
+                        .build()
+                        .apply(updateCursor(createItem), createItem.getCoordinates().replace(), awaited, mapped);
+            }
+
+            private boolean isReactiveContext() {
+                J.MethodDeclaration enclosing = getCursor().firstEnclosing(J.MethodDeclaration.class);
+                if (enclosing == null || enclosing.getLeadingAnnotations().stream().anyMatch(BLOCKING::matches)) {
+                    return false;
+                }
+                for (J.Annotation annotation : enclosing.getLeadingAnnotations()) {
+                    if (NON_BLOCKING.matches(annotation) || ROUTE.matches(annotation) && !isBlockingRoute(annotation)) {
+                        return true;
+                    }
+                }
+                return enclosing.getMethodType() != null && (
+                        TypeUtils.isAssignableTo(QuarkusMutinyUtils.UNI, enclosing.getMethodType().getReturnType()) ||
+                        TypeUtils.isAssignableTo(QuarkusMutinyUtils.MULTI, enclosing.getMethodType().getReturnType()));
+            }
+        }));
+    }
+
+    private static boolean isBlockingSubscription(J.MethodInvocation method) {
+        for (MethodMatcher matcher : BLOCKING_SUBSCRIPTIONS) {
+            if (matcher.matches(method)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return Whether the route declares {@code type = Route.HandlerType.BLOCKING}, running it on a worker thread.
+     */
+    private static boolean isBlockingRoute(J.Annotation route) {
+        if (route.getArguments() == null) {
+            return false;
+        }
+        for (Expression argument : route.getArguments()) {
+            if (!(argument instanceof J.Assignment)) {
+                continue;
+            }
+            J.Assignment assignment = (J.Assignment) argument;
+            Expression value = assignment.getAssignment();
+            if (assignment.getVariable() instanceof J.Identifier &&
+                "type".equals(((J.Identifier) assignment.getVariable()).getSimpleName()) &&
+                (value instanceof J.FieldAccess && "BLOCKING".equals(((J.FieldAccess) value).getSimpleName()) ||
+                 value instanceof J.Identifier && "BLOCKING".equals(((J.Identifier) value).getSimpleName()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.AnnotationMatcher;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.marker.JavaProject;
+import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaSourceFile;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.TypeUtils;
+import org.openrewrite.maven.UpdateMavenProjectPropertyJavaVersion;
+import org.openrewrite.quarkus.table.QuarkusRecipePerformance;
+import org.openrewrite.quarkus.table.VirtualThreadSkippedMethods;
+
+import java.util.*;
+
+@EqualsAndHashCode(callSuper = false)
+@Value
+public class RunBlockingEndpointsOnVirtualThreads extends ScanningRecipe<RunBlockingEndpointsOnVirtualThreads.Accumulator> {
+
+    private static final String RUN_ON_VIRTUAL_THREAD = "io.smallrye.common.annotation.RunOnVirtualThread";
+    private static final AnnotationMatcher RUN_ON_VIRTUAL_THREAD_MATCHER = new AnnotationMatcher("@" + RUN_ON_VIRTUAL_THREAD);
+    private static final AnnotationMatcher NON_BLOCKING_MATCHER = new AnnotationMatcher("@io.smallrye.common.annotation.NonBlocking");
+
+    /**
+     * Stands for the source files without a {@link JavaProject} marker.
+     */
+    private static final UUID NO_PROJECT = new UUID(0, 0);
+
+    String displayName = "Run blocking REST endpoints on virtual threads";
+
+    String description = "Annotates imperative JAX-RS resource methods calling blocking APIs, such as Hibernate ORM " +
+            "Panache, JDBC or synchronous REST clients, with `@RunOnVirtualThread` so that they no longer tie up a " +
+            "worker thread. Methods using `synchronized` or thread-locals, which would pin the carrier thread, are " +
+            "left unchanged and reported instead. Projects running methods on virtual threads are compiled for " +
+            "Java 21 and get `quarkus.virtual-threads.enabled=true` in their configuration.";
+
+    transient VirtualThreadSkippedMethods skippedMethods = new VirtualThreadSkippedMethods(this);
+
+    transient QuarkusRecipePerformance performance = new QuarkusRecipePerformance(this);
+
+    public static class Accumulator {
+        final Set<UUID> projects = new HashSet<>();
+    }
+
+    @Override
+    public Accumulator getInitialValue(ExecutionContext ctx) {
+        return new Accumulator();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
+        return new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.Annotation visitAnnotation(J.Annotation annotation, ExecutionContext ctx) {
+                if (RUN_ON_VIRTUAL_THREAD_MATCHER.matches(annotation)) {
+                    acc.projects.add(project(getCursor().firstEnclosingOrThrow(SourceFile.class)));
+                }
+                return annotation;
+            }
+
+            @Override
+            public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
+                J.MethodDeclaration m = super.visitMethodDeclaration(method, ctx);
+                Set<String> pinning = pinning(m);
+                if (pinning != null && pinning.isEmpty()) {
+                    acc.projects.add(project(getCursor().firstEnclosingOrThrow(SourceFile.class)));
+                }
+                return m;
+            }
+        };
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(Accumulator acc) {
+        TreeVisitor<?, ExecutionContext> javaVersion = new UpdateMavenProjectPropertyJavaVersion(21).getVisitor();
+        TreeVisitor<?, ExecutionContext> enableVirtualThreads = new AddQuarkusProperty(
+                "quarkus.virtual-threads.enabled", "true", null, null, null).getVisitor();
+        TreeVisitor<?, ExecutionContext> runOnVirtualThreads = Preconditions.check(Preconditions.or(
+                new UsesType<>("javax.ws.rs.*", null),
+                new UsesType<>("jakarta.ws.rs.*", null)
+        ), new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public void doAfterVisit(TreeVisitor<?, ExecutionContext> visitor) {
+                QuarkusRecipePerformanceVisitor.afterVisitScheduled();
+                super.doAfterVisit(visitor);
+            }
+
+            @Override
+            public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
+                J.MethodDeclaration m = super.visitMethodDeclaration(method, ctx);
+                Set<String> pinning = pinning(m);
+                if (pinning == null) {
+                    return m;
+                }
+                if (!pinning.isEmpty()) {
+                    J.ClassDeclaration classDecl = getCursor().firstEnclosingOrThrow(J.ClassDeclaration.class);
+                    skippedMethods.insertRow(ctx, new VirtualThreadSkippedMethods.Row(
+                            getCursor().firstEnclosingOrThrow(JavaSourceFile.class).getSourcePath().toString(),
+                            classDecl.getType() == null ? classDecl.getSimpleName() : classDecl.getType().getFullyQualifiedName(),
+                            m.getSimpleName(),
+                            String.join(", ", pinning)));
+                    return m;
+                }
+
+                maybeAddImport(RUN_ON_VIRTUAL_THREAD);
+                return JavaTemplate.builder("@RunOnVirtualThread")
+                        .javaParser(JavaParser.fromJavaVersion()
+                                .dependsOn("package io.smallrye.common.annotation;\n" +
+                                           "public @interface RunOnVirtualThread {}"))
+                        .imports(RUN_ON_VIRTUAL_THREAD)
+                        .build()
+                        .apply(updateCursor(m), m.getCoordinates().addAnnotation(Comparator.comparing(J.Annotation::getSimpleName)));
+            }
+        });
+
+        return new QuarkusRecipePerformanceVisitor(getName(), performance, new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (tree instanceof JavaSourceFile) {
+                    return runOnVirtualThreads.visit(tree, ctx);
+                }
+                if (!(tree instanceof SourceFile) || !acc.projects.contains(project((SourceFile) tree))) {
+                    return tree;
+                }
+                if (javaVersion.isAcceptable((SourceFile) tree, ctx)) {
+                    return javaVersion.visit(tree, ctx);
+                }
+                if (enableVirtualThreads.isAcceptable((SourceFile) tree, ctx)) {
+                    return enableVirtualThreads.visit(tree, ctx);
+                }
+                return tree;
+            }
+        });
+    }
+
+    /**
+     * @return The constructs pinning the carrier thread in a blocking JAX-RS resource method, empty when it can run on a
+     * virtual thread, or {@code null} when the method is not a blocking endpoint or already chose where to run.
+     */
+    private static @Nullable Set<String> pinning(J.MethodDeclaration m) {
+        if (m.getBody() == null ||
+            !QuarkusEndpointUtils.isRestEndpoint(m) ||
+            m.getMethodType() == null ||
+            QuarkusEndpointUtils.isReactive(m.getMethodType().getReturnType()) ||
+            m.getLeadingAnnotations().stream().anyMatch(a ->
+                    RUN_ON_VIRTUAL_THREAD_MATCHER.matches(a) || NON_BLOCKING_MATCHER.matches(a))) {
+            return null;
+        }
+
+        Set<String> pinning = new LinkedHashSet<>();
+        if (m.hasModifier(J.Modifier.Type.Synchronized)) {
+            pinning.add("synchronized method");
+        }
+        BlockingCallScanner scanner = new BlockingCallScanner();
+        scanner.visit(m.getBody(), pinning);
+        return scanner.blocking ? pinning : null;
+    }
+
+    private static UUID project(SourceFile sourceFile) {
+        return sourceFile.getMarkers().findFirst(JavaProject.class).map(JavaProject::getId).orElse(NO_PROJECT);
+    }
+
+    /**
+     * Scans a method body in a single pass for blocking calls, collecting the constructs pinning the carrier thread.
+     */
+    private static class BlockingCallScanner extends JavaIsoVisitor<Set<String>> {
+        boolean blocking;
+
+        @Override
+        public J.Synchronized visitSynchronized(J.Synchronized sync, Set<String> pinning) {
+            pinning.add("synchronized block");
+            return super.visitSynchronized(sync, pinning);
+        }
+
+        @Override
+        public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, Set<String> pinning) {
+            JavaType.Method methodType = method.getMethodType();
+            if (methodType != null) {
+                if (TypeUtils.isAssignableTo("java.lang.ThreadLocal", methodType.getDeclaringType())) {
+                    pinning.add("thread-local");
+                } else if (QuarkusEndpointUtils.isBlocking(methodType)) {
+                    blocking = true;
+                }
+            }
+            return super.visitMethodInvocation(method, pinning);
+        }
+    }
+}
@@ -15,23 +15,23 @@
  */
 package org.openrewrite.quarkus;
 
-import lombok.Getter;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import lombok.EqualsAndHashCode;
+import lombok.Value;
 import org.jspecify.annotations.Nullable;
-import org.openrewrite.ExecutionContext;
-import org.openrewrite.Preconditions;
-import org.openrewrite.Recipe;
-import org.openrewrite.TreeVisitor;
-import org.openrewrite.internal.ListUtils;
-import org.openrewrite.java.*;
+import org.openrewrite.*;
+import org.openrewrite.java.MethodMatcher;
 import org.openrewrite.java.search.UsesType;
-import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
-import org.openrewrite.java.tree.TypeUtils;
+import org.openrewrite.quarkus.table.QuarkusRecipePerformance;
 
 import java.util.List;
+import java.util.Locale;
 
-import static java.util.Collections.nCopies;
+import static java.util.Collections.singletonList;
 
+@EqualsAndHashCode(callSuper = false)
+@Value
 public class Slf4jToQuarkusLogger extends Recipe {
 
     private static final String ORG_SLF_4_J_LOGGER = "org.slf4j.Logger";
@@ -40,68 +40,71 @@ public class Slf4jToQuarkusLogger extends Recipe {
     private static final MethodMatcher LOGGER_INFO = new MethodMatcher(ORG_SLF_4_J_LOGGER + " info(String, ..)");
     private static final MethodMatcher LOGGER_WARN = new MethodMatcher(ORG_SLF_4_J_LOGGER + " warn(String, ..)");
     private static final MethodMatcher LOGGER_ERROR = new MethodMatcher(ORG_SLF_4_J_LOGGER + " error(String, ..)");
+    private static final MethodMatcher LOGGER_IS_ENABLED = new MethodMatcher(ORG_SLF_4_J_LOGGER + " is*Enabled()");
 
-    @Getter
-    final String displayName = "Migrate SLF4J Logger injection and usage to Quarkus static `Log`";
+    @Option(displayName = QuarkusLogVisitor.GUARD_EXPENSIVE_ARGUMENTS,
+            description = QuarkusLogVisitor.GUARD_EXPENSIVE_ARGUMENTS_DESCRIPTION,
+            required = false)
+    @Nullable
+    Boolean guardExpensiveArguments;
 
-    @Getter
-    final String description = "Removes usage of SLF4J Logger fields, adjusts imports, and replaces logger method calls with static " +
+    String displayName = "Migrate SLF4J Logger injection and usage to Quarkus static `Log`";
+
+    String description = "Removes usage of SLF4J Logger fields, adjusts imports, and replaces logger method calls with static " +
             "Quarkus Log calls, including message formatting and method renaming for parameterized logging.";
 
+    public Slf4jToQuarkusLogger() {
+        this(null);
+    }
+
+    @JsonCreator
+    public Slf4jToQuarkusLogger(@Nullable Boolean guardExpensiveArguments) {
+        this.guardExpensiveArguments = guardExpensiveArguments;
+    }
+
+    transient QuarkusRecipePerformance performance = new QuarkusRecipePerformance(this);
+
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(
+        return new QuarkusRecipePerformanceVisitor(getName(), performance, Preconditions.check(
                 new UsesType<>(ORG_SLF_4_J_LOGGER, true),
-                new JavaIsoVisitor<ExecutionContext>() {
+                new QuarkusLogVisitor(getName(), guardExpensiveArguments) {
                     @Override
-                    public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
-                        J.ClassDeclaration cd = super.visitClassDeclaration(classDecl, ctx);
-                        if (cd != classDecl) {
-                            doAfterVisit(new RemoveAnnotationVisitor(new AnnotationMatcher("@lombok.extern.slf4j.Slf4j")));
-                        }
-                        return cd;
+                    String loggerType() {
+                        return ORG_SLF_4_J_LOGGER;
                     }
 
                     @Override
-                    public J.MethodInvocation visitMethodInvocation(J.MethodInvocation methodInvocation, ExecutionContext ctx) {
-                        J.MethodInvocation mi = super.visitMethodInvocation(methodInvocation, ctx);
-                        if (!LOGGER_TRACE.matches(mi) &&
-                                !LOGGER_DEBUG.matches(mi) &&
-                                !LOGGER_INFO.matches(mi) &&
-                                !LOGGER_WARN.matches(mi) &&
-                                !LOGGER_ERROR.matches(mi)) {
-                            return mi;
-                        }
+                    List<String> loggerImports() {
+                        return singletonList("org.slf4j.LoggerFactory");
+                    }
 
-                        maybeRemoveImport(ORG_SLF_4_J_LOGGER);
-                        maybeAddImport("io.quarkus.logging.Log");
-
-                        List<Expression> args = ListUtils.mapFirst(mi.getArguments(), arg ->
-                                arg instanceof J.Literal && ((J.Literal) arg).getValue() instanceof String ? ((J.Literal) arg)
-                                        .withValue(((String) ((J.Literal) arg).getValue()).replace("{}", "%s"))
-                                        .withValueSource(((J.Literal) arg).getValueSource().replace("{}", "%s")) : arg);
-                        String placeholders = String.join(", ", nCopies(args.size(), "#{any()}"));
-                        String template = String.format("Log.%s%s(%s)", mi.getSimpleName(), 1 < args.size() ? "f" : "", placeholders);
-                        return JavaTemplate.builder(template)
-                                .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "quarkus-core"))
-                                .imports("io.quarkus.logging.Log")
-                                .build()
-                                .apply(updateCursor(mi), mi.getCoordinates().replace(), args.toArray());
+                    @Override
+                    String lombokAnnotation() {
+                        return "lombok.extern.slf4j.Slf4j";
                     }
 
                     @Override
-                    public J.@Nullable VariableDeclarations visitVariableDeclarations(J.VariableDeclarations multiVariable, ExecutionContext ctx) {
-                        J.VariableDeclarations variableDeclarations = super.visitVariableDeclarations(multiVariable, ctx);
-                        if (TypeUtils.isOfClassType(variableDeclarations.getType(), ORG_SLF_4_J_LOGGER)) {
-                            maybeRemoveImport(ORG_SLF_4_J_LOGGER);
-                            maybeRemoveImport("org.slf4j.LoggerFactory");
-                            maybeRemoveImport("javax.inject.Inject");
-                            maybeRemoveImport("jakarta.inject.Inject");
+                    @Nullable LogCall logCall(J.MethodInvocation method) {
+                        if (!LOGGER_TRACE.matches(method) &&
+                                !LOGGER_DEBUG.matches(method) &&
+                                !LOGGER_INFO.matches(method) &&
+                                !LOGGER_WARN.matches(method) &&
+                                !LOGGER_ERROR.matches(method)) {
                             return null;
                         }
-                        return variableDeclarations;
+                        return new LogCall(method.getSimpleName(), Style.BRACES, method.getArguments());
+                    }
+
+                    @Override
+                    @Nullable String checkedLevel(J.MethodInvocation method) {
+                        if (LOGGER_IS_ENABLED.matches(method)) {
+                            String name = method.getSimpleName();
+                            return name.substring("is".length(), name.length() - "Enabled".length()).toLowerCase(Locale.ROOT);
+                        }
+                        return null;
                     }
                 }
-        );
+        ));
     }
 }
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.marker.JavaProject;
+import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.quarkus.table.ConsolePrintReplacements;
+import org.openrewrite.quarkus.table.QuarkusRecipePerformance;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Collections.emptyList;
+
+@EqualsAndHashCode(callSuper = false)
+@Value
+public class SystemOutToQuarkusLog extends Recipe {
+
+    private static final MethodMatcher PRINTLN = new MethodMatcher("java.io.PrintStream println(..)");
+    private static final MethodMatcher PRINTF = new MethodMatcher("java.io.PrintStream printf(String, ..)");
+    private static final MethodMatcher FORMAT = new MethodMatcher("java.io.PrintStream format(String, ..)");
+
+    private static final String REPLACEMENTS = "REPLACEMENTS";
+
+    /**
+     * CDI scopes and stereotypes of the beans whose console output is migrated.
+     */
+    private static final Set<String> BEAN_ANNOTATIONS = new HashSet<>(Arrays.asList(
+            "javax.enterprise.context.ApplicationScoped",
+            "javax.enterprise.context.RequestScoped",
+            "javax.enterprise.context.SessionScoped",
+            "javax.enterprise.context.Dependent",
+            "javax.inject.Singleton",
+            "jakarta.enterprise.context.ApplicationScoped",
+            "jakarta.enterprise.context.RequestScoped",
+            "jakarta.enterprise.context.SessionScoped",
+            "jakarta.enterprise.context.Dependent",
+            "jakarta.inject.Singleton"
+    ));
+
+    String displayName = "Replace `System.out` and `System.err` printing in Quarkus beans with Quarkus `Log`";
+
+    String description = "Replaces `System.out` and `System.err` `println`, `printf` and `format` calls in CDI beans and " +
+            "JAX-RS classes with `Log.info` and `Log.error` calls, turning concatenated messages into format placeholders. " +
+            "Unlike the console streams, `Log` does not serialize callers on a stream lock and supports asynchronous logging.";
+
+    transient ConsolePrintReplacements replacements = new ConsolePrintReplacements(this);
+
+    transient QuarkusRecipePerformance performance = new QuarkusRecipePerformance(this);
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return new QuarkusRecipePerformanceVisitor(getName(), performance, Preconditions.check(Preconditions.or(
+                new UsesMethod<>(PRINTLN),
+                new UsesMethod<>(PRINTF),
+                new UsesMethod<>(FORMAT)
+        ), new QuarkusLogVisitor(getName(), null) {
+            @Override
+            @Nullable String loggerType() {
+                return null;
+            }
+
+            @Override
+            List<String> loggerImports() {
+                return emptyList();
+            }
+
+            @Override
+            @Nullable String lombokAnnotation() {
+                return null;
+            }
+
+            @Override
+            boolean formatConcatenations() {
+                return true;
+            }
+
+            @Override
+            public J.CompilationUnit visitCompilationUnit(J.CompilationUnit cu, ExecutionContext ctx) {
+                J.CompilationUnit c = super.visitCompilationUnit(cu, ctx);
+                AtomicInteger count = getCursor().pollMessage(REPLACEMENTS);
+                if (count != null) {
+                    String module = c.getMarkers().findFirst(JavaProject.class).map(JavaProject::getProjectName).orElse("");
+                    replacements.insertRow(ctx, new ConsolePrintReplacements.Row(module, c.getSourcePath().toString(), count.get()));
+                }
+                return c;
+            }
+
+            @Override
+            @Nullable LogCall logCall(J.MethodInvocation method) {
+                String level = level(method.getSelect());
+                if (level == null || !isBean(getCursor().firstEnclosing(J.ClassDeclaration.class))) {
+                    return null;
+                }
+                LogCall logCall = null;
+                if (PRINTLN.matches(method) && method.getArguments().size() == 1 && !(method.getArguments().get(0) instanceof J.Empty)) {
+                    logCall = new LogCall(level, Style.PLAIN, method.getArguments());
+                } else if (PRINTF.matches(method) || FORMAT.matches(method)) {
+                    logCall = new LogCall(level, Style.PRINTF, withoutTrailingNewline(method.getArguments()));
+                }
+                if (logCall != null) {
+                    getCursor().dropParentUntil(J.CompilationUnit.class::isInstance)
+                            .computeMessageIfAbsent(REPLACEMENTS, k -> new AtomicInteger())
+                            .incrementAndGet();
+                }
+                return logCall;
+            }
+
+            @Override
+            @Nullable String checkedLevel(J.MethodInvocation method) {
+                return null;
+            }
+        }));
+    }
+
+    /**
+     * @return {@code info} for {@code System.out}, {@code error} for {@code System.err}, {@code null} otherwise.
+     */
+    private static @Nullable String level(@Nullable Expression select) {
+        J.Identifier name = select instanceof J.FieldAccess ? ((J.FieldAccess) select).getName() :
+                select instanceof J.Identifier ? (J.Identifier) select : null;
+        if (name == null || name.getFieldType() == null ||
+            !TypeUtils.isOfClassType(name.getFieldType().getOwner(), "java.lang.System")) {
+            return null;
+        }
+        return "out".equals(name.getSimpleName()) ? "info" : "err".equals(name.getSimpleName()) ? "error" : null;
+    }
+
+    private static boolean isBean(J.@Nullable ClassDeclaration classDecl) {
+        if (classDecl == null) {
+            return false;
+        }
+        for (J.Annotation annotation : classDecl.getLeadingAnnotations()) {
+            JavaType.FullyQualified type = TypeUtils.asFullyQualified(annotation.getType());
+            if (type != null && (BEAN_ANNOTATIONS.contains(type.getFullyQualifiedName()) ||
+                                 type.getFullyQualifiedName().startsWith("javax.ws.rs.") ||
+                                 type.getFullyQualifiedName().startsWith("jakarta.ws.rs."))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * {@code Log} terminates every message, so a trailing {@code %n} of a format string would print an empty line.
+     */
+    private static List<Expression> withoutTrailingNewline(List<Expression> args) {
+        Expression format = args.get(0);
+        if (format instanceof J.Literal && ((J.Literal) format).getValue() instanceof String) {
+            J.Literal literal = (J.Literal) format;
+            String value = (String) literal.getValue();
+            String valueSource = literal.getValueSource();
+            if (value.endsWith("%n") && valueSource != null && valueSource.endsWith("%n\"")) {
+                return ListUtils.mapFirst(args, arg -> literal
+                        .withValue(value.substring(0, value.length() - 2))
+                        .withValueSource(valueSource.substring(0, valueSource.length() - 3) + "\""));
+            }
+        }
+        return args;
+    }
+}
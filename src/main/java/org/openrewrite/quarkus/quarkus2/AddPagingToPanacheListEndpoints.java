@@ -0,0 +1,283 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.quarkus2;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.quarkus.QuarkusEndpointUtils;
+import org.openrewrite.quarkus.QuarkusRecipePerformanceVisitor;
+import org.openrewrite.quarkus.table.QuarkusRecipePerformance;
+import org.openrewrite.quarkus.table.UnpagedPanacheEndpoints;
+
+import java.util.*;
+
+import static java.util.Collections.nCopies;
+
+@EqualsAndHashCode(callSuper = false)
+@Value
+public class AddPagingToPanacheListEndpoints extends Recipe {
+
+    private static final String PAGE = "io.quarkus.panache.common.Page";
+    private static final String PAGED_QUERY = "PAGED_QUERY";
+
+    /**
+     * Methods building a response with the listed entities as its body.
+     */
+    private static final MethodMatcher[] RESPONSE_BUILDERS = {
+            new MethodMatcher("javax.ws.rs.core.Response ok(..)"),
+            new MethodMatcher("jakarta.ws.rs.core.Response ok(..)"),
+            new MethodMatcher("javax.ws.rs.core.Response.ResponseBuilder entity(..)"),
+            new MethodMatcher("jakarta.ws.rs.core.Response.ResponseBuilder entity(..)"),
+            new MethodMatcher("org.jboss.resteasy.reactive.RestResponse ok(..)"),
+            new MethodMatcher("org.jboss.resteasy.reactive.RestResponse.ResponseBuilder entity(..)")
+    };
+
+    @Option(displayName = "Default page size",
+            description = "The number of entities returned when a request does not specify the `size` query " +
+                          "parameter. Defaults to 20 when not specified.",
+            required = false,
+            example = "50")
+    @Nullable
+    Integer defaultPageSize;
+
+    String displayName = "Page Panache list queries in REST endpoints";
+
+    String description = "Adds optional `page` and `size` `@QueryParam` parameters to JAX-RS `GET` endpoints " +
+            "returning all entities of a Hibernate ORM or Hibernate Reactive Panache query, such as " +
+            "`Entity.listAll()` or `Entity.find(..).list()`, and pages the query with `page(Page.of(page, size))`. " +
+            "Endpoints listing entities that cannot be paged safely are listed in a data table.";
+
+    transient UnpagedPanacheEndpoints unpagedEndpoints = new UnpagedPanacheEndpoints(this);
+
+    public AddPagingToPanacheListEndpoints() {
+        this(null);
+    }
+
+    @JsonCreator
+    public AddPagingToPanacheListEndpoints(@Nullable Integer defaultPageSize) {
+        this.defaultPageSize = defaultPageSize;
+    }
+
+    @Override
+    public Validated<Object> validate() {
+        return super.validate().and(Validated.test("defaultPageSize", "Must be positive", defaultPageSize,
+                s -> s == null || s > 0));
+    }
+
+    transient QuarkusRecipePerformance performance = new QuarkusRecipePerformance(this);
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        int pageSize = defaultPageSize == null ? 20 : defaultPageSize;
+        return new QuarkusRecipePerformanceVisitor(getName(), performance, Preconditions.check(Preconditions.and(
+                Preconditions.or(
+                        new UsesType<>("javax.ws.rs.*", null),
+                        new UsesType<>("jakarta.ws.rs.*", null)
+                ),
+                Preconditions.or(
+                        new UsesType<>(PanacheUtils.ENTITY_BASE, true),
+                        new UsesType<>(PanacheUtils.REACTIVE_ENTITY_BASE, true)
+                )
+        ), new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public void doAfterVisit(TreeVisitor<?, ExecutionContext> visitor) {
+                QuarkusRecipePerformanceVisitor.afterVisitScheduled();
+                super.doAfterVisit(visitor);
+            }
+
+            @Override
+            public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
+                String jaxRs = getNamespace(method);
+                if (method.getBody() == null || jaxRs == null || !QuarkusEndpointUtils.isRestEndpoint(method)) {
+                    return super.visitMethodDeclaration(method, ctx);
+                }
+                ListQueryScanner scanner = new ListQueryScanner();
+                scanner.visit(method.getBody(), ctx, getCursor());
+                if (scanner.queries.isEmpty()) {
+                    return super.visitMethodDeclaration(method, ctx);
+                }
+
+                for (Statement parameter : method.getParameters()) {
+                    if (parameter instanceof J.VariableDeclarations) {
+                        scanner.variables.add(((J.VariableDeclarations) parameter).getVariables().get(0).getSimpleName());
+                    }
+                }
+                String reason = null;
+                if (scanner.queries.size() > 1) {
+                    reason = "lists entities more than once";
+                } else if (!scanner.returned) {
+                    reason = "does not return the listed entities as is";
+                } else if (scanner.variables.contains("page") || scanner.variables.contains("size")) {
+                    reason = "already declares a `page` or `size` variable";
+                } else if (!isPageable(scanner.queries.get(0))) {
+                    reason = "lists entities of a qualified entity class";
+                }
+                if (reason != null) {
+                    J.ClassDeclaration classDecl = getCursor().firstEnclosingOrThrow(J.ClassDeclaration.class);
+                    unpagedEndpoints.insertRow(ctx, new UnpagedPanacheEndpoints.Row(
+                            getCursor().firstEnclosingOrThrow(JavaSourceFile.class).getSourcePath().toString(),
+                            classDecl.getType() == null ? classDecl.getSimpleName() : classDecl.getType().getFullyQualifiedName(),
+                            method.getSimpleName(),
+                            reason));
+                    return super.visitMethodDeclaration(method, ctx);
+                }
+
+                // Add the parameters first so that paging the query can refer to them
+                J.MethodDeclaration m = addPagingParameters(method, jaxRs);
+                updateCursor(m);
+                getCursor().putMessage(PAGED_QUERY, scanner.queries.get(0).getId());
+                return super.visitMethodDeclaration(m, ctx);
+            }
+
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                J.MethodInvocation m = super.visitMethodInvocation(method, ctx);
+                if (!method.getId().equals(getCursor().getNearestMessage(PAGED_QUERY))) {
+                    return m;
+                }
+
+                maybeAddImport(PAGE);
+                if (PanacheUtils.QUERY_LIST.matches(m) || PanacheUtils.REACTIVE_QUERY_LIST.matches(m)) {
+                    // Entity.find(..).list()
+                    return JavaTemplate.builder("#{any()}.page(Page.of(page, size)).list()")
+                            .contextSensitive()
+                            .imports(PAGE)
+                            .build()
+                            .apply(updateCursor(m), m.getCoordinates().replace(), m.getSelect());
+                }
+                // Entity.listAll(..) and Entity.list(..)
+                List<Expression> arguments = ListUtils.map(m.getArguments(), a -> a instanceof J.Empty ? null : a);
+                String find = PanacheUtils.LIST_ALL.matches(m) || PanacheUtils.REACTIVE_LIST_ALL.matches(m) ? "findAll" : "find";
+                return JavaTemplate.builder((m.getSelect() == null ? "" : ((J.Identifier) m.getSelect()).getSimpleName() + ".") +
+                                            find + "(" + String.join(", ", nCopies(arguments.size(), "#{any()}")) + ")" +
+                                            ".page(Page.of(page, size)).list()")
+                        .contextSensitive()
+                        .imports(PAGE)
+                        .build()
+                        .apply(updateCursor(m), m.getCoordinates().replace(), arguments.toArray());
+            }
+
+            private J.MethodDeclaration addPagingParameters(J.MethodDeclaration method, String jaxRs) {
+                maybeAddImport(jaxRs + ".QueryParam");
+                maybeAddImport(jaxRs + ".DefaultValue");
+                J.MethodDeclaration paged = JavaTemplate.builder(
+                                "@QueryParam(\"page\") @DefaultValue(\"0\") int page, " +
+                                "@QueryParam(\"size\") @DefaultValue(\"" + pageSize + "\") int size")
+                        .contextSensitive()
+                        .imports(jaxRs + ".QueryParam", jaxRs + ".DefaultValue")
+                        .build()
+                        .apply(getCursor(), method.getCoordinates().replaceParameters());
+
+                List<Statement> parameters = ListUtils.map(method.getParameters(), p -> p instanceof J.Empty ? null : p);
+                if (!parameters.isEmpty()) {
+                    paged = paged.withParameters(ListUtils.concatAll(parameters,
+                            ListUtils.mapFirst(paged.getParameters(), p -> p.withPrefix(Space.SINGLE_SPACE))));
+                }
+                JavaType.Method type = method.getMethodType();
+                if (type != null) {
+                    type = type.withParameterNames(ListUtils.concatAll(type.getParameterNames(), Arrays.asList("page", "size")))
+                            .withParameterTypes(ListUtils.concatAll(type.getParameterTypes(),
+                                    Arrays.asList(JavaType.Primitive.Int, JavaType.Primitive.Int)));
+                    paged = paged.withMethodType(type).withName(paged.getName().withType(type));
+                }
+                return paged;
+            }
+        }));
+    }
+
+    /**
+     * @return The JAX-RS package of the {@code @GET} annotation of the method, or {@code null} when it is no
+     * {@code GET} endpoint.
+     */
+    private static @Nullable String getNamespace(J.MethodDeclaration method) {
+        for (J.Annotation annotation : method.getLeadingAnnotations()) {
+            if (TypeUtils.isOfClassType(annotation.getType(), "javax.ws.rs.GET")) {
+                return "javax.ws.rs";
+            } else if (TypeUtils.isOfClassType(annotation.getType(), "jakarta.ws.rs.GET")) {
+                return "jakarta.ws.rs";
+            }
+        }
+        return null;
+    }
+
+    private static boolean isPageable(J.MethodInvocation query) {
+        return PanacheUtils.QUERY_LIST.matches(query) || PanacheUtils.REACTIVE_QUERY_LIST.matches(query) ||
+               query.getSelect() == null || query.getSelect() instanceof J.Identifier;
+    }
+
+    /**
+     * Collects the Panache queries listing entities without paging, and the variables declared, in an endpoint.
+     */
+    private static class ListQueryScanner extends JavaIsoVisitor<ExecutionContext> {
+        final List<J.MethodInvocation> queries = new ArrayList<>();
+        final Set<String> variables = new HashSet<>();
+        boolean returned = true;
+
+        @Override
+        public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+            return classDecl;
+        }
+
+        @Override
+        public J.VariableDeclarations.NamedVariable visitVariable(J.VariableDeclarations.NamedVariable variable, ExecutionContext ctx) {
+            variables.add(variable.getSimpleName());
+            return super.visitVariable(variable, ctx);
+        }
+
+        @Override
+        public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+            if (PanacheUtils.listQuery(method) != null) {
+                queries.add(method);
+                returned &= isReturned(method);
+            }
+            return super.visitMethodInvocation(method, ctx);
+        }
+
+        /**
+         * @return Whether the query is returned as is, or as the body of a response such as
+         * {@code Response.ok(query).build()}.
+         */
+        private boolean isReturned(J.MethodInvocation query) {
+            Cursor parent = getCursor().getParentTreeCursor();
+            if (parent.getValue() instanceof J.MethodInvocation && isResponseBody(parent.getValue(), query)) {
+                while (parent.getParentTreeCursor().getValue() instanceof J.MethodInvocation &&
+                       ((J.MethodInvocation) parent.getParentTreeCursor().getValue()).getSelect() == parent.getValue()) {
+                    parent = parent.getParentTreeCursor();
+                }
+                parent = parent.getParentTreeCursor();
+            }
+            return parent.getValue() instanceof J.Return;
+        }
+
+        private static boolean isResponseBody(J.MethodInvocation builder, J.MethodInvocation query) {
+            for (MethodMatcher matcher : RESPONSE_BUILDERS) {
+                if (matcher.matches(builder)) {
+                    return builder.getArguments().get(0) == query;
+                }
+            }
+            return false;
+        }
+    }
+}
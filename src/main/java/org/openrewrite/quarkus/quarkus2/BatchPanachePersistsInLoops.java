@@ -0,0 +1,366 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.quarkus2;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.VariableNameUtils;
+import org.openrewrite.java.marker.JavaProject;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.Markers;
+import org.openrewrite.quarkus.AddQuarkusProperty;
+import org.openrewrite.quarkus.QuarkusRecipePerformanceVisitor;
+import org.openrewrite.quarkus.table.QuarkusRecipePerformance;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+
+@EqualsAndHashCode(callSuper = false)
+@Value
+public class BatchPanachePersistsInLoops extends ScanningRecipe<BatchPanachePersistsInLoops.Accumulator> {
+
+    private static final MethodMatcher UNI_CALL = new MethodMatcher("io.smallrye.mutiny.Uni call(..)");
+    private static final String STATEMENT_BATCH_SIZE = "quarkus.hibernate-orm.jdbc.statement-batch-size";
+
+    /**
+     * Stands for the source files without a {@link JavaProject} marker.
+     */
+    private static final UUID NO_PROJECT = new UUID(0, 0);
+
+    @Option(displayName = "Statement batch size",
+            description = "The value of `quarkus.hibernate-orm.jdbc.statement-batch-size` to add to the configuration " +
+                          "of projects persisting entities in batches, when not configured yet. Defaults to `50`.",
+            required = false,
+            example = "50")
+    @Nullable
+    Integer statementBatchSize;
+
+    String displayName = "Batch Panache `persist()` calls in loops";
+
+    String description = "Replaces Panache `persist()` calls ending the body of a loop with a single call to the static " +
+            "`persist(Iterable)` after the loop, collecting the entities in a list when needed. For Hibernate Reactive " +
+            "Panache, a `uni = uni.call(() -> entity.persist())` chaining one `Uni` per entity is replaced in the same " +
+            "way. Also configures the JDBC statement batch size, so that the inserts are sent in batches.";
+
+    transient QuarkusRecipePerformance performance = new QuarkusRecipePerformance(this);
+
+    public BatchPanachePersistsInLoops() {
+        this(null);
+    }
+
+    @JsonCreator
+    public BatchPanachePersistsInLoops(@Nullable Integer statementBatchSize) {
+        this.statementBatchSize = statementBatchSize;
+    }
+
+    public static class Accumulator {
+        final Set<UUID> projects = new HashSet<>();
+    }
+
+    @Override
+    public Accumulator getInitialValue(ExecutionContext ctx) {
+        return new Accumulator();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
+        return new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.ForEachLoop visitForEachLoop(J.ForEachLoop forLoop, ExecutionContext ctx) {
+                if (batch(forLoop) != null) {
+                    acc.projects.add(project(getCursor().firstEnclosingOrThrow(SourceFile.class)));
+                }
+                return super.visitForEachLoop(forLoop, ctx);
+            }
+
+            @Override
+            public J.ForLoop visitForLoop(J.ForLoop forLoop, ExecutionContext ctx) {
+                if (batch(forLoop) != null) {
+                    acc.projects.add(project(getCursor().firstEnclosingOrThrow(SourceFile.class)));
+                }
+                return super.visitForLoop(forLoop, ctx);
+            }
+        };
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(Accumulator acc) {
+        TreeVisitor<?, ExecutionContext> addBatchSize = new AddQuarkusProperty(STATEMENT_BATCH_SIZE,
+                String.valueOf(statementBatchSize == null ? 50 : statementBatchSize), null, null, null).getVisitor();
+        JavaIsoVisitor<ExecutionContext> batchPersists = new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public void doAfterVisit(TreeVisitor<?, ExecutionContext> visitor) {
+                QuarkusRecipePerformanceVisitor.afterVisitScheduled();
+                super.doAfterVisit(visitor);
+            }
+
+            @Override
+            public J.Block visitBlock(J.Block block, ExecutionContext ctx) {
+                J.Block b = super.visitBlock(block, ctx);
+                for (Statement statement : b.getStatements()) {
+                    Batch batch = batch(statement);
+                    if (batch != null) {
+                        b = batch.wholeIterable ? persistIterable(b, batch) : persistCollected(b, batch);
+                    }
+                }
+                return b;
+            }
+
+            /**
+             * Replaces the loop with a single {@code persist(Iterable)} of the iterated entities.
+             */
+            private J.Block persistIterable(J.Block b, Batch batch) {
+                String entity = batch.getEntityType().getClassName();
+                Expression iterable = ((J.ForEachLoop) batch.getLoop()).getControl().getIterable();
+                return JavaTemplate.builder(entity + ".persist(#{any(java.lang.Iterable)});")
+                        .contextSensitive()
+                        .build()
+                        .apply(updateCursor(b), batch.getLoop().getCoordinates().replace(), iterable);
+            }
+
+            /**
+             * Adds the entities to a list in the loop, and persists the list after the loop.
+             */
+            private J.Block persistCollected(J.Block b, Batch batch) {
+                JavaType.FullyQualified entityType = batch.getEntityType();
+                String entity = entityType.getClassName();
+                String name = VariableNameUtils.generateVariableName("toPersist", getCursor(), VariableNameUtils.GenerationStrategy.INCREMENT_NUMBER);
+
+                JavaType.Parameterized listType = new JavaType.Parameterized(null, JavaType.ShallowClass.build("java.util.List"), singletonList(entityType));
+                J.Identifier list = new J.Identifier(Tree.randomId(), Space.EMPTY, Markers.EMPTY, emptyList(), name, listType,
+                        new JavaType.Variable(null, 0, name, null, listType, emptyList()));
+                Statement persist = batch.getPersist();
+                Statement add = JavaTemplate.builder("#{any(java.util.List)}.add(#{any()})")
+                        .build()
+                        .apply(new Cursor(getCursor(), persist), persist.getCoordinates().replace(), list, batch.getEntity());
+                Statement loop = withLastStatement(batch.getLoop(), add);
+                b = b.withStatements(ListUtils.map(b.getStatements(), s -> s == batch.getLoop() ? loop : s));
+
+                maybeAddImport("java.util.List");
+                maybeAddImport("java.util.ArrayList");
+                b = JavaTemplate.builder("List<" + entity + "> " + name + " = new ArrayList<>();")
+                        .contextSensitive()
+                        .imports("java.util.List", "java.util.ArrayList")
+                        .build()
+                        .apply(updateCursor(b), loop.getCoordinates().before());
+                String persistAll = batch.getUni() == null ?
+                        entity + ".persist(" + name + ");" :
+                        batch.getUni().getSimpleName() + " = " + batch.getUni().getSimpleName() + ".call(() -> " + entity + ".persist(" + name + "));";
+                return JavaTemplate.builder(persistAll)
+                        .contextSensitive()
+                        .build()
+                        .apply(updateCursor(b), loop.getCoordinates().after());
+            }
+        };
+
+        return new QuarkusRecipePerformanceVisitor(getName(), performance, new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (tree instanceof JavaSourceFile) {
+                    return batchPersists.visit(tree, ctx);
+                }
+                if (tree instanceof SourceFile && acc.projects.contains(project((SourceFile) tree)) &&
+                    addBatchSize.isAcceptable((SourceFile) tree, ctx)) {
+                    return addBatchSize.visit(tree, ctx);
+                }
+                return tree;
+            }
+        });
+    }
+
+    private static UUID project(SourceFile sourceFile) {
+        return sourceFile.getMarkers().findFirst(JavaProject.class).map(JavaProject::getId).orElse(NO_PROJECT);
+    }
+
+    @Value
+    private static class Batch {
+        Statement loop;
+
+        /**
+         * The last statement of the loop body, persisting the entity.
+         */
+        Statement persist;
+
+        J.Identifier entity;
+
+        JavaType.FullyQualified entityType;
+
+        /**
+         * The {@code Uni} variable the reactive persists are chained to.
+         */
+        J.@Nullable Identifier uni;
+
+        /**
+         * Whether the loop persists each entity of an {@link Iterable}, and nothing else, without chaining {@code Uni}s.
+         */
+        boolean wholeIterable;
+    }
+
+    /**
+     * @return The persist call ending the body of the loop, when it can be moved after the loop.
+     */
+    private static @Nullable Batch batch(Statement loop) {
+        Statement body;
+        if (loop instanceof J.ForEachLoop) {
+            body = ((J.ForEachLoop) loop).getBody();
+        } else if (loop instanceof J.ForLoop) {
+            body = ((J.ForLoop) loop).getBody();
+        } else {
+            return null;
+        }
+        List<Statement> statements = body instanceof J.Block ? ((J.Block) body).getStatements() : singletonList(body);
+        if (statements.isEmpty()) {
+            return null;
+        }
+
+        Statement last = statements.get(statements.size() - 1);
+        J.MethodInvocation persist;
+        J.Identifier uni = null;
+        if (last instanceof J.MethodInvocation && PanacheUtils.PERSIST.matches((J.MethodInvocation) last)) {
+            persist = (J.MethodInvocation) last;
+        } else if (last instanceof J.Assignment) {
+            uni = chainedUni((J.Assignment) last);
+            if (uni == null) {
+                return null;
+            }
+            persist = (J.MethodInvocation) ((J.Lambda) ((J.MethodInvocation) ((J.Assignment) last).getAssignment()).getArguments().get(0)).getBody();
+        } else {
+            return null;
+        }
+
+        if (!(persist.getSelect() instanceof J.Identifier)) {
+            return null;
+        }
+        J.Identifier entity = (J.Identifier) persist.getSelect();
+        JavaType.FullyQualified entityType = TypeUtils.asFullyQualified(entity.getType());
+        if (entityType == null || hasReturnOrOtherPersist(body, uni)) {
+            return null;
+        }
+
+        // The lambda chained to a Uni could only capture an effectively final iterable, and reads it on subscription
+        boolean wholeIterable = false;
+        if (loop instanceof J.ForEachLoop && statements.size() == 1 && uni == null) {
+            J.ForEachLoop.Control control = ((J.ForEachLoop) loop).getControl();
+            wholeIterable = control.getVariable().getVariables().get(0).getSimpleName().equals(entity.getSimpleName()) &&
+                            TypeUtils.isAssignableTo("java.lang.Iterable", control.getIterable().getType());
+        }
+        return new Batch(loop, last, entity.withPrefix(Space.EMPTY), entityType, uni, wholeIterable);
+    }
+
+    /**
+     * @return The variable of {@code uni = uni.call(() -> entity.persist())}.
+     */
+    private static J.@Nullable Identifier chainedUni(J.Assignment assignment) {
+        if (!(assignment.getVariable() instanceof J.Identifier) || !(assignment.getAssignment() instanceof J.MethodInvocation)) {
+            return null;
+        }
+        J.Identifier uni = (J.Identifier) assignment.getVariable();
+        J.MethodInvocation call = (J.MethodInvocation) assignment.getAssignment();
+        if (!UNI_CALL.matches(call) ||
+            !(call.getSelect() instanceof J.Identifier) ||
+            !((J.Identifier) call.getSelect()).getSimpleName().equals(uni.getSimpleName()) ||
+            call.getArguments().size() != 1 ||
+            !(call.getArguments().get(0) instanceof J.Lambda)) {
+            return null;
+        }
+        J lambdaBody = ((J.Lambda) call.getArguments().get(0)).getBody();
+        return lambdaBody instanceof J.MethodInvocation && PanacheUtils.REACTIVE_PERSIST.matches((J.MethodInvocation) lambdaBody) ? uni : null;
+    }
+
+    /**
+     * A {@code return} would skip the persist after the loop, and persisting other entities in the loop would change
+     * the order of the inserts. Chaining other {@code Uni}s to the variable the persists are chained to would run them
+     * all before the persists.
+     */
+    private static boolean hasReturnOrOtherPersist(Statement body, J.@Nullable Identifier uni) {
+        AtomicBoolean returns = new AtomicBoolean();
+        AtomicInteger persists = new AtomicInteger();
+        AtomicInteger chained = new AtomicInteger();
+        new JavaIsoVisitor<Integer>() {
+            @Override
+            public J.Return visitReturn(J.Return _return, Integer p) {
+                returns.set(true);
+                return _return;
+            }
+
+            @Override
+            public J.Assignment visitAssignment(J.Assignment assignment, Integer p) {
+                if (uni != null && assignment.getVariable() instanceof J.Identifier &&
+                    ((J.Identifier) assignment.getVariable()).getSimpleName().equals(uni.getSimpleName())) {
+                    chained.incrementAndGet();
+                }
+                return super.visitAssignment(assignment, p);
+            }
+
+            @Override
+            public J.Lambda visitLambda(J.Lambda lambda, Integer p) {
+                J lambdaBody = lambda.getBody();
+                if (lambdaBody instanceof J.MethodInvocation && isPersist((J.MethodInvocation) lambdaBody)) {
+                    persists.incrementAndGet();
+                }
+                return lambda;
+            }
+
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, Integer p) {
+                if (isPersist(method)) {
+                    persists.incrementAndGet();
+                }
+                return super.visitMethodInvocation(method, p);
+            }
+
+            @Override
+            public J.NewClass visitNewClass(J.NewClass newClass, Integer p) {
+                return newClass;
+            }
+        }.visit(body, 0);
+        return returns.get() || persists.get() > 1 || chained.get() > 1;
+    }
+
+    private static boolean isPersist(J.MethodInvocation method) {
+        return PanacheUtils.PERSIST.matches(method) || PanacheUtils.REACTIVE_PERSIST.matches(method);
+    }
+
+    private static Statement withLastStatement(Statement loop, Statement last) {
+        if (loop instanceof J.ForEachLoop) {
+            J.ForEachLoop forEachLoop = (J.ForEachLoop) loop;
+            return forEachLoop.withBody(withLastStatement(forEachLoop.getBody(), last));
+        }
+        J.ForLoop forLoop = (J.ForLoop) loop;
+        return forLoop.withBody(withLastStatement(forLoop.getBody(), last));
+    }
+
+    private static Statement withLastStatement(Statement body, Statement last) {
+        if (body instanceof J.Block) {
+            return ((J.Block) body).withStatements(ListUtils.mapLast(((J.Block) body).getStatements(), s -> last));
+        }
+        return last;
+    }
+}
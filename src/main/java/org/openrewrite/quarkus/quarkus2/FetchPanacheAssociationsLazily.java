@@ -0,0 +1,245 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.quarkus2;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.quarkus.QuarkusRecipePerformanceVisitor;
+import org.openrewrite.quarkus.table.QuarkusRecipePerformance;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static java.util.Collections.nCopies;
+
+@EqualsAndHashCode(callSuper = false)
+@Value
+public class FetchPanacheAssociationsLazily extends Recipe {
+
+    private static final String BATCH_SIZE = "org.hibernate.annotations.BatchSize";
+
+    /**
+     * The alias of the entity in the fetching query, which is no reserved word unlike the loop variable may be.
+     */
+    private static final String ALIAS = "e";
+
+    @Option(displayName = "Batch size",
+            description = "The number of collections loaded together when a lazy collection formerly fetched " +
+                          "eagerly is accessed. Defaults to 16 when not specified.",
+            required = false,
+            example = "32")
+    @Nullable
+    Integer batchSize;
+
+    String displayName = "Fetch Panache associations lazily";
+
+    String description = "Switches associations of Hibernate ORM Panache entities fetched eagerly, either " +
+            "explicitly or as `@ManyToOne` and `@OneToOne` do by default, to `FetchType.LAZY`, and batches the " +
+            "formerly eager collections with `@BatchSize`. Loops over `Entity.listAll()` navigating a single " +
+            "association of each entity list the entities with a `left join fetch` query instead, so that the " +
+            "association is loaded by the same query.";
+
+    public FetchPanacheAssociationsLazily() {
+        this(null);
+    }
+
+    @JsonCreator
+    public FetchPanacheAssociationsLazily(@Nullable Integer batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public Validated<Object> validate() {
+        return super.validate().and(Validated.test("batchSize", "Must be positive", batchSize,
+                s -> s == null || s > 0));
+    }
+
+    transient QuarkusRecipePerformance performance = new QuarkusRecipePerformance(this);
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        int size = batchSize == null ? 16 : batchSize;
+        return new QuarkusRecipePerformanceVisitor(getName(), performance, Preconditions.check(
+                new UsesType<>(PanacheUtils.ENTITY_BASE, true),
+                new JavaIsoVisitor<ExecutionContext>() {
+                    @Override
+                    public void doAfterVisit(TreeVisitor<?, ExecutionContext> visitor) {
+                        QuarkusRecipePerformanceVisitor.afterVisitScheduled();
+                        super.doAfterVisit(visitor);
+                    }
+
+                    @Override
+                    public J.VariableDeclarations visitVariableDeclarations(J.VariableDeclarations multiVariable, ExecutionContext ctx) {
+                        J.VariableDeclarations mv = super.visitVariableDeclarations(multiVariable, ctx);
+                        J.ClassDeclaration classDecl = getCursor().firstEnclosing(J.ClassDeclaration.class);
+                        if (classDecl == null || !PanacheUtils.isEntity(classDecl.getType()) ||
+                            !(getCursor().getParentTreeCursor().getParentTreeCursor().getValue() instanceof J.ClassDeclaration)) {
+                            return mv;
+                        }
+
+                        boolean batched = false;
+                        for (J.Annotation annotation : mv.getLeadingAnnotations()) {
+                            JavaType.FullyQualified type = TypeUtils.asFullyQualified(annotation.getType());
+                            String association = PanacheUtils.associationName(type);
+                            J.Annotation lazy = association == null ? annotation : fetchLazily(mv, annotation, association, type.getPackageName());
+                            if (lazy != annotation) {
+                                batched |= PanacheUtils.TO_MANY_ASSOCIATIONS.contains(association);
+                                mv = mv.withLeadingAnnotations(ListUtils.map(mv.getLeadingAnnotations(), a -> a == annotation ? lazy : a));
+                            }
+                        }
+                        if (!batched || mv.getLeadingAnnotations().stream().anyMatch(a -> TypeUtils.isOfClassType(a.getType(), BATCH_SIZE))) {
+                            return mv;
+                        }
+                        maybeAddImport(BATCH_SIZE);
+                        return JavaTemplate.builder("@BatchSize(size = " + size + ")")
+                                .contextSensitive()
+                                .imports(BATCH_SIZE)
+                                .build()
+                                .apply(updateCursor(mv), mv.getCoordinates().addAnnotation(Comparator.comparing(J.Annotation::getSimpleName)));
+                    }
+
+                    /**
+                     * @return The association annotation fetching lazily, or the same annotation when it already does.
+                     */
+                    private J.Annotation fetchLazily(J.VariableDeclarations mv, J.Annotation annotation, String association, String persistence) {
+                        if (annotation.getArguments() != null) {
+                            for (Expression argument : annotation.getArguments()) {
+                                if (argument instanceof J.Assignment && ((J.Assignment) argument).getVariable() instanceof J.Identifier &&
+                                    "fetch".equals(((J.Identifier) ((J.Assignment) argument).getVariable()).getSimpleName())) {
+                                    Expression fetch = ((J.Assignment) argument).getAssignment();
+                                    if (!(fetch instanceof J.FieldAccess) || !"EAGER".equals(((J.FieldAccess) fetch).getSimpleName())) {
+                                        return annotation;
+                                    }
+                                    J.FieldAccess eager = (J.FieldAccess) fetch;
+                                    J.FieldAccess lazy = eager.withName(eager.getName().withSimpleName("LAZY"));
+                                    return annotation.withArguments(ListUtils.map(annotation.getArguments(), a -> a == argument ?
+                                            ((J.Assignment) argument).withAssignment(lazy) : a));
+                                }
+                            }
+                        }
+                        if (!PanacheUtils.TO_ONE_ASSOCIATIONS.contains(association)) {
+                            return annotation;
+                        }
+
+                        // @ManyToOne and @OneToOne fetch eagerly by default
+                        Object[] arguments = annotation.getArguments() == null ? new Object[0] :
+                                ListUtils.map(annotation.getArguments(), a -> a instanceof J.Empty ? null : a).toArray();
+                        maybeAddImport(persistence + ".FetchType");
+                        return JavaTemplate.builder(String.join("", nCopies(arguments.length, "#{any()}, ")) + "fetch = FetchType.LAZY")
+                                .contextSensitive()
+                                .imports(persistence + ".FetchType")
+                                .build()
+                                .apply(new Cursor(updateCursor(mv), annotation), annotation.getCoordinates().replaceArguments(), arguments);
+                    }
+
+                    @Override
+                    public J.ForEachLoop visitForEachLoop(J.ForEachLoop forLoop, ExecutionContext ctx) {
+                        J.ForEachLoop l = super.visitForEachLoop(forLoop, ctx);
+                        PanacheUtils.ListQuery query = PanacheUtils.listQuery(l.getControl().getIterable());
+                        J.VariableDeclarations variable = l.getControl().getVariable();
+                        JavaType.FullyQualified entity = TypeUtils.asFullyQualified(variable.getType());
+                        if (query == null || query.isQualified() || query.isReactive() || !query.isAll() || !query.getArguments().isEmpty() ||
+                            entity == null || !PanacheUtils.isEntity(entity) || hasEntityName(entity)) {
+                            return l;
+                        }
+
+                        Map<String, String> associations = navigatedAssociations(l.getBody(), variable.getVariables().get(0).getSimpleName(), entity);
+                        if (associations.size() != 1) {
+                            return l;
+                        }
+                        Map.Entry<String, String> association = associations.entrySet().iterator().next();
+                        String entityName = entity.getClassName().substring(entity.getClassName().lastIndexOf('.') + 1);
+                        // Fetching a collection repeats each entity once per element of the collection
+                        String hql = (PanacheUtils.TO_MANY_ASSOCIATIONS.contains(association.getValue()) ? "select distinct " + ALIAS + " " : "") +
+                                     "from " + entityName + " " + ALIAS + " left join fetch " + ALIAS + "." + association.getKey();
+                        Expression iterable = l.getControl().getIterable();
+                        // The type argument is needed for the for-each loop to infer the entity type
+                        iterable = JavaTemplate.builder(entity.getClassName() + ".<" + entity.getClassName() + ">list(\"" + hql + "\")")
+                                .contextSensitive()
+                                .build()
+                                .apply(new Cursor(new Cursor(updateCursor(l), l.getControl()), iterable), iterable.getCoordinates().replace());
+                        return l.withControl(l.getControl().withIterable(iterable));
+                    }
+                }));
+    }
+
+    /**
+     * @return Whether the entity may be named otherwise than its class in queries, through {@code @Entity(name = ..)}.
+     */
+    private static boolean hasEntityName(JavaType.FullyQualified entity) {
+        for (JavaType.FullyQualified annotation : entity.getAnnotations()) {
+            if (!"Entity".equals(annotation.getClassName()) ||
+                !"javax.persistence".equals(annotation.getPackageName()) && !"jakarta.persistence".equals(annotation.getPackageName())) {
+                continue;
+            }
+            if (!(annotation instanceof JavaType.Annotation)) {
+                // The attributes of the annotation are unknown
+                return true;
+            }
+            for (JavaType.Annotation.ElementValue value : ((JavaType.Annotation) annotation).getValues()) {
+                if (value.getElement() instanceof JavaType.Method && "name".equals(((JavaType.Method) value.getElement()).getName())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return The associations of the entity navigated through the named variable, by field name, with the simple
+     * name of their association annotation.
+     */
+    private static Map<String, String> navigatedAssociations(Statement statement, String name, JavaType.FullyQualified entity) {
+        Map<String, String> associations = new LinkedHashMap<>();
+        new JavaIsoVisitor<Map<String, String>>() {
+            @Override
+            public J.FieldAccess visitFieldAccess(J.FieldAccess fieldAccess, Map<String, String> a) {
+                if (fieldAccess.getTarget() instanceof J.Identifier &&
+                    ((J.Identifier) fieldAccess.getTarget()).getSimpleName().equals(name)) {
+                    navigated(fieldAccess.getSimpleName(), a);
+                }
+                return super.visitFieldAccess(fieldAccess, a);
+            }
+
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, Map<String, String> a) {
+                String field = PanacheUtils.getterField(method);
+                if (field != null && method.getSelect() instanceof J.Identifier &&
+                    ((J.Identifier) method.getSelect()).getSimpleName().equals(name)) {
+                    navigated(field, a);
+                }
+                return super.visitMethodInvocation(method, a);
+            }
+
+            private void navigated(String field, Map<String, String> a) {
+                String association = PanacheUtils.associationName(PanacheUtils.field(entity, field));
+                if (association != null) {
+                    a.put(field, association);
+                }
+            }
+        }.visit(statement, associations);
+        return associations;
+    }
+}
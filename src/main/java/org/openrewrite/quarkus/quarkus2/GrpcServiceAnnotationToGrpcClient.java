@@ -18,11 +18,15 @@ package org.openrewrite.quarkus.quarkus2;
 import lombok.Getter;
 import org.openrewrite.*;
 import org.openrewrite.internal.ListUtils;
-import org.openrewrite.java.ChangeType;
 import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.search.UsesType;
 import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
 import org.openrewrite.java.tree.TypeUtils;
+import org.openrewrite.quarkus.QuarkusRecipePerformanceVisitor;
+import org.openrewrite.quarkus.table.QuarkusRecipePerformance;
+
+import static java.util.Collections.emptyList;
 
 public class GrpcServiceAnnotationToGrpcClient extends Recipe {
     private static final String GRPC_SERVICE_ANNOTATION_FQN = "io.quarkus.grpc.runtime.annotations.GrpcService";
@@ -34,12 +38,16 @@ public class GrpcServiceAnnotationToGrpcClient extends Recipe {
     @Getter
     final String description = "The `@GrpcService` annotation is replaced with `@GrpcClient` in Quarkus 2.x. Removes the optional `@GrpcClient.value()` unless the service name is different from the name of annotated element.";
 
+    transient QuarkusRecipePerformance performance = new QuarkusRecipePerformance(this);
+
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(new UsesType<>(GRPC_SERVICE_ANNOTATION_FQN, null), new GrpcServiceToGrpcClientAnnotationVisitor());
+        return new QuarkusRecipePerformanceVisitor(getName(), performance, Preconditions.check(new UsesType<>(GRPC_SERVICE_ANNOTATION_FQN, null), new GrpcServiceToGrpcClientAnnotationVisitor()));
     }
 
     private static class GrpcServiceToGrpcClientAnnotationVisitor extends JavaIsoVisitor<ExecutionContext> {
+        private static final JavaType.ShallowClass GRPC_CLIENT_TYPE = JavaType.ShallowClass.build(GRPC_CLIENT_ANNOTATION_FQN);
+
         private static boolean shouldRemoveArgument(J.VariableDeclarations.NamedVariable namedVariable, J.Literal assignValue) {
             Object value = assignValue.getValue();
             assert value != null;
@@ -47,21 +55,23 @@ public class GrpcServiceAnnotationToGrpcClient extends Recipe {
         }
 
         @Override
-        public J.CompilationUnit visitCompilationUnit(J.CompilationUnit cu, ExecutionContext ctx) {
-            doAfterVisit(new ChangeType(GRPC_SERVICE_ANNOTATION_FQN, GRPC_CLIENT_ANNOTATION_FQN, true).getVisitor());
-            return super.visitCompilationUnit(cu, ctx);
+        public void doAfterVisit(TreeVisitor<?, ExecutionContext> visitor) {
+            QuarkusRecipePerformanceVisitor.afterVisitScheduled();
+            super.doAfterVisit(visitor);
         }
 
         @Override
         public J.Annotation visitAnnotation(J.Annotation annotation, ExecutionContext ctx) {
             J.Annotation a = super.visitAnnotation(annotation, ctx);
-            if (TypeUtils.isOfClassType(annotation.getType(), GRPC_SERVICE_ANNOTATION_FQN) &&
-                    a.getArguments() != null &&
-                    getCursor().getParentOrThrow().getValue() instanceof J.VariableDeclarations) {
+            if (!TypeUtils.isOfClassType(annotation.getType(), GRPC_SERVICE_ANNOTATION_FQN)) {
+                return a;
+            }
 
+            // Fields as well as constructor and method parameters are variable declarations
+            J.VariableDeclarations varDecs = getCursor().firstEnclosing(J.VariableDeclarations.class);
+            if (a.getArguments() != null && varDecs != null && !varDecs.getVariables().isEmpty()) {
+                J.VariableDeclarations.NamedVariable namedVariable = varDecs.getVariables().get(0);
                 a = a.withArguments(ListUtils.map(a.getArguments(), arg -> {
-                    Cursor varDecsCursor = getCursor().getParentOrThrow();
-                    J.VariableDeclarations.NamedVariable namedVariable = varDecsCursor.<J.VariableDeclarations>getValue().getVariables().get(0);
                     if (arg instanceof J.Assignment) {
                         J.Assignment assignment = (J.Assignment) arg;
                         if (assignment.getVariable() instanceof J.Identifier && assignment.getAssignment() instanceof J.Literal) {
@@ -82,9 +92,18 @@ public class GrpcServiceAnnotationToGrpcClient extends Recipe {
                 }));
             }
 
-            return a;
+            // Change the annotation type in the same pass instead of scheduling a ChangeType visitor for every file
+            maybeRemoveImport(GRPC_SERVICE_ANNOTATION_FQN);
+            maybeAddImport(GRPC_CLIENT_ANNOTATION_FQN);
+            return a.withAnnotationType(new J.Identifier(
+                    Tree.randomId(),
+                    a.getAnnotationType().getPrefix(),
+                    a.getAnnotationType().getMarkers(),
+                    emptyList(),
+                    GRPC_CLIENT_TYPE.getClassName(),
+                    GRPC_CLIENT_TYPE,
+                    null
+            ));
         }
-
     }
-
 }
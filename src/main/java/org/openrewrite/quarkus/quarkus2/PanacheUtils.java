@@ -0,0 +1,262 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.quarkus2;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.tree.Expression;
+import org.openrewrite.java.tree.Flag;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.TypeUtils;
+
+import java.util.*;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.nCopies;
+
+/**
+ * Types and method matchers of Hibernate ORM and Hibernate Reactive Panache shared by the Panache recipes.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PanacheUtils {
+
+    public static final String ENTITY_BASE = "io.quarkus.hibernate.orm.panache.PanacheEntityBase";
+    public static final String REACTIVE_ENTITY_BASE = "io.quarkus.hibernate.reactive.panache.PanacheEntityBase";
+
+    public static final String QUERY = "io.quarkus.hibernate.orm.panache.PanacheQuery";
+    public static final String REACTIVE_QUERY = "io.quarkus.hibernate.reactive.panache.PanacheQuery";
+
+    public static final Set<String> TO_ONE_ASSOCIATIONS = new HashSet<>(Arrays.asList("ManyToOne", "OneToOne"));
+    public static final Set<String> TO_MANY_ASSOCIATIONS = new HashSet<>(Arrays.asList("OneToMany", "ManyToMany", "ElementCollection"));
+
+    static final MethodMatcher PERSIST = new MethodMatcher(ENTITY_BASE + " persist()");
+    static final MethodMatcher REACTIVE_PERSIST = new MethodMatcher(REACTIVE_ENTITY_BASE + " persist()");
+
+    static final MethodMatcher DELETE = new MethodMatcher(ENTITY_BASE + " delete()");
+    static final MethodMatcher REACTIVE_DELETE = new MethodMatcher(REACTIVE_ENTITY_BASE + " delete()");
+
+    public static final MethodMatcher LIST_ALL = new MethodMatcher(ENTITY_BASE + " listAll(..)");
+    public static final MethodMatcher LIST = new MethodMatcher(ENTITY_BASE + " list(String, ..)");
+    static final MethodMatcher FIND_ALL = new MethodMatcher(ENTITY_BASE + " findAll(..)");
+    static final MethodMatcher FIND = new MethodMatcher(ENTITY_BASE + " find(String, ..)");
+    public static final MethodMatcher QUERY_LIST = new MethodMatcher(QUERY + " list()");
+
+    static final MethodMatcher REACTIVE_LIST_ALL = new MethodMatcher(REACTIVE_ENTITY_BASE + " listAll(..)");
+    static final MethodMatcher REACTIVE_LIST = new MethodMatcher(REACTIVE_ENTITY_BASE + " list(String, ..)");
+    static final MethodMatcher REACTIVE_FIND_ALL = new MethodMatcher(REACTIVE_ENTITY_BASE + " findAll(..)");
+    static final MethodMatcher REACTIVE_FIND = new MethodMatcher(REACTIVE_ENTITY_BASE + " find(String, ..)");
+    static final MethodMatcher REACTIVE_QUERY_LIST = new MethodMatcher(REACTIVE_QUERY + " list()");
+
+    /**
+     * @return Whether the type is a Hibernate ORM Panache entity.
+     */
+    public static boolean isEntity(@Nullable JavaType type) {
+        return TypeUtils.isAssignableTo(ENTITY_BASE, type);
+    }
+
+    /**
+     * @return Whether the type is a Hibernate Reactive Panache entity.
+     */
+    public static boolean isReactiveEntity(@Nullable JavaType type) {
+        return TypeUtils.isAssignableTo(REACTIVE_ENTITY_BASE, type);
+    }
+
+    /**
+     * @return The non-static field of the entity, or of its superclasses, with this name.
+     */
+    public static JavaType.@Nullable Variable field(JavaType.FullyQualified entity, String name) {
+        for (JavaType.FullyQualified type = entity; type != null; type = type.getSupertype()) {
+            for (JavaType.Variable member : type.getMembers()) {
+                if (member.getName().equals(name) && !member.hasFlags(Flag.Static)) {
+                    return member;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return The field read by a getter such as {@code getName()} or {@code isRipe()}, or {@code null} when the
+     * method is no getter.
+     */
+    public static @Nullable String getterField(J.MethodInvocation method) {
+        if (!method.getArguments().isEmpty() && !(method.getArguments().get(0) instanceof J.Empty)) {
+            return null;
+        }
+        String name = method.getSimpleName();
+        int prefix = name.startsWith("get") ? 3 : name.startsWith("is") ? 2 : 0;
+        if (prefix == 0 || name.length() == prefix || !Character.isUpperCase(name.charAt(prefix))) {
+            return null;
+        }
+        return Character.toLowerCase(name.charAt(prefix)) + name.substring(prefix + 1);
+    }
+
+    /**
+     * @return The simple name of a JPA association annotation, such as {@code ManyToOne}, or {@code null} when the
+     * type is no association annotation.
+     */
+    public static @Nullable String associationName(JavaType.@Nullable FullyQualified annotation) {
+        if (annotation == null ||
+            !"javax.persistence".equals(annotation.getPackageName()) && !"jakarta.persistence".equals(annotation.getPackageName())) {
+            return null;
+        }
+        String name = annotation.getClassName();
+        return TO_ONE_ASSOCIATIONS.contains(name) || TO_MANY_ASSOCIATIONS.contains(name) ? name : null;
+    }
+
+    /**
+     * @return The simple name of the association annotation of the field, or {@code null} when the field is no
+     * association.
+     */
+    public static @Nullable String associationName(JavaType.@Nullable Variable field) {
+        if (field != null) {
+            for (JavaType.FullyQualified annotation : field.getAnnotations()) {
+                String name = associationName(annotation);
+                if (name != null) {
+                    return name;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return The Panache query listing entities, such as {@code Entity.listAll()} or
+     * {@code Entity.find("name", name).list()}, or {@code null} when the expression is no such query.
+     */
+    static @Nullable ListQuery listQuery(@Nullable Expression expression) {
+        if (!(expression instanceof J.MethodInvocation)) {
+            return null;
+        }
+        J.MethodInvocation method = (J.MethodInvocation) expression;
+        boolean reactive = REACTIVE_QUERY_LIST.matches(method);
+        if (reactive || QUERY_LIST.matches(method)) {
+            if (!(method.getSelect() instanceof J.MethodInvocation)) {
+                return null;
+            }
+            J.MethodInvocation find = (J.MethodInvocation) method.getSelect();
+            if (reactive ? REACTIVE_FIND_ALL.matches(find) : FIND_ALL.matches(find)) {
+                return listQuery(find, reactive, true);
+            }
+            return reactive ? REACTIVE_FIND.matches(find) ? listQuery(find, true, false) : null :
+                    FIND.matches(find) ? listQuery(find, false, false) : null;
+        }
+        if (LIST_ALL.matches(method) || REACTIVE_LIST_ALL.matches(method)) {
+            return listQuery(method, REACTIVE_LIST_ALL.matches(method), true);
+        }
+        if (LIST.matches(method) || REACTIVE_LIST.matches(method)) {
+            return listQuery(method, REACTIVE_LIST.matches(method), false);
+        }
+        return null;
+    }
+
+    private static ListQuery listQuery(J.MethodInvocation method, boolean reactive, boolean all) {
+        List<Expression> arguments = new ArrayList<>();
+        for (Expression argument : method.getArguments()) {
+            if (!(argument instanceof J.Empty)) {
+                arguments.add(argument);
+            }
+        }
+        return new ListQuery(reactive, method.getSelect(), all, arguments);
+    }
+
+    /**
+     * A Panache query listing entities, such as {@code Entity.listAll()} or {@code Entity.find(..).list()}. The
+     * recipes check whether they support its form, such as a qualified entity class or a {@code Sort}.
+     */
+    @Value
+    static class ListQuery {
+        boolean reactive;
+
+        /**
+         * The entity class the query is called on, possibly qualified, or {@code null} when called from within the
+         * entity.
+         */
+        @Nullable
+        Expression select;
+
+        /**
+         * Whether the query finds all entities rather than those matching a query.
+         */
+        boolean all;
+
+        /**
+         * The arguments of the query, starting with the query itself unless finding all entities.
+         */
+        List<Expression> arguments;
+
+        /**
+         * @return Whether the entity class is qualified, such as {@code org.example.Fruit.listAll()}, so that
+         * {@link #find()} and {@link #call(String, int)} cannot refer to it.
+         */
+        boolean isQualified() {
+            return select != null && !(select instanceof J.Identifier);
+        }
+
+        /**
+         * @return The query, such as {@code name = ?1} or the {@code name} shorthand, or {@code null} when finding
+         * all entities or the query is no string literal.
+         */
+        @Nullable String getQuery() {
+            if (all || !(arguments.get(0) instanceof J.Literal) || !(((J.Literal) arguments.get(0)).getValue() instanceof String)) {
+                return null;
+            }
+            return (String) ((J.Literal) arguments.get(0)).getValue();
+        }
+
+        /**
+         * @return The parameters of the query, following it, or no parameters when finding all entities.
+         */
+        List<Expression> getParameters() {
+            return all ? emptyList() : arguments.subList(1, arguments.size());
+        }
+
+        /**
+         * @return Whether the parameters of the query are positional, as opposed to {@code Parameters}, a {@code Map}
+         * of named parameters, or a {@code Sort}.
+         */
+        boolean isPositional() {
+            for (Expression parameter : getParameters()) {
+                if (TypeUtils.isOfClassType(parameter.getType(), "io.quarkus.panache.common.Sort") ||
+                    TypeUtils.isOfClassType(parameter.getType(), "io.quarkus.panache.common.Parameters") ||
+                    TypeUtils.isAssignableTo("java.util.Map", parameter.getType())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * @return A template finding the entities of the query, such as {@code Entity.find(#{any()}, #{any()})}, to
+         * apply with the {@link #getArguments() arguments}.
+         */
+        String find() {
+            return call(all ? "findAll" : "find", arguments.size());
+        }
+
+        /**
+         * @return A template calling the named static method of the entity with as many arguments.
+         */
+        String call(String name, int arguments) {
+            return (select == null ? "" : ((J.Identifier) select).getSimpleName() + ".") +
+                   name + "(" + String.join(", ", nCopies(arguments, "#{any()}")) + ")";
+        }
+    }
+}
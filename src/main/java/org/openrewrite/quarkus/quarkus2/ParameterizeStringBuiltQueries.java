@@ -0,0 +1,418 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.quarkus2;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.Markers;
+import org.openrewrite.quarkus.QuarkusRecipePerformanceVisitor;
+import org.openrewrite.quarkus.table.QuarkusRecipePerformance;
+
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static java.util.Collections.emptyMap;
+
+@EqualsAndHashCode(callSuper = false)
+@Value
+public class ParameterizeStringBuiltQueries extends ScanningRecipe<ParameterizeStringBuiltQueries.Accumulator> {
+
+    private static final MethodMatcher[] PANACHE_QUERIES = {
+            new MethodMatcher(PanacheUtils.ENTITY_BASE + " *(String, ..)"),
+            new MethodMatcher(PanacheUtils.REACTIVE_ENTITY_BASE + " *(String, ..)")
+    };
+    private static final MethodMatcher[] CREATE_QUERIES = {
+            new MethodMatcher("javax.persistence.EntityManager createQuery(String, ..)"),
+            new MethodMatcher("jakarta.persistence.EntityManager createQuery(String, ..)")
+    };
+
+    private static final Pattern POSITIONAL_PARAMETER = Pattern.compile("\\?(\\d+)");
+
+    private static final Pattern NAMED_PARAMETER = Pattern.compile(":\\w+");
+
+    private static final Pattern QUOTED_STRING = Pattern.compile("'[^']*'");
+
+    private static final Set<String> QUERY_METHODS = new HashSet<>(Arrays.asList(
+            "find", "list", "stream", "count", "delete", "update"
+    ));
+
+    /**
+     * Panache methods selecting entities, whose queries can be named.
+     */
+    private static final Set<String> SELECTING_METHODS = new HashSet<>(Arrays.asList("find", "list", "stream"));
+
+    String displayName = "Parameterize string-built Panache and JPQL queries";
+
+    String description = "Replaces values concatenated into Panache and `EntityManager.createQuery(..)` queries, such " +
+            "as `find(\"name = '\" + name + \"'\")`, with positional parameters, so that Hibernate caches a single " +
+            "query plan and the values can no longer inject JPQL. When the entity selected by the query is declared " +
+            "in the same repository, the query is moved to a `@NamedQuery` of the entity, which Quarkus validates " +
+            "and compiles at build time.";
+
+    transient QuarkusRecipePerformance performance = new QuarkusRecipePerformance(this);
+
+    public static class Accumulator {
+        /**
+         * The JPA package of the entity classes declared in the repository, by entity class.
+         */
+        final Map<String, String> entities = new HashMap<>();
+
+        final Set<String> existingNames = new HashSet<>();
+
+        final List<Analysis> namable = new ArrayList<>();
+
+        @Nullable
+        Map<String, Map<String, String>> namedQueries;
+
+        /**
+         * @return The names of the queries to declare on each entity class, by query.
+         */
+        Map<String, Map<String, String>> namedQueries() {
+            if (namedQueries == null) {
+                namedQueries = new LinkedHashMap<>();
+                Set<String> names = new HashSet<>(existingNames);
+                for (Analysis analysis : namable) {
+                    if (!entities.containsKey(analysis.getEntity())) {
+                        continue;
+                    }
+                    Map<String, String> queries = namedQueries.computeIfAbsent(analysis.getEntity(), k -> new LinkedHashMap<>());
+                    if (!queries.containsKey(analysis.getNamedQuery())) {
+                        String name = analysis.getName();
+                        for (int i = 2; !names.add(name); i++) {
+                            name = analysis.getName() + i;
+                        }
+                        queries.put(analysis.getNamedQuery(), name);
+                    }
+                }
+            }
+            return namedQueries;
+        }
+    }
+
+    @Override
+    public Accumulator getInitialValue(ExecutionContext ctx) {
+        return new Accumulator();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
+        return new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+                for (J.Annotation annotation : classDecl.getLeadingAnnotations()) {
+                    String persistence = persistencePackage(annotation, "Entity");
+                    // Entities with a custom entity name are queried by that name
+                    if (persistence != null && classDecl.getType() != null &&
+                        (annotation.getArguments() == null || annotation.getArguments().isEmpty() ||
+                         annotation.getArguments().get(0) instanceof J.Empty)) {
+                        acc.entities.put(classDecl.getType().getFullyQualifiedName(), persistence);
+                    }
+                    if (persistencePackage(annotation, "NamedQuery") != null && annotation.getArguments() != null) {
+                        for (Expression argument : annotation.getArguments()) {
+                            if (argument instanceof J.Assignment &&
+                                ((J.Assignment) argument).getVariable() instanceof J.Identifier &&
+                                "name".equals(((J.Identifier) ((J.Assignment) argument).getVariable()).getSimpleName()) &&
+                                ((J.Assignment) argument).getAssignment() instanceof J.Literal) {
+                                acc.existingNames.add(String.valueOf(((J.Literal) ((J.Assignment) argument).getAssignment()).getValue()));
+                            }
+                        }
+                    }
+                }
+                return super.visitClassDeclaration(classDecl, ctx);
+            }
+
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                Analysis analysis = analyze(method, getCursor());
+                if (analysis != null && analysis.getEntity() != null) {
+                    acc.namable.add(analysis);
+                }
+                return super.visitMethodInvocation(method, ctx);
+            }
+        };
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(Accumulator acc) {
+        return new QuarkusRecipePerformanceVisitor(getName(), performance, new JavaVisitor<ExecutionContext>() {
+            @Override
+            public void doAfterVisit(TreeVisitor<?, ExecutionContext> visitor) {
+                QuarkusRecipePerformanceVisitor.afterVisitScheduled();
+                super.doAfterVisit(visitor);
+            }
+
+            @Override
+            public J visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+                J.ClassDeclaration c = (J.ClassDeclaration) super.visitClassDeclaration(classDecl, ctx);
+                Map<String, String> queries = c.getType() == null ? null : acc.namedQueries().get(c.getType().getFullyQualifiedName());
+                if (queries == null) {
+                    return c;
+                }
+                String namedQuery = acc.entities.get(c.getType().getFullyQualifiedName()) + ".NamedQuery";
+                maybeAddImport(namedQuery);
+                for (Map.Entry<String, String> query : queries.entrySet()) {
+                    c = JavaTemplate.builder("@NamedQuery(name = " + quote(query.getValue()) + ", query = " + quote(query.getKey()) + ")")
+                            .contextSensitive()
+                            .imports(namedQuery)
+                            .build()
+                            .apply(updateCursor(c), c.getCoordinates().addAnnotation(Comparator.comparing(J.Annotation::getSimpleName)));
+                }
+                return c;
+            }
+
+            @Override
+            public J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                Analysis analysis = analyze(method, getCursor());
+                J j = super.visitMethodInvocation(method, ctx);
+                if (analysis == null || !(j instanceof J.MethodInvocation)) {
+                    return j;
+                }
+                J.MethodInvocation m = (J.MethodInvocation) j;
+                String name = analysis.getEntity() == null ? null :
+                        acc.namedQueries().getOrDefault(analysis.getEntity(), emptyMap()).get(analysis.getNamedQuery());
+
+                if (analysis.isPanache()) {
+                    // Panache refers to named queries by their name prefixed with #
+                    List<Expression> arguments = ListUtils.mapFirst(m.getArguments(), query ->
+                            literal(name == null ? analysis.getQuery() : "#" + name, query.getPrefix()));
+                    return m.withArguments(ListUtils.concatAll(arguments, ListUtils.map(analysis.getParameters(),
+                            p -> p.withPrefix(Space.SINGLE_SPACE))));
+                }
+
+                StringBuilder code = new StringBuilder();
+                List<Object> arguments = new ArrayList<>();
+                if (name == null) {
+                    code.append("#{any()}");
+                    arguments.add(m.withArguments(ListUtils.mapFirst(m.getArguments(), query ->
+                            literal(analysis.getQuery(), query.getPrefix()))));
+                } else {
+                    code.append("#{any()}.createNamedQuery(").append(quote(name)).append(", #{any()})");
+                    arguments.add(m.getSelect());
+                    arguments.add(m.getArguments().get(1));
+                }
+                for (int i = 0; i < analysis.getParameters().size(); i++) {
+                    code.append(".setParameter(").append(analysis.getExisting() + i + 1).append(", #{any()})");
+                    arguments.add(analysis.getParameters().get(i));
+                }
+                return JavaTemplate.builder(code.toString())
+                        .contextSensitive()
+                        .build()
+                        .apply(updateCursor(m), m.getCoordinates().replace(), arguments.toArray());
+            }
+        });
+    }
+
+    /**
+     * A query built by concatenating values, and the same query with positional parameters instead.
+     */
+    @Value
+    private static class Analysis {
+        boolean panache;
+
+        /**
+         * The query with positional parameters in place of the concatenated values.
+         */
+        String query;
+
+        /**
+         * The highest positional parameter the query already had.
+         */
+        int existing;
+
+        List<Expression> parameters;
+
+        /**
+         * The entity class selected by the query, or {@code null} when the query cannot be named.
+         */
+        @Nullable
+        String entity;
+
+        /**
+         * The full JPQL query to name, as opposed to the Panache shorthand.
+         */
+        @Nullable
+        String namedQuery;
+
+        /**
+         * The name of the named query, unless taken already.
+         */
+        @Nullable
+        String name;
+    }
+
+    private static @Nullable Analysis analyze(J.MethodInvocation method, Cursor cursor) {
+        boolean panache = matchesAny(PANACHE_QUERIES, method) && QUERY_METHODS.contains(method.getSimpleName());
+        if (!panache && (!matchesAny(CREATE_QUERIES, method) || method.getSelect() == null)) {
+            return null;
+        }
+        List<Expression> arguments = method.getArguments();
+        for (Expression argument : arguments.subList(1, arguments.size())) {
+            if (TypeUtils.isOfClassType(argument.getType(), "io.quarkus.panache.common.Sort") ||
+                TypeUtils.isOfClassType(argument.getType(), "io.quarkus.panache.common.Parameters") ||
+                TypeUtils.isAssignableTo("java.util.Map", argument.getType())) {
+                return null;
+            }
+        }
+        int existing = highestParameter(arguments.get(0));
+        if (panache && existing != arguments.size() - 1) {
+            // Panache binds the arguments to the positional parameters in order
+            return null;
+        }
+        List<Expression> parameters = new ArrayList<>();
+        String query = parameterize(arguments.get(0), existing, parameters);
+        if (query == null || NAMED_PARAMETER.matcher(QUOTED_STRING.matcher(query).replaceAll("")).find()) {
+            // Hibernate rejects named parameters mixed with the positional ones added
+            return null;
+        }
+
+        JavaType.FullyQualified entity = null;
+        String namedQuery = null;
+        String lowerCase = query.trim().toLowerCase(Locale.ROOT);
+        boolean fullQuery = lowerCase.startsWith("from ") || lowerCase.startsWith("select ");
+        if (panache && SELECTING_METHODS.contains(method.getSimpleName()) && method.getSelect() instanceof J.Identifier) {
+            entity = TypeUtils.asFullyQualified(method.getSelect().getType());
+            String entityName = entity == null ? "" : entity.getClassName().substring(entity.getClassName().lastIndexOf('.') + 1);
+            namedQuery = fullQuery ? query : lowerCase.startsWith("order by ") ?
+                    "from " + entityName + " " + query : "from " + entityName + " where " + query;
+        } else if (!panache && fullQuery && arguments.size() == 2) {
+            // em.createQuery("select f from Fruit f ...", Fruit.class)
+            JavaType.Parameterized resultClass = TypeUtils.asParameterized(arguments.get(1).getType());
+            entity = resultClass == null || resultClass.getTypeParameters().isEmpty() ? null :
+                    TypeUtils.asFullyQualified(resultClass.getTypeParameters().get(0));
+            namedQuery = query;
+        }
+        if (entity == null) {
+            return new Analysis(panache, query, existing, parameters, null, null, null);
+        }
+        J.MethodDeclaration enclosing = cursor.firstEnclosing(J.MethodDeclaration.class);
+        String name = entity.getClassName().substring(entity.getClassName().lastIndexOf('.') + 1) + "." +
+                      (enclosing == null ? "query" : enclosing.getSimpleName());
+        return new Analysis(panache, query, existing, parameters, entity.getFullyQualifiedName(), namedQuery, name);
+    }
+
+    /**
+     * @return The query with positional parameters in place of the values concatenated into it, collecting these
+     * values, or {@code null} when the query is not built from values compared to.
+     */
+    private static @Nullable String parameterize(Expression query, int existing, List<Expression> parameters) {
+        if (!(query instanceof J.Binary)) {
+            return null;
+        }
+        List<Expression> parts = new ArrayList<>();
+        concatenation(query, parts);
+        StringBuilder parameterized = new StringBuilder();
+        boolean quoted = false;
+        for (Expression part : parts) {
+            if (part instanceof J.Literal) {
+                Object value = ((J.Literal) part).getValue();
+                if (value == null) {
+                    return null;
+                }
+                String text = String.valueOf(value);
+                if (quoted) {
+                    // The closing quote of a string value
+                    if (!text.startsWith("'")) {
+                        return null;
+                    }
+                    text = text.substring(1);
+                    quoted = false;
+                }
+                parameterized.append(text);
+                continue;
+            }
+            if (quoted) {
+                return null;
+            }
+            // Values are either string literals, such as name = '" + name + "', or numbers, such as age > " + age
+            quoted = parameterized.length() > 0 && parameterized.charAt(parameterized.length() - 1) == '\'';
+            if (quoted) {
+                parameterized.setLength(parameterized.length() - 1);
+            }
+            String before = parameterized.toString().trim();
+            if (quoted != TypeUtils.isString(part.getType()) ||
+                !before.endsWith("=") && !before.endsWith("<") && !before.endsWith(">")) {
+                return null;
+            }
+            parameters.add(part);
+            parameterized.append('?').append(existing + parameters.size());
+        }
+        return quoted || parameters.isEmpty() ? null : parameterized.toString();
+    }
+
+    /**
+     * @return The highest positional parameter, such as {@code 2} for {@code ?2}, in the literal parts of the query,
+     * or {@code 0} when there is none.
+     */
+    private static int highestParameter(Expression query) {
+        List<Expression> parts = new ArrayList<>();
+        concatenation(query, parts);
+        int highest = 0;
+        for (Expression part : parts) {
+            if (part instanceof J.Literal && ((J.Literal) part).getValue() instanceof String) {
+                Matcher matcher = POSITIONAL_PARAMETER.matcher((String) ((J.Literal) part).getValue());
+                while (matcher.find()) {
+                    highest = Math.max(highest, Integer.parseInt(matcher.group(1)));
+                }
+            }
+        }
+        return highest;
+    }
+
+    private static void concatenation(Expression expression, List<Expression> parts) {
+        if (expression instanceof J.Binary && ((J.Binary) expression).getOperator() == J.Binary.Type.Addition &&
+            TypeUtils.isString(expression.getType())) {
+            concatenation(((J.Binary) expression).getLeft(), parts);
+            concatenation(((J.Binary) expression).getRight(), parts);
+        } else {
+            parts.add(expression);
+        }
+    }
+
+    private static @Nullable String persistencePackage(J.Annotation annotation, String simpleName) {
+        JavaType.FullyQualified type = TypeUtils.asFullyQualified(annotation.getType());
+        if (type == null || !simpleName.equals(type.getClassName())) {
+            return null;
+        }
+        return "javax.persistence".equals(type.getPackageName()) || "jakarta.persistence".equals(type.getPackageName()) ?
+                type.getPackageName() : null;
+    }
+
+    private static boolean matchesAny(MethodMatcher[] matchers, J.MethodInvocation method) {
+        for (MethodMatcher matcher : matchers) {
+            if (matcher.matches(method)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static J.Literal literal(String value, Space prefix) {
+        return new J.Literal(Tree.randomId(), prefix, Markers.EMPTY, value, quote(value), null, JavaType.Primitive.String);
+    }
+
+    private static String quote(String value) {
+        return '"' + value.replace("\\", "\\\\").replace("\"", "\\\"") + '"';
+    }
+}
@@ -24,6 +24,8 @@ import org.openrewrite.marker.SearchResult;
 import org.openrewrite.maven.MavenIsoVisitor;
 import org.openrewrite.maven.RemovePlugin;
 import org.openrewrite.maven.search.FindPlugin;
+import org.openrewrite.quarkus.QuarkusRecipePerformanceVisitor;
+import org.openrewrite.quarkus.table.QuarkusRecipePerformance;
 import org.openrewrite.xml.tree.Xml;
 
 public class RemoveAvroMavenPlugin extends Recipe {
@@ -33,9 +35,11 @@ public class RemoveAvroMavenPlugin extends Recipe {
     @Getter
     final String description = "Removes the `avro-maven-plugin` if the `quarkus-maven-plugin` is found in the project's `pom.xml`. Avro has been integrated with the Quarkus code generation mechanism. This replaces the need to use the Avro plugin.";
 
+    transient QuarkusRecipePerformance performance = new QuarkusRecipePerformance(this);
+
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(new MavenIsoVisitor<ExecutionContext>() {
+        return new QuarkusRecipePerformanceVisitor(getName(), performance, Preconditions.check(new MavenIsoVisitor<ExecutionContext>() {
             @Override
             public Xml.Document visitDocument(Xml.Document document, ExecutionContext ctx) {
                 if (!FindPlugin.find(document, "io.quarkus", "quarkus-maven-plugin").isEmpty()) {
@@ -44,11 +48,17 @@ public class RemoveAvroMavenPlugin extends Recipe {
                 return super.visitDocument(document, ctx);
             }
         }, new MavenIsoVisitor<ExecutionContext>() {
+            @Override
+            public void doAfterVisit(TreeVisitor<?, ExecutionContext> visitor) {
+                QuarkusRecipePerformanceVisitor.afterVisitScheduled();
+                super.doAfterVisit(visitor);
+            }
+
             @Override
             public Xml.Document visitDocument(Xml.Document document, ExecutionContext ctx) {
                 doAfterVisit(new RemovePlugin("org.apache.avro", "avro-maven-plugin").getVisitor());
                 return document;
             }
-        });
+        }));
     }
 }
@@ -23,6 +23,8 @@ import org.openrewrite.java.JavaParser;
 import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.search.UsesType;
 import org.openrewrite.java.tree.J;
+import org.openrewrite.quarkus.QuarkusRecipePerformanceVisitor;
+import org.openrewrite.quarkus.table.QuarkusRecipePerformance;
 
 import static java.util.Collections.singletonList;
 
@@ -34,14 +36,22 @@ public class UseIdentifierOnDefaultKafkaBroker extends Recipe {
     @Getter
     final String description = "Use `@io.smallrye.common.annotation.Identifier` on default kafka broker configuration.";
 
+    transient QuarkusRecipePerformance performance = new QuarkusRecipePerformance(this);
+
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(new UsesType<>("javax.inject.Named", null), new UseIdentifierOnDefaultKafkaBrokerVisitor());
+        return new QuarkusRecipePerformanceVisitor(getName(), performance, Preconditions.check(new UsesType<>("javax.inject.Named", null), new UseIdentifierOnDefaultKafkaBrokerVisitor()));
     }
 
     private static class UseIdentifierOnDefaultKafkaBrokerVisitor extends JavaIsoVisitor<ExecutionContext> {
         private static final AnnotationMatcher MATCHER = new AnnotationMatcher("@javax.inject.Named(\"default-kafka-broker\")");
 
+        @Override
+        public void doAfterVisit(TreeVisitor<?, ExecutionContext> visitor) {
+            QuarkusRecipePerformanceVisitor.afterVisitScheduled();
+            super.doAfterVisit(visitor);
+        }
+
         @Override
         public J.Annotation visitAnnotation(J.Annotation annotation, ExecutionContext ctx) {
             J.Annotation a = super.visitAnnotation(annotation, ctx);
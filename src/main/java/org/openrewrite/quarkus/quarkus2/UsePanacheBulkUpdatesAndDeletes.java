@@ -0,0 +1,415 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.quarkus2;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.quarkus.QuarkusRecipePerformanceVisitor;
+import org.openrewrite.quarkus.table.QuarkusRecipePerformance;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.util.Collections.nCopies;
+import static java.util.Collections.singletonList;
+
+@EqualsAndHashCode(callSuper = false)
+@Value
+public class UsePanacheBulkUpdatesAndDeletes extends Recipe {
+
+    private static final MethodMatcher UNI_INVOKE = new MethodMatcher("io.smallrye.mutiny.Uni invoke(..)");
+    private static final MethodMatcher UNI_REPLACE_WITH_VOID = new MethodMatcher("io.smallrye.mutiny.Uni replaceWithVoid()");
+
+    /**
+     * Entity callbacks, which bulk queries do not run.
+     */
+    private static final Set<String> CALLBACKS = new HashSet<>(Arrays.asList(
+            "PreUpdate", "PostUpdate", "PreRemove", "PostRemove", "EntityListeners"));
+
+    String displayName = "Use Panache bulk updates and deletes";
+
+    String description = "Replaces loops over the entities listed by a Panache query that only assign fields or delete " +
+            "each entity, with a single `Entity.update(..)`, `Entity.delete(..)` or `Entity.deleteAll()` query. This " +
+            "avoids loading the whole table into the persistence context. Hibernate Reactive Panache loops in " +
+            "`listAll().invoke(..).replaceWithVoid()` pipelines are replaced in the same way. Entities with update or " +
+            "remove callbacks, entity listeners, a `@Version` field, removals cascading to their associations or " +
+            "setters of the assigned fields are skipped, since bulk queries bypass them.";
+
+    transient QuarkusRecipePerformance performance = new QuarkusRecipePerformance(this);
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return new QuarkusRecipePerformanceVisitor(getName(), performance, Preconditions.check(Preconditions.or(
+                new UsesType<>(PanacheUtils.ENTITY_BASE, true),
+                new UsesType<>(PanacheUtils.REACTIVE_ENTITY_BASE, true)
+        ), new JavaVisitor<ExecutionContext>() {
+            @Override
+            public J visitBlock(J.Block block, ExecutionContext ctx) {
+                J.Block b = (J.Block) super.visitBlock(block, ctx);
+                List<Statement> statements = b.getStatements();
+                for (int i = 0; i < statements.size(); i++) {
+                    if (!(statements.get(i) instanceof J.ForEachLoop)) {
+                        continue;
+                    }
+                    J.ForEachLoop loop = (J.ForEachLoop) statements.get(i);
+                    Expression iterable = loop.getControl().getIterable();
+                    Statement declaration = null;
+                    PanacheUtils.ListQuery query = PanacheUtils.listQuery(iterable);
+                    if (query == null && i > 0 && iterable instanceof J.Identifier) {
+                        // List<Entity> entities = Entity.listAll(); for (Entity entity : entities) { ... }
+                        declaration = statements.get(i - 1);
+                        query = PanacheUtils.listQuery(initializer(declaration, ((J.Identifier) iterable).getSimpleName()));
+                        if (query != null && isReferenced(((J.Identifier) iterable).getSimpleName(), statements.subList(i + 1, statements.size()))) {
+                            query = null;
+                        }
+                    }
+                    Bulk bulk = query == null || query.isReactive() ? null : bulk(loop, query);
+                    if (bulk == null) {
+                        continue;
+                    }
+
+                    b = JavaTemplate.builder(bulk.getCode() + ";")
+                            .contextSensitive()
+                            .build()
+                            .apply(updateCursor(b), loop.getCoordinates().replace(), bulk.getArguments().toArray());
+                    Statement unused = declaration;
+                    b = b.withStatements(ListUtils.map(b.getStatements(), s -> s == unused ? null : s));
+                }
+                return b;
+            }
+
+            @Override
+            public J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                J j = super.visitMethodInvocation(method, ctx);
+                if (!(j instanceof J.MethodInvocation) || !UNI_REPLACE_WITH_VOID.matches((J.MethodInvocation) j)) {
+                    return j;
+                }
+                // Entity.listAll().invoke(entities -> { for (Entity entity : entities) { ... } }).replaceWithVoid()
+                J.MethodInvocation m = (J.MethodInvocation) j;
+                if (!(m.getSelect() instanceof J.MethodInvocation) || !UNI_INVOKE.matches((J.MethodInvocation) m.getSelect())) {
+                    return m;
+                }
+                J.MethodInvocation invoke = (J.MethodInvocation) m.getSelect();
+                PanacheUtils.ListQuery query = PanacheUtils.listQuery(invoke.getSelect());
+                J.ForEachLoop loop = invokedLoop(invoke);
+                Bulk bulk = query == null || !query.isReactive() || loop == null ? null : bulk(loop, query);
+                if (bulk == null) {
+                    return m;
+                }
+                Expression bulkQuery = JavaTemplate.builder(bulk.getCode())
+                        .contextSensitive()
+                        .build()
+                        .apply(new Cursor(updateCursor(m), invoke), invoke.getCoordinates().replace(), bulk.getArguments().toArray());
+                return m.withSelect(bulkQuery);
+            }
+        }));
+    }
+
+    @Value
+    private static class Bulk {
+        String code;
+        List<Expression> arguments;
+    }
+
+    /**
+     * @return The bulk query doing what the loop over the listed entities does, or {@code null} when the loop does
+     * more than assigning fields or deleting the entity.
+     */
+    private static @Nullable Bulk bulk(J.ForEachLoop loop, PanacheUtils.ListQuery query) {
+        if (!query.isAll() && (query.getQuery() == null || !query.isPositional())) {
+            return null;
+        }
+        J.VariableDeclarations variable = loop.getControl().getVariable();
+        JavaType.FullyQualified entityType = TypeUtils.asFullyQualified(variable.getType());
+        if (entityType == null || !(query.isReactive() ? PanacheUtils.isReactiveEntity(entityType) : PanacheUtils.isEntity(entityType)) ||
+            isManagedBeyondColumns(entityType)) {
+            return null;
+        }
+        String entity = entityType.getClassName();
+        String name = variable.getVariables().get(0).getSimpleName();
+        Statement body = loop.getBody();
+        List<Statement> statements = body instanceof J.Block ? ((J.Block) body).getStatements() : singletonList(body);
+        if (statements.isEmpty()) {
+            return null;
+        }
+
+        if (statements.size() == 1 && statements.get(0) instanceof J.MethodInvocation && isDelete((J.MethodInvocation) statements.get(0), name)) {
+            if (isCascadingRemove(entityType)) {
+                return null;
+            }
+            if (query.getQuery() == null) {
+                return new Bulk(entity + ".deleteAll()", query.getParameters());
+            }
+            String lowerCase = query.getQuery().trim().toLowerCase(Locale.ROOT);
+            if (lowerCase.startsWith("select ") || lowerCase.contains("order by")) {
+                return null;
+            }
+            return new Bulk(entity + ".delete(" + quote(query.getQuery()) + placeholders(query.getParameters().size()) + ")",
+                    query.getParameters());
+        }
+
+        String where = null;
+        if (query.getQuery() != null) {
+            where = whereClause(query.getQuery());
+            if (where == null) {
+                return null;
+            }
+        }
+        List<String> assignments = new ArrayList<>();
+        List<Expression> arguments = new ArrayList<>(query.getParameters());
+        for (Statement statement : statements) {
+            if (!(statement instanceof J.Assignment)) {
+                return null;
+            }
+            J.Assignment assignment = (J.Assignment) statement;
+            if (!(assignment.getVariable() instanceof J.FieldAccess) ||
+                !(((J.FieldAccess) assignment.getVariable()).getTarget() instanceof J.Identifier) ||
+                !((J.Identifier) ((J.FieldAccess) assignment.getVariable()).getTarget()).getSimpleName().equals(name) ||
+                !isSimple(assignment.getAssignment(), name) ||
+                hasSetter(entityType, ((J.FieldAccess) assignment.getVariable()).getSimpleName())) {
+                return null;
+            }
+            arguments.add(assignment.getAssignment().withPrefix(Space.SINGLE_SPACE));
+            assignments.add(((J.FieldAccess) assignment.getVariable()).getSimpleName() + " = ?" + arguments.size());
+        }
+        String update = String.join(", ", assignments) + (where == null ? "" : " where " + where);
+        return new Bulk(entity + ".update(" + quote(update) + placeholders(arguments.size()) + ")", arguments);
+    }
+
+    /**
+     * @return Whether the entity, or one of its superclasses, has callbacks, entity listeners or a version, which
+     * Hibernate runs or checks when flushing each entity but not in bulk queries.
+     */
+    private static boolean isManagedBeyondColumns(JavaType.FullyQualified entity) {
+        for (JavaType.FullyQualified type = entity; type != null; type = type.getSupertype()) {
+            if (hasPersistenceAnnotation(type.getAnnotations(), CALLBACKS)) {
+                return true;
+            }
+            for (JavaType.Method method : type.getMethods()) {
+                if (hasPersistenceAnnotation(method.getAnnotations(), CALLBACKS)) {
+                    return true;
+                }
+            }
+            for (JavaType.Variable member : type.getMembers()) {
+                if (hasPersistenceAnnotation(member.getAnnotations(), Collections.singleton("Version"))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return Whether removing the entity, or one of its superclasses, also removes associated entities, which a bulk
+     * delete does not.
+     */
+    private static boolean isCascadingRemove(JavaType.FullyQualified entity) {
+        for (JavaType.FullyQualified type = entity; type != null; type = type.getSupertype()) {
+            for (JavaType.Variable member : type.getMembers()) {
+                for (JavaType.FullyQualified annotation : member.getAnnotations()) {
+                    if (PanacheUtils.associationName(annotation) != null && isCascadingRemove(annotation)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isCascadingRemove(JavaType.FullyQualified association) {
+        if (!(association instanceof JavaType.Annotation)) {
+            // The attributes of the association are unknown
+            return true;
+        }
+        for (JavaType.Annotation.ElementValue value : ((JavaType.Annotation) association).getValues()) {
+            String element = value.getElement() instanceof JavaType.Method ? ((JavaType.Method) value.getElement()).getName() : "";
+            if ("orphanRemoval".equals(element) && Boolean.TRUE.equals(value.getValue())) {
+                return true;
+            }
+            if ("cascade".equals(element)) {
+                Object cascade = value.getValue();
+                for (Object type : cascade instanceof List ? (List<?>) cascade : singletonList(cascade)) {
+                    String cascadeType = type instanceof JavaType.Variable ? ((JavaType.Variable) type).getName() : String.valueOf(type);
+                    if ("REMOVE".equals(cascadeType) || "ALL".equals(cascadeType)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return Whether the entity, or one of its superclasses, declares a setter for the field, which Panache calls
+     * instead of assigning the field.
+     */
+    private static boolean hasSetter(JavaType.FullyQualified entity, String field) {
+        String setter = "set" + Character.toUpperCase(field.charAt(0)) + field.substring(1);
+        for (JavaType.FullyQualified type = entity; type != null; type = type.getSupertype()) {
+            for (JavaType.Method method : type.getMethods()) {
+                if (method.getName().equals(setter) && method.getParameterTypes().size() == 1) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasPersistenceAnnotation(List<JavaType.FullyQualified> annotations, Set<String> simpleNames) {
+        for (JavaType.FullyQualified annotation : annotations) {
+            if (("javax.persistence".equals(annotation.getPackageName()) || "jakarta.persistence".equals(annotation.getPackageName())) &&
+                simpleNames.contains(annotation.getClassName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isDelete(J.MethodInvocation method, String entity) {
+        return (PanacheUtils.DELETE.matches(method) || PanacheUtils.REACTIVE_DELETE.matches(method)) &&
+               method.getSelect() instanceof J.Identifier &&
+               ((J.Identifier) method.getSelect()).getSimpleName().equals(entity);
+    }
+
+    /**
+     * @return The where clause of a Panache query with positional parameters, expanding the single property shorthand,
+     * or {@code null} when the query cannot be used in a bulk update.
+     */
+    private static @Nullable String whereClause(String query) {
+        String trimmed = query.trim();
+        String lowerCase = trimmed.toLowerCase(Locale.ROOT);
+        if (lowerCase.startsWith("from ") || lowerCase.startsWith("select ") || lowerCase.contains("order by") ||
+            trimmed.contains(":")) {
+            return null;
+        }
+        if (lowerCase.startsWith("where ")) {
+            return trimmed.substring("where ".length());
+        }
+        return trimmed.matches("[\\w.]+") ? trimmed + " = ?1" : trimmed;
+    }
+
+    /**
+     * @return Whether the assigned value can be evaluated once for all entities: it does not depend on the entity,
+     * and does not call methods, create objects or assign variables.
+     */
+    private static boolean isSimple(Expression value, String entity) {
+        AtomicBoolean simple = new AtomicBoolean(true);
+        new JavaIsoVisitor<AtomicBoolean>() {
+            @Override
+            public J.Identifier visitIdentifier(J.Identifier identifier, AtomicBoolean s) {
+                if (identifier.getSimpleName().equals(entity)) {
+                    s.set(false);
+                }
+                return identifier;
+            }
+
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, AtomicBoolean s) {
+                s.set(false);
+                return method;
+            }
+
+            @Override
+            public J.NewClass visitNewClass(J.NewClass newClass, AtomicBoolean s) {
+                s.set(false);
+                return newClass;
+            }
+
+            @Override
+            public J.Assignment visitAssignment(J.Assignment assignment, AtomicBoolean s) {
+                s.set(false);
+                return assignment;
+            }
+
+            @Override
+            public J.AssignmentOperation visitAssignmentOperation(J.AssignmentOperation assignOp, AtomicBoolean s) {
+                s.set(false);
+                return assignOp;
+            }
+
+            @Override
+            public J.Unary visitUnary(J.Unary unary, AtomicBoolean s) {
+                if (unary.getOperator().isModifying()) {
+                    s.set(false);
+                }
+                return super.visitUnary(unary, s);
+            }
+        }.visit(value, simple);
+        return simple.get();
+    }
+
+    private static @Nullable Expression initializer(Statement declaration, String name) {
+        if (!(declaration instanceof J.VariableDeclarations) || ((J.VariableDeclarations) declaration).getVariables().size() != 1) {
+            return null;
+        }
+        J.VariableDeclarations.NamedVariable variable = ((J.VariableDeclarations) declaration).getVariables().get(0);
+        return variable.getSimpleName().equals(name) ? variable.getInitializer() : null;
+    }
+
+    private static boolean isReferenced(String name, List<Statement> statements) {
+        AtomicBoolean referenced = new AtomicBoolean();
+        for (Statement statement : statements) {
+            new JavaIsoVisitor<AtomicBoolean>() {
+                @Override
+                public J.Identifier visitIdentifier(J.Identifier identifier, AtomicBoolean r) {
+                    if (identifier.getSimpleName().equals(name)) {
+                        r.set(true);
+                    }
+                    return identifier;
+                }
+            }.visit(statement, referenced);
+        }
+        return referenced.get();
+    }
+
+    /**
+     * @return The loop over the lambda parameter making up the body of {@code invoke(entities -> { for (..) { .. } })}.
+     */
+    private static J.@Nullable ForEachLoop invokedLoop(J.MethodInvocation invoke) {
+        if (invoke.getArguments().size() != 1 || !(invoke.getArguments().get(0) instanceof J.Lambda)) {
+            return null;
+        }
+        J.Lambda lambda = (J.Lambda) invoke.getArguments().get(0);
+        if (lambda.getParameters().getParameters().size() != 1 ||
+            !(lambda.getParameters().getParameters().get(0) instanceof J.VariableDeclarations) ||
+            !(lambda.getBody() instanceof J.Block) ||
+            ((J.Block) lambda.getBody()).getStatements().size() != 1 ||
+            !(((J.Block) lambda.getBody()).getStatements().get(0) instanceof J.ForEachLoop)) {
+            return null;
+        }
+        String entities = ((J.VariableDeclarations) lambda.getParameters().getParameters().get(0)).getVariables().get(0).getSimpleName();
+        J.ForEachLoop loop = (J.ForEachLoop) ((J.Block) lambda.getBody()).getStatements().get(0);
+        Expression iterable = loop.getControl().getIterable();
+        return iterable instanceof J.Identifier && ((J.Identifier) iterable).getSimpleName().equals(entities) ? loop : null;
+    }
+
+    private static String quote(String query) {
+        return '"' + query.replace("\\", "\\\\").replace("\"", "\\\"") + '"';
+    }
+
+    private static String placeholders(int count) {
+        return String.join("", nCopies(count, ", #{any()}"));
+    }
+}
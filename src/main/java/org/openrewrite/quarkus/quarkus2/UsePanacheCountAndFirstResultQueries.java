@@ -0,0 +1,214 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.quarkus2;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.VariableNameUtils;
+import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.tree.Expression;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.TypeUtils;
+import org.openrewrite.quarkus.QuarkusRecipePerformanceVisitor;
+import org.openrewrite.quarkus.table.QuarkusRecipePerformance;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@EqualsAndHashCode(callSuper = false)
+@Value
+public class UsePanacheCountAndFirstResultQueries extends Recipe {
+
+    private static final MethodMatcher LIST_SIZE = new MethodMatcher("java.util.List size()");
+    private static final MethodMatcher LIST_IS_EMPTY = new MethodMatcher("java.util.List isEmpty()");
+    private static final MethodMatcher LIST_GET = new MethodMatcher("java.util.List get(int)");
+    private static final MethodMatcher LIST_STREAM = new MethodMatcher("java.util.List stream()");
+    private static final MethodMatcher STREAM_FIND_FIRST = new MethodMatcher("java.util.stream.Stream findFirst()");
+    private static final MethodMatcher UNI_MAP = new MethodMatcher("io.smallrye.mutiny.Uni map(..)");
+
+    String displayName = "Use Panache `count()` and `firstResult()` queries";
+
+    String description = "Replaces Panache queries that load all matching entities only to count them, check whether " +
+            "there are any, or take the first one, such as `Entity.listAll().size()`, `Entity.findAll().list().isEmpty()` " +
+            "or `Entity.find(..).list().get(0)`, with `count(..)`, `count(..) > 0`, `firstResult()` and " +
+            "`firstResultOptional()` queries. For Hibernate Reactive Panache the `Uni` mapping the listed entities is " +
+            "replaced by a mapped `count(..)` or `firstResult()` query. Note that `firstResult()` returns `null` rather " +
+            "than failing when there is no matching entity.";
+
+    transient QuarkusRecipePerformance performance = new QuarkusRecipePerformance(this);
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return new QuarkusRecipePerformanceVisitor(getName(), performance, Preconditions.check(Preconditions.or(
+                new UsesType<>(PanacheUtils.ENTITY_BASE, true),
+                new UsesType<>(PanacheUtils.REACTIVE_ENTITY_BASE, true)
+        ), new JavaVisitor<ExecutionContext>() {
+            @Override
+            public J visitUnary(J.Unary unary, ExecutionContext ctx) {
+                // !Entity.listAll().isEmpty()
+                if (unary.getOperator() == J.Unary.Type.Not && unary.getExpression() instanceof J.MethodInvocation &&
+                    LIST_IS_EMPTY.matches((J.MethodInvocation) unary.getExpression())) {
+                    PanacheUtils.ListQuery query = PanacheUtils.listQuery(((J.MethodInvocation) unary.getExpression()).getSelect());
+                    if (query != null && !query.isQualified() && !query.isReactive()) {
+                        return replace(unary, count(query) + " > 0", countArguments(query));
+                    }
+                }
+                return super.visitUnary(unary, ctx);
+            }
+
+            @Override
+            public J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                J j = super.visitMethodInvocation(method, ctx);
+                if (!(j instanceof J.MethodInvocation)) {
+                    return j;
+                }
+                J.MethodInvocation m = (J.MethodInvocation) j;
+                if (UNI_MAP.matches(m)) {
+                    return reactive(m);
+                }
+
+                if (STREAM_FIND_FIRST.matches(m) && m.getSelect() instanceof J.MethodInvocation &&
+                    LIST_STREAM.matches((J.MethodInvocation) m.getSelect())) {
+                    PanacheUtils.ListQuery query = PanacheUtils.listQuery(((J.MethodInvocation) m.getSelect()).getSelect());
+                    return query == null || query.isQualified() || query.isReactive() ? m :
+                            replace(m, query.find() + ".firstResultOptional()", query.getArguments());
+                }
+                PanacheUtils.ListQuery query = PanacheUtils.listQuery(m.getSelect());
+                if (query == null || query.isQualified() || query.isReactive()) {
+                    return m;
+                }
+                if (LIST_SIZE.matches(m)) {
+                    // count() is a long, only comparisons can use it as is
+                    return replace(m, (isComparison(getCursor().getParentTreeCursor().getValue()) ? "" : "(int) ") + count(query),
+                            countArguments(query));
+                } else if (LIST_IS_EMPTY.matches(m)) {
+                    return replace(m, count(query) + " == 0", countArguments(query));
+                } else if (LIST_GET.matches(m) && isZero(m.getArguments().get(0))) {
+                    return replace(m, query.find() + ".firstResult()", query.getArguments());
+                }
+                return m;
+            }
+
+            private J reactive(J.MethodInvocation map) {
+                PanacheUtils.ListQuery query = PanacheUtils.listQuery(map.getSelect());
+                String operation = listOperation(map.getArguments().get(0));
+                if (query == null || query.isQualified() || !query.isReactive() || operation == null) {
+                    return map;
+                }
+                if ("first".equals(operation)) {
+                    return replace(map, query.find() + ".firstResult()", query.getArguments());
+                } else if ("size".equals(operation)) {
+                    return replace(map, count(query) + ".map(Long::intValue)", countArguments(query));
+                }
+                String count = VariableNameUtils.generateVariableName("count", getCursor(), VariableNameUtils.GenerationStrategy.INCREMENT_NUMBER);
+                return replace(map, count(query) + ".map(" + count + " -> " + count + ("isEmpty".equals(operation) ? " == 0)" : " > 0)"),
+                        countArguments(query));
+            }
+
+            private J replace(Expression expression, String code, List<Expression> arguments) {
+                return JavaTemplate.builder(code)
+                        .contextSensitive()
+                        .build()
+                        .apply(updateCursor(expression), expression.getCoordinates().replace(), arguments.toArray());
+            }
+        }));
+    }
+
+    private static String count(PanacheUtils.ListQuery query) {
+        return query.call("count", countArguments(query).size());
+    }
+
+    /**
+     * @return The query arguments without the {@code Sort}, which {@code count(..)} does not accept.
+     */
+    private static List<Expression> countArguments(PanacheUtils.ListQuery query) {
+        List<Expression> arguments = new ArrayList<>();
+        for (Expression argument : query.getArguments()) {
+            if (!TypeUtils.isOfClassType(argument.getType(), "io.quarkus.panache.common.Sort")) {
+                arguments.add(argument);
+            }
+        }
+        return arguments;
+    }
+
+    /**
+     * @return The list operation of a function mapping the listed entities, one of {@code size}, {@code isEmpty},
+     * {@code nonEmpty} or {@code first}, or {@code null} when it does something else with the entities.
+     */
+    private static @Nullable String listOperation(Expression function) {
+        if (function instanceof J.MemberReference) {
+            J.MemberReference reference = (J.MemberReference) function;
+            String name = reference.getReference().getSimpleName();
+            return TypeUtils.isAssignableTo("java.util.List", reference.getContaining().getType()) &&
+                   ("size".equals(name) || "isEmpty".equals(name)) ? name : null;
+        }
+        if (!(function instanceof J.Lambda) || ((J.Lambda) function).getParameters().getParameters().size() != 1 ||
+            !(((J.Lambda) function).getParameters().getParameters().get(0) instanceof J.VariableDeclarations)) {
+            return null;
+        }
+        J.Lambda lambda = (J.Lambda) function;
+        String entities = ((J.VariableDeclarations) lambda.getParameters().getParameters().get(0)).getVariables().get(0).getSimpleName();
+        J body = lambda.getBody();
+        boolean not = body instanceof J.Unary && ((J.Unary) body).getOperator() == J.Unary.Type.Not;
+        if (not) {
+            body = ((J.Unary) body).getExpression();
+        }
+        if (!(body instanceof J.MethodInvocation)) {
+            return null;
+        }
+        J.MethodInvocation method = (J.MethodInvocation) body;
+        if (!(method.getSelect() instanceof J.Identifier) || !((J.Identifier) method.getSelect()).getSimpleName().equals(entities)) {
+            return null;
+        }
+        if (LIST_IS_EMPTY.matches(method)) {
+            return not ? "nonEmpty" : "isEmpty";
+        } else if (not) {
+            return null;
+        } else if (LIST_SIZE.matches(method)) {
+            return "size";
+        }
+        return LIST_GET.matches(method) && isZero(method.getArguments().get(0)) ? "first" : null;
+    }
+
+    private static boolean isComparison(Object parent) {
+        if (!(parent instanceof J.Binary)) {
+            return false;
+        }
+        switch (((J.Binary) parent).getOperator()) {
+            case Equal:
+            case NotEqual:
+            case LessThan:
+            case LessThanOrEqual:
+            case GreaterThan:
+            case GreaterThanOrEqual:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static boolean isZero(Expression expression) {
+        return expression instanceof J.Literal && Integer.valueOf(0).equals(((J.Literal) expression).getValue());
+    }
+}
@@ -20,14 +20,23 @@ import org.jspecify.annotations.Nullable;
 import org.openrewrite.ExecutionContext;
 import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
+import org.openrewrite.Tree;
 import org.openrewrite.TreeVisitor;
-import org.openrewrite.java.ChangeMethodTargetToStatic;
 import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.MethodMatcher;
 import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.tree.Flag;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.JavaType;
 import org.openrewrite.java.tree.TypeUtils;
+import org.openrewrite.marker.Markers;
+import org.openrewrite.quarkus.QuarkusRecipePerformanceVisitor;
+import org.openrewrite.quarkus.table.QuarkusRecipePerformance;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import static java.util.Collections.emptyList;
 
 public class UsePanacheEntityBaseStaticMethods extends Recipe {
     private static final MethodMatcher GET_ENTITY_MANAGER = new MethodMatcher("io.quarkus.hibernate.orm.panache.PanacheEntityBase getEntityManager()");
@@ -39,42 +48,77 @@ public class UsePanacheEntityBaseStaticMethods extends Recipe {
     @Getter
     final String description = "The `getEntityManager()` and the `flush()` methods of `PanacheEntityBase` are now static methods.";
 
+    transient QuarkusRecipePerformance performance = new QuarkusRecipePerformance(this);
+
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(Preconditions.or(
+        return new QuarkusRecipePerformanceVisitor(getName(), performance, Preconditions.check(Preconditions.or(
                 new UsesMethod<>(GET_ENTITY_MANAGER),
                 new UsesMethod<>(FLUSH)
-        ), new UsePanacheEntityBaseStaticMethodsVisitor());
+        ), new UsePanacheEntityBaseStaticMethodsVisitor()));
     }
 
     private static class UsePanacheEntityBaseStaticMethodsVisitor extends JavaIsoVisitor<ExecutionContext> {
-        private static @Nullable String getSelectTypeFQ(J.MethodInvocation method) {
+        private static final String STATIC_TARGETS = "STATIC_TARGETS";
+
+        private static JavaType.@Nullable FullyQualified getSelectType(J.MethodInvocation method) {
             if (method.getSelect() != null) {
-                JavaType.FullyQualified selectType = TypeUtils.asFullyQualified(method.getSelect().getType());
-                if (selectType != null) {
-                    return selectType.getFullyQualifiedName();
-                }
+                return TypeUtils.asFullyQualified(method.getSelect().getType());
             }
             return null;
         }
 
         @Override
-        public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
-            if (GET_ENTITY_MANAGER.matches(method)) {
-                String selectType = getSelectTypeFQ(method);
-                if (selectType != null) {
-                    doAfterVisit(new ChangeMethodTargetToStatic("io.quarkus.hibernate.orm.panache.PanacheEntityBase getEntityManager()", selectType, null, null, false).getVisitor());
-                }
-            } else if (FLUSH.matches(method)) {
-                String selectType = getSelectTypeFQ(method);
-                if (selectType != null) {
-                    doAfterVisit(new ChangeMethodTargetToStatic("io.quarkus.hibernate.orm.panache.PanacheEntityBase flush()", selectType, null, null, false).getVisitor());
+        public void doAfterVisit(TreeVisitor<?, ExecutionContext> visitor) {
+            QuarkusRecipePerformanceVisitor.afterVisitScheduled();
+            super.doAfterVisit(visitor);
+        }
+
+        @Override
+        public J.CompilationUnit visitCompilationUnit(J.CompilationUnit cu, ExecutionContext ctx) {
+            J.CompilationUnit c = super.visitCompilationUnit(cu, ctx);
+            Set<String> staticTargets = getCursor().pollMessage(STATIC_TARGETS);
+            if (staticTargets != null) {
+                for (String staticTarget : staticTargets) {
+                    maybeAddImport(staticTarget);
                 }
             }
-
-            return super.visitMethodInvocation(method, ctx);
+            return c;
         }
 
-    }
+        @Override
+        public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+            J.MethodInvocation mi = super.visitMethodInvocation(method, ctx);
+            if (!GET_ENTITY_MANAGER.matches(mi) && !FLUSH.matches(mi)) {
+                return mi;
+            }
+            JavaType.FullyQualified selectType = getSelectType(mi);
+            if (selectType == null || mi.getSelect() == null) {
+                return mi;
+            }
+
+            // Rewrite the call in place rather than scheduling a ChangeMethodTargetToStatic pass per call,
+            // and record the target type so that its import is added once per compilation unit
+            getCursor().dropParentUntil(J.CompilationUnit.class::isInstance)
+                    .computeMessageIfAbsent(STATIC_TARGETS, k -> new LinkedHashSet<String>())
+                    .add(selectType.getFullyQualifiedName());
 
+            mi = mi.withSelect(new J.Identifier(
+                    Tree.randomId(),
+                    mi.getSelect().getPrefix(),
+                    Markers.EMPTY,
+                    emptyList(),
+                    selectType.getClassName(),
+                    selectType,
+                    null
+            ));
+            JavaType.Method methodType = mi.getMethodType();
+            if (methodType != null) {
+                Set<Flag> flags = new LinkedHashSet<>(methodType.getFlags());
+                flags.add(Flag.Static);
+                mi = mi.withMethodType(methodType.withDeclaringType(selectType).withFlags(flags));
+            }
+            return mi;
+        }
+    }
 }
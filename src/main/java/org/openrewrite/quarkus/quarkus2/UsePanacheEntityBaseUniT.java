@@ -25,6 +25,8 @@ import org.openrewrite.java.search.UsesMethod;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.JavaType;
 import org.openrewrite.java.tree.TypeUtils;
+import org.openrewrite.quarkus.QuarkusRecipePerformanceVisitor;
+import org.openrewrite.quarkus.table.QuarkusRecipePerformance;
 
 import java.util.List;
 import java.util.stream.Stream;
@@ -61,12 +63,14 @@ public class UsePanacheEntityBaseUniT extends Recipe {
     @Getter
     final String description = "The `persist()` and `persistAndFlush()` methods now return an `Uni<T extends PanacheEntityBase>` instead of an `Uni<Void>` to allow chaining the methods.";
 
+    transient QuarkusRecipePerformance performance = new QuarkusRecipePerformance(this);
+
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(Preconditions.or(
+        return new QuarkusRecipePerformanceVisitor(getName(), performance, Preconditions.check(Preconditions.or(
                 new UsesMethod<>(PERSIST_MATCHER),
                 new UsesMethod<>(PERSIST_AND_FLUSH_MATCHER)
-        ), new UsePanacheEntityBaseUniTVisitor());
+        ), new UsePanacheEntityBaseUniTVisitor()));
     }
 
     private static class UsePanacheEntityBaseUniTVisitor extends JavaIsoVisitor<ExecutionContext> {
@@ -0,0 +1,396 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.quarkus2;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.Markers;
+import org.openrewrite.quarkus.QuarkusRecipePerformanceVisitor;
+import org.openrewrite.quarkus.table.QuarkusRecipePerformance;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.util.Collections.emptyList;
+
+@EqualsAndHashCode(callSuper = false)
+@Value
+public class UsePanacheProjections extends Recipe {
+
+    private static final String REGISTER_FOR_REFLECTION = "io.quarkus.runtime.annotations.RegisterForReflection";
+    private static final String VIEWS = "VIEWS";
+
+    private static final MethodMatcher LIST_STREAM = new MethodMatcher("java.util.List stream()");
+    private static final MethodMatcher STREAM_MAP = new MethodMatcher("java.util.stream.Stream map(..)");
+
+    String displayName = "Use Panache projections for entities read through a few fields";
+
+    String description = "Replaces Hibernate ORM Panache queries whose entities are only read through a few fields " +
+            "or getters with `project(..)` queries, so that only these columns are selected and no entities are " +
+            "hydrated. Entities mapped onto a DTO with `stream().map(e -> new Dto(e.a, e.getB()))` are projected " +
+            "onto the DTO when its constructor parameters are named after the fields. Entities iterated by a " +
+            "for-each loop are projected onto a generated nested `@RegisterForReflection` class with a public final " +
+            "field per field read.";
+
+    transient QuarkusRecipePerformance performance = new QuarkusRecipePerformance(this);
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return new QuarkusRecipePerformanceVisitor(getName(), performance, Preconditions.check(
+                new UsesType<>(PanacheUtils.ENTITY_BASE, true),
+                new JavaVisitor<ExecutionContext>() {
+                    @Override
+                    public void doAfterVisit(TreeVisitor<?, ExecutionContext> visitor) {
+                        QuarkusRecipePerformanceVisitor.afterVisitScheduled();
+                        super.doAfterVisit(visitor);
+                    }
+
+                    @Override
+                    public J visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+                        if (classDecl.getKind() != J.ClassDeclaration.Kind.Type.Class) {
+                            return super.visitClassDeclaration(classDecl, ctx);
+                        }
+                        Map<UUID, Projection> loops = new LinkedHashMap<>();
+                        new ProjectedLoopScanner().visit(classDecl.getBody(), loops, getCursor());
+                        if (loops.isEmpty()) {
+                            return super.visitClassDeclaration(classDecl, ctx);
+                        }
+
+                        // Declare the views first so that the projected queries can refer to them
+                        J.ClassDeclaration c = classDecl;
+                        Set<String> names = new HashSet<>();
+                        for (Statement statement : c.getBody().getStatements()) {
+                            if (statement instanceof J.ClassDeclaration) {
+                                names.add(((J.ClassDeclaration) statement).getSimpleName());
+                            }
+                        }
+                        Map<Projection, String> viewNames = new LinkedHashMap<>();
+                        for (Projection projection : loops.values()) {
+                            if (viewNames.containsKey(projection)) {
+                                continue;
+                            }
+                            String name = projection.getEntity().getClassName().substring(
+                                    projection.getEntity().getClassName().lastIndexOf('.') + 1) + "View";
+                            for (int i = 2; names.contains(name); i++) {
+                                name = name.replaceAll("\\d*$", "") + i;
+                            }
+                            names.add(name);
+                            viewNames.put(projection, name);
+                            c = declareView(c, name, projection, ctx);
+                        }
+
+                        Map<UUID, JavaType.FullyQualified> views = new HashMap<>();
+                        for (Map.Entry<UUID, Projection> loop : loops.entrySet()) {
+                            String name = viewNames.get(loop.getValue());
+                            views.put(loop.getKey(), viewType(c, name));
+                        }
+                        updateCursor(c);
+                        getCursor().putMessage(VIEWS, views);
+                        return super.visitClassDeclaration(c, ctx);
+                    }
+
+                    private J.ClassDeclaration declareView(J.ClassDeclaration c, String name, Projection projection, ExecutionContext ctx) {
+                        StringBuilder fields = new StringBuilder();
+                        StringJoiner parameters = new StringJoiner(", ");
+                        StringBuilder assignments = new StringBuilder();
+                        List<String> imports = new ArrayList<>();
+                        imports.add(REGISTER_FOR_REFLECTION);
+                        for (JavaType.Variable field : projection.getFields()) {
+                            String type;
+                            if (field.getType() instanceof JavaType.Primitive) {
+                                type = ((JavaType.Primitive) field.getType()).getKeyword();
+                            } else {
+                                JavaType.FullyQualified fieldType = (JavaType.FullyQualified) field.getType();
+                                type = fieldType.getClassName();
+                                if (!"java.lang".equals(fieldType.getPackageName())) {
+                                    imports.add(fieldType.getFullyQualifiedName());
+                                    maybeAddImport(fieldType.getFullyQualifiedName());
+                                }
+                            }
+                            fields.append("public final ").append(type).append(' ').append(field.getName()).append(";\n");
+                            parameters.add(type + " " + field.getName());
+                            assignments.append("this.").append(field.getName()).append(" = ").append(field.getName()).append(";\n");
+                        }
+
+                        maybeAddImport(REGISTER_FOR_REFLECTION);
+                        return JavaTemplate.builder("@RegisterForReflection\n" +
+                                                    "public static class " + name + " {\n" +
+                                                    fields + "\n" +
+                                                    "public " + name + "(" + parameters + ") {\n" +
+                                                    assignments +
+                                                    "}\n" +
+                                                    "}")
+                                .contextSensitive()
+                                .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "quarkus-core"))
+                                .imports(imports.toArray(new String[0]))
+                                .build()
+                                .apply(updateCursor(c), c.getBody().getCoordinates().lastStatement());
+                    }
+
+                    @Override
+                    public J visitForEachLoop(J.ForEachLoop forLoop, ExecutionContext ctx) {
+                        J.ForEachLoop l = (J.ForEachLoop) super.visitForEachLoop(forLoop, ctx);
+                        Map<UUID, JavaType.FullyQualified> views = getCursor().getNearestMessage(VIEWS);
+                        JavaType.FullyQualified view = views == null ? null : views.get(l.getId());
+                        PanacheUtils.ListQuery query = PanacheUtils.listQuery(l.getControl().getIterable());
+                        if (view == null || query == null || query.isQualified()) {
+                            return l;
+                        }
+
+                        String viewName = view.getClassName().substring(view.getClassName().lastIndexOf('.') + 1);
+                        Expression iterable = l.getControl().getIterable();
+                        iterable = JavaTemplate.builder(query.find() + ".project(" + viewName + ".class).list()")
+                                .contextSensitive()
+                                .build()
+                                .apply(new Cursor(new Cursor(updateCursor(l), l.getControl()), iterable),
+                                        iterable.getCoordinates().replace(), query.getArguments().toArray());
+
+                        J.VariableDeclarations variable = l.getControl().getVariable();
+                        String name = variable.getVariables().get(0).getSimpleName();
+                        variable = variable
+                                .withTypeExpression(new J.Identifier(Tree.randomId(),
+                                        variable.getTypeExpression() == null ? Space.EMPTY : variable.getTypeExpression().getPrefix(),
+                                        Markers.EMPTY, emptyList(), viewName, view, null))
+                                .withVariables(ListUtils.map(variable.getVariables(), v -> v
+                                        .withName(v.getName().withType(view))
+                                        .withVariableType(v.getVariableType() == null ? null : v.getVariableType().withType(view))));
+                        Statement body = (Statement) new ViewAccessVisitor(name, view).visitNonNull(l.getBody(), 0);
+                        return l.withControl(l.getControl().withVariable(variable).withIterable(iterable)).withBody(body);
+                    }
+
+                    @Override
+                    public J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                        J j = super.visitMethodInvocation(method, ctx);
+                        if (!(j instanceof J.MethodInvocation) || !STREAM_MAP.matches((J.MethodInvocation) j)) {
+                            return j;
+                        }
+                        // Entity.find(..).list().stream().map(entity -> new Dto(entity.a, entity.getB()))
+                        J.MethodInvocation m = (J.MethodInvocation) j;
+                        if (!(m.getSelect() instanceof J.MethodInvocation) || !LIST_STREAM.matches((J.MethodInvocation) m.getSelect())) {
+                            return m;
+                        }
+                        PanacheUtils.ListQuery query = PanacheUtils.listQuery(((J.MethodInvocation) m.getSelect()).getSelect());
+                        JavaType.FullyQualified dto = query == null || query.isQualified() || query.isReactive() ? null : projectedDto(m.getArguments().get(0));
+                        if (dto == null) {
+                            return m;
+                        }
+                        return JavaTemplate.builder(query.find() + ".project(" + dto.getClassName() + ".class).list().stream()")
+                                .contextSensitive()
+                                .build()
+                                .apply(updateCursor(m), m.getCoordinates().replace(), query.getArguments().toArray());
+                    }
+                }));
+    }
+
+    /**
+     * The entity fields read from the entities iterated by a loop.
+     */
+    @Value
+    private static class Projection {
+        JavaType.FullyQualified entity;
+        List<JavaType.Variable> fields;
+    }
+
+    /**
+     * Collects the loops of a class, but not of its nested classes, iterating entities that are only read through a
+     * few fields.
+     */
+    private static class ProjectedLoopScanner extends JavaIsoVisitor<Map<UUID, Projection>> {
+        @Override
+        public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, Map<UUID, Projection> loops) {
+            return classDecl;
+        }
+
+        @Override
+        public J.ForEachLoop visitForEachLoop(J.ForEachLoop forLoop, Map<UUID, Projection> loops) {
+            J.ForEachLoop l = super.visitForEachLoop(forLoop, loops);
+            PanacheUtils.ListQuery query = PanacheUtils.listQuery(l.getControl().getIterable());
+            J.VariableDeclarations variable = l.getControl().getVariable();
+            JavaType.FullyQualified entity = TypeUtils.asFullyQualified(variable.getType());
+            if (query == null || query.isQualified() || query.isReactive() || variable.getVariables().size() != 1 || !PanacheUtils.isEntity(entity)) {
+                return l;
+            }
+            Map<String, JavaType.Variable> fields = readFields(l.getBody(), variable.getVariables().get(0).getSimpleName(), entity);
+            if (fields != null && !fields.isEmpty() && fields.size() < persistentFieldCount(entity) &&
+                fields.values().stream().allMatch(f -> isProjectable(f.getType()))) {
+                loops.put(l.getId(), new Projection(entity, new ArrayList<>(fields.values())));
+            }
+            return l;
+        }
+    }
+
+    /**
+     * Reads the fields of the view instead of calling the getters of the entity.
+     */
+    private static class ViewAccessVisitor extends JavaVisitor<Integer> {
+        private final String name;
+        private final JavaType.FullyQualified view;
+
+        ViewAccessVisitor(String name, JavaType.FullyQualified view) {
+            this.name = name;
+            this.view = view;
+        }
+
+        @Override
+        public J visitIdentifier(J.Identifier identifier, Integer p) {
+            return identifier.getSimpleName().equals(name) && PanacheUtils.isEntity(identifier.getType()) ?
+                    identifier.withType(view) : identifier;
+        }
+
+        @Override
+        public J visitMethodInvocation(J.MethodInvocation method, Integer p) {
+            J j = super.visitMethodInvocation(method, p);
+            if (!(j instanceof J.MethodInvocation)) {
+                return j;
+            }
+            J.MethodInvocation m = (J.MethodInvocation) j;
+            String field = PanacheUtils.getterField(m);
+            if (field == null || !(m.getSelect() instanceof J.Identifier) || !((J.Identifier) m.getSelect()).getSimpleName().equals(name)) {
+                return m;
+            }
+            return new J.FieldAccess(Tree.randomId(), m.getPrefix(), m.getMarkers(), m.getSelect(),
+                    JLeftPadded.build(m.getName().withSimpleName(field)), m.getType());
+        }
+    }
+
+    /**
+     * @return The fields of the entity read by the statement through the named variable, or {@code null} when the
+     * variable is used otherwise, such as passed to a method or assigned a field.
+     */
+    private static @Nullable Map<String, JavaType.Variable> readFields(Statement statement, String name, JavaType.FullyQualified entity) {
+        Map<String, JavaType.Variable> fields = new LinkedHashMap<>();
+        AtomicBoolean usedOtherwise = new AtomicBoolean();
+        new JavaIsoVisitor<Integer>() {
+            @Override
+            public J.Identifier visitIdentifier(J.Identifier identifier, Integer p) {
+                if (!identifier.getSimpleName().equals(name)) {
+                    return identifier;
+                }
+                Cursor parentCursor = getCursor().getParentTreeCursor();
+                Object parent = parentCursor.getValue();
+                String field = null;
+                if (parent instanceof J.FieldAccess && ((J.FieldAccess) parent).getName() == identifier ||
+                    parent instanceof J.MethodInvocation && ((J.MethodInvocation) parent).getName() == identifier) {
+                    return identifier;
+                } else if (parent instanceof J.FieldAccess && !isAssigned(parentCursor)) {
+                    field = ((J.FieldAccess) parent).getSimpleName();
+                } else if (parent instanceof J.MethodInvocation && ((J.MethodInvocation) parent).getSelect() == identifier) {
+                    field = PanacheUtils.getterField((J.MethodInvocation) parent);
+                }
+                JavaType.Variable variable = field == null ? null : PanacheUtils.field(entity, field);
+                if (variable == null) {
+                    usedOtherwise.set(true);
+                } else {
+                    fields.put(field, variable);
+                }
+                return identifier;
+            }
+        }.visit(statement, 0);
+        return usedOtherwise.get() ? null : fields;
+    }
+
+    /**
+     * @return The entity passed through the lambda onto the constructor of a DTO, whose parameters are named after
+     * the entity fields passed in, such as {@code entity -> new Dto(entity.a, entity.getB())}.
+     */
+    private static JavaType.@Nullable FullyQualified projectedDto(Expression function) {
+        if (!(function instanceof J.Lambda) || ((J.Lambda) function).getParameters().getParameters().size() != 1 ||
+            !(((J.Lambda) function).getParameters().getParameters().get(0) instanceof J.VariableDeclarations) ||
+            !(((J.Lambda) function).getBody() instanceof J.NewClass)) {
+            return null;
+        }
+        J.VariableDeclarations parameter = (J.VariableDeclarations) ((J.Lambda) function).getParameters().getParameters().get(0);
+        JavaType.FullyQualified entity = TypeUtils.asFullyQualified(parameter.getType());
+        J.NewClass newClass = (J.NewClass) ((J.Lambda) function).getBody();
+        if (!PanacheUtils.isEntity(entity) || newClass.getBody() != null || newClass.getConstructorType() == null) {
+            return null;
+        }
+
+        String name = parameter.getVariables().get(0).getSimpleName();
+        List<String> fields = new ArrayList<>();
+        for (Expression argument : newClass.getArguments()) {
+            String field = null;
+            if (argument instanceof J.FieldAccess && isNamed(((J.FieldAccess) argument).getTarget(), name)) {
+                field = ((J.FieldAccess) argument).getSimpleName();
+            } else if (argument instanceof J.MethodInvocation && isNamed(((J.MethodInvocation) argument).getSelect(), name)) {
+                field = PanacheUtils.getterField((J.MethodInvocation) argument);
+            }
+            if (field == null || PanacheUtils.field(entity, field) == null) {
+                return null;
+            }
+            fields.add(field);
+        }
+        return fields.equals(newClass.getConstructorType().getParameterNames()) ?
+                TypeUtils.asFullyQualified(newClass.getType()) : null;
+    }
+
+    private static int persistentFieldCount(JavaType.FullyQualified entity) {
+        int count = 0;
+        for (JavaType.FullyQualified type = entity; type != null; type = type.getSupertype()) {
+            for (JavaType.Variable member : type.getMembers()) {
+                if (!member.hasFlags(Flag.Static) && !member.hasFlags(Flag.Transient)) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @return Whether a projection can select a column of this type, which is not the case of associations.
+     */
+    private static boolean isProjectable(@Nullable JavaType type) {
+        if (type instanceof JavaType.Primitive) {
+            return true;
+        }
+        return type instanceof JavaType.Class &&
+               ((JavaType.Class) type).getFullyQualifiedName().startsWith("java.") &&
+               !TypeUtils.isAssignableTo("java.util.Collection", type) &&
+               !TypeUtils.isAssignableTo("java.util.Map", type);
+    }
+
+    private static boolean isAssigned(Cursor fieldAccess) {
+        Object parent = fieldAccess.getParentTreeCursor().getValue();
+        Object field = fieldAccess.getValue();
+        return parent instanceof J.Assignment && ((J.Assignment) parent).getVariable() == field ||
+               parent instanceof J.AssignmentOperation && ((J.AssignmentOperation) parent).getVariable() == field ||
+               parent instanceof J.Unary && ((J.Unary) parent).getOperator().isModifying();
+    }
+
+    private static boolean isNamed(@Nullable Expression expression, String name) {
+        return expression instanceof J.Identifier && ((J.Identifier) expression).getSimpleName().equals(name);
+    }
+
+    private static JavaType.FullyQualified viewType(J.ClassDeclaration c, String name) {
+        for (Statement statement : c.getBody().getStatements()) {
+            if (statement instanceof J.ClassDeclaration && ((J.ClassDeclaration) statement).getSimpleName().equals(name) &&
+                ((J.ClassDeclaration) statement).getType() != null) {
+                return ((J.ClassDeclaration) statement).getType();
+            }
+        }
+        return JavaType.ShallowClass.build((c.getType() == null ? c.getSimpleName() : c.getType().getFullyQualifiedName()) + "$" + name);
+    }
+}
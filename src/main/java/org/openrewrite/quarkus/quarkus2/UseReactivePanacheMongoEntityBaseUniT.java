@@ -25,6 +25,8 @@ import org.openrewrite.java.search.UsesMethod;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.JavaType;
 import org.openrewrite.java.tree.TypeUtils;
+import org.openrewrite.quarkus.QuarkusRecipePerformanceVisitor;
+import org.openrewrite.quarkus.table.QuarkusRecipePerformance;
 
 import java.util.List;
 import java.util.stream.Stream;
@@ -42,13 +44,15 @@ public class UseReactivePanacheMongoEntityBaseUniT extends Recipe {
     @Getter
     final String description = "The `persist()`, `update()`, and `persistOrUpdate()` methods now return a `Uni<T extends ReactivePanacheMongoEntityBase>` instead of a `Uni<Void>` to allow chaining the methods.";
 
+    transient QuarkusRecipePerformance performance = new QuarkusRecipePerformance(this);
+
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(Preconditions.or(
+        return new QuarkusRecipePerformanceVisitor(getName(), performance, Preconditions.check(Preconditions.or(
                 new UsesMethod<>(PERSIST_MATCHER),
                 new UsesMethod<>(UPDATE_MATCHER),
                 new UsesMethod<>(PERSIST_OR_UPDATE_MATCHER)
-        ), new UseReactivePanacheMongoEntityBaseUniTVisitor());
+        ), new UseReactivePanacheMongoEntityBaseUniTVisitor()));
     }
 
     private static class UseReactivePanacheMongoEntityBaseUniTVisitor extends JavaIsoVisitor<ExecutionContext> {
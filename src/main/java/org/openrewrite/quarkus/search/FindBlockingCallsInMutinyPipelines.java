@@ -0,0 +1,148 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.search;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.tree.Expression;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaSourceFile;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.marker.SearchResult;
+import org.openrewrite.quarkus.QuarkusEndpointUtils;
+import org.openrewrite.quarkus.QuarkusRecipePerformanceVisitor;
+import org.openrewrite.quarkus.table.MutinyBlockingCalls;
+import org.openrewrite.quarkus.table.QuarkusRecipePerformance;
+
+/**
+ * Finds blocking calls in the callbacks of Mutiny operators, which Quarkus runs on the Vert.x event loop unless the
+ * pipeline is offloaded to a worker thread.
+ */
+@EqualsAndHashCode(callSuper = false)
+@Value
+public class FindBlockingCallsInMutinyPipelines extends Recipe {
+
+    private static final String OPERATOR = "MUTINY_OPERATOR";
+
+    private static final String RUN_SUBSCRIPTION_ON = "runSubscriptionOn(Infrastructure.getDefaultWorkerPool())";
+    private static final String EMIT_ON = "emitOn(Infrastructure.getDefaultWorkerPool())";
+
+    String displayName = "Find blocking calls in Mutiny pipelines";
+
+    String description = "Finds Hibernate ORM Panache, JPA, JDBC, synchronous REST client, `Thread.sleep` and " +
+            "`await()` calls in lambdas and method references passed to Mutiny operators such as " +
+            "`onItem().transform`, `chain` or `invoke`. These block the Vert.x event loop, unless the pipeline is " +
+            "moved to a worker thread with `runSubscriptionOn` or `emitOn(Infrastructure.getDefaultWorkerPool())`.";
+
+    transient MutinyBlockingCalls blockingCalls = new MutinyBlockingCalls(this);
+
+    transient QuarkusRecipePerformance performance = new QuarkusRecipePerformance(this);
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return new QuarkusRecipePerformanceVisitor(getName(), performance, Preconditions.check(
+                new UsesType<>("io.smallrye.mutiny.*", null), new JavaIsoVisitor<ExecutionContext>() {
+                    @Override
+                    public J.Lambda visitLambda(J.Lambda lambda, ExecutionContext ctx) {
+                        // Other lambdas, such as a task submitted to an executor, don't run in the enclosing callback
+                        Operator operator = operator();
+                        getCursor().putMessage(OPERATOR, operator == null ? Operator.NONE : operator);
+                        return super.visitLambda(lambda, ctx);
+                    }
+
+                    @Override
+                    public J.MemberReference visitMemberReference(J.MemberReference memberRef, ExecutionContext ctx) {
+                        J.MemberReference m = super.visitMemberReference(memberRef, ctx);
+                        Operator operator = operator();
+                        if (operator != null && m.getMethodType() != null) {
+                            return found(m, operator, m.getMethodType(), ctx);
+                        }
+                        return m;
+                    }
+
+                    @Override
+                    public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                        J.MethodInvocation m = super.visitMethodInvocation(method, ctx);
+                        Operator operator = getCursor().getNearestMessage(OPERATOR);
+                        if (operator != null && m.getMethodType() != null) {
+                            return found(m, operator, m.getMethodType(), ctx);
+                        }
+                        return m;
+                    }
+
+                    /**
+                     * @return The Mutiny operator the lambda or method reference at the cursor is passed to.
+                     */
+                    private @Nullable Operator operator() {
+                        Cursor operatorCursor = getCursor().getParentTreeCursor();
+                        if (!(operatorCursor.getValue() instanceof J.MethodInvocation)) {
+                            return null;
+                        }
+                        J.MethodInvocation operator = operatorCursor.getValue();
+                        if (operator.getMethodType() == null ||
+                            !operator.getMethodType().getDeclaringType().getFullyQualifiedName().startsWith("io.smallrye.mutiny.")) {
+                            return null;
+                        }
+
+                        boolean creation = false;
+                        for (Expression select = operator.getSelect(); select instanceof J.MethodInvocation; select = ((J.MethodInvocation) select).getSelect()) {
+                            String name = ((J.MethodInvocation) select).getSimpleName();
+                            if ("emitOn".equals(name) || "runSubscriptionOn".equals(name)) {
+                                return Operator.OFFLOADED;
+                            }
+                            creation |= "createFrom".equals(name);
+                        }
+                        // Subscribing on a worker thread also moves the upstream operators off the event loop
+                        J downstream = operator;
+                        for (Cursor c = operatorCursor.getParentTreeCursor();
+                             c.getValue() instanceof J.MethodInvocation && ((J.MethodInvocation) c.getValue()).getSelect() == downstream;
+                             c = c.getParentTreeCursor()) {
+                            downstream = c.getValue();
+                            if ("runSubscriptionOn".equals(((J.MethodInvocation) downstream).getSimpleName())) {
+                                return Operator.OFFLOADED;
+                            }
+                        }
+                        return new Operator(operator.getSimpleName(), creation ? RUN_SUBSCRIPTION_ON : EMIT_ON);
+                    }
+
+                    private <T extends J> T found(T tree, Operator operator, JavaType.Method methodType, ExecutionContext ctx) {
+                        if (operator == Operator.OFFLOADED || operator == Operator.NONE || !QuarkusEndpointUtils.isBlocking(methodType)) {
+                            return tree;
+                        }
+                        String blockingCall = methodType.getDeclaringType().getClassName() + "." + methodType.getName();
+                        blockingCalls.insertRow(ctx, new MutinyBlockingCalls.Row(
+                                getCursor().firstEnclosingOrThrow(JavaSourceFile.class).getSourcePath().toString(),
+                                operator.getName(),
+                                blockingCall,
+                                operator.getSuggestion()));
+                        return SearchResult.found(tree, "Blocking call on the event loop, use " + operator.getSuggestion());
+                    }
+                }));
+    }
+
+    @Value
+    private static class Operator {
+        static final Operator OFFLOADED = new Operator("", "");
+        static final Operator NONE = new Operator("", "");
+
+        String name;
+        String suggestion;
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.search;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.SearchResult;
+import org.openrewrite.quarkus.QuarkusRecipePerformanceVisitor;
+import org.openrewrite.quarkus.quarkus2.PanacheUtils;
+import org.openrewrite.quarkus.table.QuarkusRecipePerformance;
+
+/**
+ * Finds eager associations of Panache entities, and loops navigating the associations of the listed entities, which
+ * both query the database once per entity.
+ */
+@EqualsAndHashCode(callSuper = false)
+@Value
+public class FindPanacheNPlusOneQueries extends Recipe {
+
+    private static final MethodMatcher[] LIST_MATCHERS = {
+            PanacheUtils.LIST_ALL,
+            PanacheUtils.LIST,
+            PanacheUtils.QUERY_LIST
+    };
+
+    String displayName = "Find Panache N+1 queries";
+
+    String description = "Finds associations of Hibernate ORM and Hibernate Reactive Panache entities fetched " +
+            "eagerly, either explicitly or as `@ManyToOne` and `@OneToOne` do by default, and loops navigating the " +
+            "associations of entities listed by a Panache query. Both load the associations with one query per " +
+            "entity. Fetch associations lazily, batch them with `@BatchSize`, or fetch them with the listing query " +
+            "using `left join fetch`.";
+
+    transient QuarkusRecipePerformance performance = new QuarkusRecipePerformance(this);
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return new QuarkusRecipePerformanceVisitor(getName(), performance, Preconditions.check(Preconditions.or(
+                new UsesType<>(PanacheUtils.ENTITY_BASE, true),
+                new UsesType<>(PanacheUtils.REACTIVE_ENTITY_BASE, true)
+        ), new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.VariableDeclarations visitVariableDeclarations(J.VariableDeclarations multiVariable, ExecutionContext ctx) {
+                J.VariableDeclarations mv = super.visitVariableDeclarations(multiVariable, ctx);
+                J.ClassDeclaration classDecl = getCursor().firstEnclosing(J.ClassDeclaration.class);
+                if (classDecl == null ||
+                    !PanacheUtils.isEntity(classDecl.getType()) && !PanacheUtils.isReactiveEntity(classDecl.getType()) ||
+                    !(getCursor().getParentTreeCursor().getParentTreeCursor().getValue() instanceof J.ClassDeclaration)) {
+                    return mv;
+                }
+                return mv.withLeadingAnnotations(ListUtils.map(mv.getLeadingAnnotations(), a -> isEager(a) ?
+                        SearchResult.found(a, "Fetched eagerly with every entity, consider `fetch = FetchType.LAZY`") : a));
+            }
+
+            @Override
+            public J.ForEachLoop visitForEachLoop(J.ForEachLoop forLoop, ExecutionContext ctx) {
+                J.ForEachLoop l = super.visitForEachLoop(forLoop, ctx);
+                J.VariableDeclarations variable = l.getControl().getVariable();
+                JavaType.FullyQualified entity = TypeUtils.asFullyQualified(variable.getType());
+                if (entity == null || !PanacheUtils.isEntity(entity) || !isListing(listingQuery(l.getControl().getIterable()))) {
+                    return l;
+                }
+
+                String name = variable.getVariables().get(0).getSimpleName();
+                return l.withBody((Statement) new JavaIsoVisitor<Integer>() {
+                    @Override
+                    public J.FieldAccess visitFieldAccess(J.FieldAccess fieldAccess, Integer p) {
+                        J.FieldAccess fa = super.visitFieldAccess(fieldAccess, p);
+                        return isNamed(fa.getTarget(), name) && isAssociation(entity, fa.getSimpleName()) ?
+                                SearchResult.found(fa, navigated(fa.getSimpleName())) : fa;
+                    }
+
+                    @Override
+                    public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, Integer p) {
+                        J.MethodInvocation m = super.visitMethodInvocation(method, p);
+                        String field = PanacheUtils.getterField(m);
+                        return field != null && isNamed(m.getSelect(), name) && isAssociation(entity, field) ?
+                                SearchResult.found(m, navigated(field)) : m;
+                    }
+                }.visitNonNull(l.getBody(), 0));
+            }
+
+            /**
+             * @return The query listing the iterated entities, either directly or through a variable declared in the
+             * enclosing block.
+             */
+            private @Nullable Expression listingQuery(Expression iterable) {
+                if (!(iterable instanceof J.Identifier)) {
+                    return iterable;
+                }
+                J.Block block = getCursor().firstEnclosing(J.Block.class);
+                if (block != null) {
+                    for (Statement statement : block.getStatements()) {
+                        if (statement instanceof J.VariableDeclarations) {
+                            for (J.VariableDeclarations.NamedVariable variable : ((J.VariableDeclarations) statement).getVariables()) {
+                                if (variable.getSimpleName().equals(((J.Identifier) iterable).getSimpleName())) {
+                                    return variable.getInitializer();
+                                }
+                            }
+                        }
+                    }
+                }
+                return null;
+            }
+        }));
+    }
+
+    private static String navigated(String association) {
+        return "Loads `" + association + "` once per entity, consider `left join fetch` in the query";
+    }
+
+    /**
+     * @return Whether the expression is a Panache query listing entities without fetching any association.
+     */
+    private static boolean isListing(@Nullable Expression expression) {
+        if (!(expression instanceof J.MethodInvocation)) {
+            return false;
+        }
+        J.MethodInvocation method = (J.MethodInvocation) expression;
+        for (MethodMatcher matcher : LIST_MATCHERS) {
+            if (matcher.matches(method)) {
+                J.MethodInvocation query = method.getSelect() instanceof J.MethodInvocation ?
+                        (J.MethodInvocation) method.getSelect() : method;
+                Expression first = query.getArguments().get(0);
+                return !(first instanceof J.Literal && ((J.Literal) first).getValue() instanceof String &&
+                         ((String) ((J.Literal) first).getValue()).contains("fetch"));
+            }
+        }
+        return false;
+    }
+
+    private static boolean isEager(J.Annotation annotation) {
+        String association = PanacheUtils.associationName(TypeUtils.asFullyQualified(annotation.getType()));
+        if (association == null) {
+            return false;
+        }
+        if (annotation.getArguments() != null) {
+            for (Expression argument : annotation.getArguments()) {
+                if (argument instanceof J.Assignment &&
+                    isNamed(((J.Assignment) argument).getVariable(), "fetch")) {
+                    Expression fetch = ((J.Assignment) argument).getAssignment();
+                    return fetch instanceof J.FieldAccess && "EAGER".equals(((J.FieldAccess) fetch).getSimpleName()) ||
+                           isNamed(fetch, "EAGER");
+                }
+            }
+        }
+        return PanacheUtils.TO_ONE_ASSOCIATIONS.contains(association);
+    }
+
+    private static boolean isAssociation(JavaType.FullyQualified entity, String field) {
+        return PanacheUtils.associationName(PanacheUtils.field(entity, field)) != null;
+    }
+
+    private static boolean isNamed(@Nullable Expression expression, String name) {
+        return expression instanceof J.Identifier && ((J.Identifier) expression).getSimpleName().equals(name);
+    }
+}
@@ -23,6 +23,8 @@ import org.openrewrite.marker.SearchResult;
 import org.openrewrite.properties.PropertiesIsoVisitor;
 import org.openrewrite.properties.tree.Properties;
 import org.openrewrite.quarkus.QuarkusExecutionContextView;
+import org.openrewrite.quarkus.QuarkusRecipePerformanceVisitor;
+import org.openrewrite.quarkus.table.QuarkusRecipePerformance;
 import org.openrewrite.yaml.YamlIsoVisitor;
 import org.openrewrite.yaml.tree.Yaml;
 
@@ -41,9 +43,17 @@ public class FindQuarkusProfiles extends Recipe {
 
     String description = "Search the properties for existing Quarkus profiles.";
 
+    transient QuarkusRecipePerformance performance = new QuarkusRecipePerformance(this);
+
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return new TreeVisitor<Tree, ExecutionContext>() {
+        return new QuarkusRecipePerformanceVisitor(getName(), performance, new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public void doAfterVisit(TreeVisitor<?, ExecutionContext> visitor) {
+                QuarkusRecipePerformanceVisitor.afterVisitScheduled();
+                super.doAfterVisit(visitor);
+            }
+
             @Override
             public boolean isAcceptable(SourceFile sourceFile, ExecutionContext ctx) {
                 QuarkusExecutionContextView quarkusCtx = QuarkusExecutionContextView.view(ctx);
@@ -74,7 +84,7 @@ public class FindQuarkusProfiles extends Recipe {
                 }
                 return tree;
             }
-        };
+        });
     }
 
     /**
@@ -25,6 +25,8 @@ import org.openrewrite.properties.PropertiesIsoVisitor;
 import org.openrewrite.properties.PropertiesVisitor;
 import org.openrewrite.properties.tree.Properties;
 import org.openrewrite.quarkus.QuarkusExecutionContextView;
+import org.openrewrite.quarkus.QuarkusRecipePerformanceVisitor;
+import org.openrewrite.quarkus.table.QuarkusRecipePerformance;
 import org.openrewrite.yaml.YamlIsoVisitor;
 import org.openrewrite.yaml.tree.Yaml;
 import org.openrewrite.yaml.tree.YamlKey;
@@ -146,11 +148,13 @@ public class FindQuarkusProperties extends Recipe {
         return entries;
     }
 
+    transient QuarkusRecipePerformance performance = new QuarkusRecipePerformance(this);
+
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         final Pattern pattern = Pattern.compile(getSearchRegex(propertyKey, profile, searchAllProfiles));
 
-        return new TreeVisitor<Tree, ExecutionContext>() {
+        return new QuarkusRecipePerformanceVisitor(getName(), performance, new TreeVisitor<Tree, ExecutionContext>() {
             @Override
             public boolean isAcceptable(SourceFile sourceFile, ExecutionContext ctx) {
                 QuarkusExecutionContextView quarkusCtx = QuarkusExecutionContextView.view(ctx);
@@ -184,7 +188,7 @@ public class FindQuarkusProperties extends Recipe {
                 }
                 return t;
             }
-        };
+        });
     }
 
     private static String getSearchRegex(String propertyKey, @Nullable String profile, @Nullable Boolean searchAllProfiles) {
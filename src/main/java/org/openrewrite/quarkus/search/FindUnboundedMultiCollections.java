@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.search;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.tree.Expression;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.marker.SearchResult;
+import org.openrewrite.quarkus.QuarkusRecipePerformanceVisitor;
+import org.openrewrite.quarkus.table.QuarkusRecipePerformance;
+
+/**
+ * Finds {@code Multi}s streaming from databases or messaging channels that are collected into memory in one go.
+ */
+@EqualsAndHashCode(callSuper = false)
+@Value
+public class FindUnboundedMultiCollections extends Recipe {
+
+    private static final MethodMatcher COLLECT_MATCHER = new MethodMatcher("io.smallrye.mutiny.Multi collect()");
+    private static final MethodMatcher[] COLLECTION_MATCHERS = {
+            new MethodMatcher("io.smallrye.mutiny.groups.MultiCollect asList()"),
+            new MethodMatcher("io.smallrye.mutiny.groups.MultiCollect asMap(..)"),
+            new MethodMatcher("io.smallrye.mutiny.groups.MultiCollect asMultiMap(..)")
+    };
+
+    String displayName = "Find unbounded `Multi` collections";
+
+    String description = "Finds `collect().asList()`, `asMap(..)` and `asMultiMap(..)` on `Multi`s streaming from " +
+            "Hibernate Reactive or MongoDB Panache `stream` queries, reactive SQL clients or messaging channels. " +
+            "These load the whole stream onto the heap. Limit the stream with `select().first(n)`, process it in " +
+            "batches with `group().intoLists().of(n)`, or stream it to the response instead.";
+
+    transient QuarkusRecipePerformance performance = new QuarkusRecipePerformance(this);
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return new QuarkusRecipePerformanceVisitor(getName(), performance, Preconditions.check(
+                new UsesMethod<>(COLLECT_MATCHER), new JavaIsoVisitor<ExecutionContext>() {
+                    @Override
+                    public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                        J.MethodInvocation m = super.visitMethodInvocation(method, ctx);
+                        if (!isCollection(m) || !(m.getSelect() instanceof J.MethodInvocation) ||
+                            !COLLECT_MATCHER.matches((J.MethodInvocation) m.getSelect())) {
+                            return m;
+                        }
+                        String source = unboundedSource(((J.MethodInvocation) m.getSelect()).getSelect());
+                        if (source == null) {
+                            return m;
+                        }
+                        return SearchResult.found(m, "Collects all items of " + source + " into memory, consider " +
+                                                     "`select().first(n)`, `group().intoLists().of(n)` or streaming the response");
+                    }
+                }));
+    }
+
+    private static boolean isCollection(J.MethodInvocation method) {
+        for (MethodMatcher matcher : COLLECTION_MATCHERS) {
+            if (matcher.matches(method)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Walks the pipeline upstream to where the {@code Multi} originates.
+     *
+     * @return A description of the unbounded source of the pipeline, or {@code null} when the pipeline is bounded or
+     * its source is unknown.
+     */
+    private static @Nullable String unboundedSource(@Nullable Expression upstream) {
+        while (upstream instanceof J.MethodInvocation) {
+            J.MethodInvocation method = (J.MethodInvocation) upstream;
+            if ("first".equals(method.getSimpleName()) || "byTakingFirstItems".equals(method.getSimpleName())) {
+                return null;
+            }
+            JavaType.Method methodType = method.getMethodType();
+            if (methodType != null) {
+                String declaringType = methodType.getDeclaringType().getFullyQualifiedName();
+                if (method.getSimpleName().startsWith("stream") &&
+                    (declaringType.startsWith("io.quarkus.hibernate.reactive.panache.") ||
+                     declaringType.startsWith("io.quarkus.mongodb.panache.reactive."))) {
+                    return "a Panache stream query";
+                }
+                if (declaringType.startsWith("io.vertx.mutiny.sqlclient.")) {
+                    return "a reactive SQL query";
+                }
+            }
+            upstream = method.getSelect();
+        }
+
+        JavaType.Variable variable = null;
+        if (upstream instanceof J.Identifier) {
+            variable = ((J.Identifier) upstream).getFieldType();
+        } else if (upstream instanceof J.FieldAccess) {
+            variable = ((J.FieldAccess) upstream).getName().getFieldType();
+        }
+        if (variable != null) {
+            for (JavaType.FullyQualified annotation : variable.getAnnotations()) {
+                if ("org.eclipse.microprofile.reactive.messaging.Channel".equals(annotation.getFullyQualifiedName()) ||
+                    "io.smallrye.reactive.messaging.annotations.Channel".equals(annotation.getFullyQualifiedName())) {
+                    return "a messaging channel";
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.search;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.openrewrite.*;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.SearchResult;
+import org.openrewrite.quarkus.QuarkusEndpointUtils;
+import org.openrewrite.quarkus.QuarkusRecipePerformanceVisitor;
+import org.openrewrite.quarkus.table.QuarkusRecipePerformance;
+import org.openrewrite.quarkus.table.VirtualThreadPinningHazards;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Finds the code pinning the carrier thread in classes that Quarkus would run on virtual threads.
+ */
+@EqualsAndHashCode(callSuper = false)
+@Value
+public class FindVirtualThreadPinningHazards extends Recipe {
+
+    private static final String HAZARDS = "PINNING_HAZARDS";
+    private static final String SYNCHRONIZED_IO = "SYNCHRONIZED_IO";
+    private static final MethodMatcher OBJECT_WAIT = new MethodMatcher("java.lang.Object wait(..)");
+
+    String displayName = "Find virtual thread pinning hazards";
+
+    String description = "Finds `synchronized` methods and blocks performing blocking I/O, `Object.wait` calls and " +
+            "calls to native methods in classes with JAX-RS, `@Incoming`, `@Scheduled` or other entry points. These " +
+            "pin the carrier thread when the entry points are run on virtual threads.";
+
+    transient VirtualThreadPinningHazards hazardsTable = new VirtualThreadPinningHazards(this);
+
+    transient QuarkusRecipePerformance performance = new QuarkusRecipePerformance(this);
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return new QuarkusRecipePerformanceVisitor(getName(), performance, Preconditions.check(Preconditions.or(
+                new UsesType<>("javax.ws.rs.*", null),
+                new UsesType<>("jakarta.ws.rs.*", null),
+                new UsesType<>("org.eclipse.microprofile.reactive.messaging.Incoming", null),
+                new UsesType<>("io.quarkus.scheduler.Scheduled", null),
+                new UsesType<>("io.quarkus.vertx.ConsumeEvent", null),
+                new UsesType<>("io.quarkus.vertx.web.Route", null)
+        ), new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+                if (!hasEntryPoint(classDecl)) {
+                    return super.visitClassDeclaration(classDecl, ctx);
+                }
+
+                Hazards hazards = new Hazards();
+                getCursor().putMessage(HAZARDS, hazards);
+                J.ClassDeclaration c = super.visitClassDeclaration(classDecl, ctx);
+                if (hazards.total() > 0) {
+                    hazardsTable.insertRow(ctx, new VirtualThreadPinningHazards.Row(
+                            getCursor().firstEnclosingOrThrow(JavaSourceFile.class).getSourcePath().toString(),
+                            c.getType() == null ? c.getSimpleName() : c.getType().getFullyQualifiedName(),
+                            hazards.total(),
+                            hazards.synchronizedIo,
+                            hazards.waitCalls,
+                            hazards.nativeCalls));
+                }
+                return c;
+            }
+
+            @Override
+            public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
+                Hazards hazards = getCursor().getNearestMessage(HAZARDS);
+                if (hazards == null || !method.hasModifier(J.Modifier.Type.Synchronized)) {
+                    return super.visitMethodDeclaration(method, ctx);
+                }
+
+                AtomicBoolean io = new AtomicBoolean();
+                getCursor().putMessage(SYNCHRONIZED_IO, io);
+                J.MethodDeclaration m = super.visitMethodDeclaration(method, ctx);
+                if (io.get()) {
+                    hazards.synchronizedIo++;
+                    return SearchResult.found(m, "synchronized method performing blocking I/O");
+                }
+                return m;
+            }
+
+            @Override
+            public J.Synchronized visitSynchronized(J.Synchronized sync, ExecutionContext ctx) {
+                Hazards hazards = getCursor().getNearestMessage(HAZARDS);
+                if (hazards == null) {
+                    return super.visitSynchronized(sync, ctx);
+                }
+
+                AtomicBoolean io = new AtomicBoolean();
+                getCursor().putMessage(SYNCHRONIZED_IO, io);
+                J.Synchronized s = super.visitSynchronized(sync, ctx);
+                if (io.get()) {
+                    hazards.synchronizedIo++;
+                    return SearchResult.found(s, "synchronized block performing blocking I/O");
+                }
+                return s;
+            }
+
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                J.MethodInvocation m = super.visitMethodInvocation(method, ctx);
+                Hazards hazards = getCursor().getNearestMessage(HAZARDS);
+                JavaType.Method methodType = m.getMethodType();
+                if (hazards == null || methodType == null) {
+                    return m;
+                }
+
+                if (OBJECT_WAIT.matches(methodType)) {
+                    hazards.waitCalls++;
+                    return SearchResult.found(m, "Object.wait pins the carrier thread");
+                }
+                if (methodType.hasFlags(Flag.Native) && !isJdk(methodType.getDeclaringType())) {
+                    hazards.nativeCalls++;
+                    return SearchResult.found(m, "native call pins the carrier thread");
+                }
+                if (QuarkusEndpointUtils.isBlocking(methodType)) {
+                    AtomicBoolean io = getCursor().getNearestMessage(SYNCHRONIZED_IO);
+                    if (io != null) {
+                        io.set(true);
+                    }
+                }
+                return m;
+            }
+        }));
+    }
+
+    private static boolean hasEntryPoint(J.ClassDeclaration classDecl) {
+        for (Statement statement : classDecl.getBody().getStatements()) {
+            if (statement instanceof J.MethodDeclaration && QuarkusEndpointUtils.isEntryPoint((J.MethodDeclaration) statement)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Native methods of the JDK, such as {@code System.arraycopy}, are intrinsics that return quickly.
+     */
+    private static boolean isJdk(JavaType.FullyQualified type) {
+        String fqn = type.getFullyQualifiedName();
+        return fqn.startsWith("java.") || fqn.startsWith("javax.") || fqn.startsWith("jdk.") || fqn.startsWith("sun.");
+    }
+
+    private static class Hazards {
+        int synchronizedIo;
+        int waitCalls;
+        int nativeCalls;
+
+        int total() {
+            return synchronizedIo + waitCalls + nativeCalls;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.table;
+
+import lombok.Value;
+import org.openrewrite.Column;
+import org.openrewrite.DataTable;
+import org.openrewrite.Recipe;
+
+public class ConcatenatedMultiTransformations extends DataTable<ConcatenatedMultiTransformations.Row> {
+
+    public ConcatenatedMultiTransformations(Recipe recipe) {
+        super(recipe,
+                "Concatenated `Multi` transformations",
+                "`Multi` transformations to `Uni`s that are processed one at a time, and were kept because the order " +
+                "of their items may matter downstream.");
+    }
+
+    @Value
+    public static class Row {
+        @Column(displayName = "Source path",
+                description = "The path of the source file containing the transformation.")
+        String sourcePath;
+
+        @Column(displayName = "Operator",
+                description = "The concatenating operator, `transformToUniAndConcatenate` or `concatenate`.")
+        String operator;
+
+        @Column(displayName = "Downstream",
+                description = "The operators applied downstream of the transformation, such as `collect().asList()`. " +
+                              "Empty when the `Multi` leaves the expression, for example when it is returned.")
+        String downstream;
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.table;
+
+import lombok.Value;
+import org.openrewrite.Column;
+import org.openrewrite.DataTable;
+import org.openrewrite.Recipe;
+
+public class ConsolePrintReplacements extends DataTable<ConsolePrintReplacements.Row> {
+
+    public ConsolePrintReplacements(Recipe recipe) {
+        super(recipe,
+                "Console print replacements",
+                "`System.out` and `System.err` print statements replaced with Quarkus `Log` calls. Each row describes a " +
+                "single source file, so that rows can be summed up per module.");
+    }
+
+    @Value
+    public static class Row {
+        @Column(displayName = "Module",
+                description = "The name of the project or module containing the source file.")
+        String module;
+
+        @Column(displayName = "Source path",
+                description = "The path of the source file.")
+        String sourcePath;
+
+        @Column(displayName = "Replacements",
+                description = "The number of print statements replaced with `Log` calls.")
+        int replacements;
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.table;
+
+import lombok.Value;
+import org.openrewrite.Column;
+import org.openrewrite.DataTable;
+import org.openrewrite.Recipe;
+
+public class MutinyBlockingCalls extends DataTable<MutinyBlockingCalls.Row> {
+
+    public MutinyBlockingCalls(Recipe recipe) {
+        super(recipe,
+                "Blocking calls in Mutiny pipelines",
+                "Blocking calls in callbacks of Mutiny operators, which may run on the Vert.x event loop.");
+    }
+
+    @Value
+    public static class Row {
+        @Column(displayName = "Source path",
+                description = "The path of the source file containing the blocking call.")
+        String sourcePath;
+
+        @Column(displayName = "Operator",
+                description = "The Mutiny operator the callback is passed to, such as `transform` or `chain`.")
+        String operator;
+
+        @Column(displayName = "Blocking call",
+                description = "The blocking method, such as `EntityManager.find`.")
+        String blockingCall;
+
+        @Column(displayName = "Suggestion",
+                description = "How to move the callback off the event loop.")
+        String suggestion;
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.table;
+
+import lombok.Value;
+import org.openrewrite.Column;
+import org.openrewrite.DataTable;
+import org.openrewrite.Recipe;
+
+public class QuarkusRecipePerformance extends DataTable<QuarkusRecipePerformance.Row> {
+
+    public QuarkusRecipePerformance(Recipe recipe) {
+        super(recipe,
+                "Quarkus recipe performance",
+                "Visitor timings and cycle information of the Quarkus recipes. Each row describes a single source file " +
+                "visit, to be summed up per recipe, source file type and cycle: a recipe visitor has no hook at the end " +
+                "of a cycle to insert aggregated rows from. Only populated when enabled through " +
+                "`QuarkusExecutionContextView#setRecipePerformanceEnabled(true)`.");
+    }
+
+    @Value
+    public static class Row {
+        @Column(displayName = "Recipe",
+                description = "The fully qualified name of the recipe.")
+        String recipe;
+
+        @Column(displayName = "Source file type",
+                description = "The type of source file that was visited, such as `Properties.File` or `J.CompilationUnit`.")
+        String sourceFileType;
+
+        @Column(displayName = "Files visited",
+                description = "The number of source files visited by the recipe.")
+        int filesVisited;
+
+        @Column(displayName = "Files changed",
+                description = "The number of source files changed by the recipe.")
+        int filesChanged;
+
+        @Column(displayName = "Wall time (ns)",
+                description = "The wall time spent visiting the source file, including its preconditions and the " +
+                              "visitors scheduled with `doAfterVisit`, which run before the visit of the source file returns.")
+        long wallTimeNanos;
+
+        @Column(displayName = "After visits scheduled",
+                description = "The number of visitors scheduled with `doAfterVisit`, including those scheduled by " +
+                              "`maybeAddImport` and `maybeRemoveImport`.")
+        int afterVisitsScheduled;
+
+        @Column(displayName = "Cycle",
+                description = "The recipe run cycle in which the source file was visited.")
+        int cycle;
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.table;
+
+import lombok.Value;
+import org.openrewrite.Column;
+import org.openrewrite.DataTable;
+import org.openrewrite.Recipe;
+
+public class UnpagedPanacheEndpoints extends DataTable<UnpagedPanacheEndpoints.Row> {
+
+    public UnpagedPanacheEndpoints(Recipe recipe) {
+        super(recipe,
+                "Unpaged Panache endpoints",
+                "REST endpoints listing Panache entities without paging that could not be paged automatically.");
+    }
+
+    @Value
+    public static class Row {
+        @Column(displayName = "Source path",
+                description = "The path of the source file declaring the endpoint.")
+        String sourcePath;
+
+        @Column(displayName = "Class",
+                description = "The fully qualified name of the resource class.")
+        String className;
+
+        @Column(displayName = "Method",
+                description = "The name of the endpoint method.")
+        String methodName;
+
+        @Column(displayName = "Reason",
+                description = "Why paging could not be added, such as the listed entities not being returned as is.")
+        String reason;
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.table;
+
+import lombok.Value;
+import org.openrewrite.Column;
+import org.openrewrite.DataTable;
+import org.openrewrite.Recipe;
+
+public class VirtualThreadPinningHazards extends DataTable<VirtualThreadPinningHazards.Row> {
+
+    public VirtualThreadPinningHazards(Recipe recipe) {
+        super(recipe,
+                "Virtual thread pinning hazards",
+                "Classes with entry points that would pin the carrier thread when run on a virtual thread. Sort by " +
+                "the number of hazards to rank the classes to look at first.");
+    }
+
+    @Value
+    public static class Row {
+        @Column(displayName = "Source path",
+                description = "The path of the source file declaring the class.")
+        String sourcePath;
+
+        @Column(displayName = "Class",
+                description = "The fully qualified name of the class.")
+        String className;
+
+        @Column(displayName = "Hazards",
+                description = "The total number of pinning hazards in the class.")
+        int hazards;
+
+        @Column(displayName = "Synchronized I/O",
+                description = "The number of `synchronized` methods and blocks performing blocking I/O.")
+        int synchronizedIo;
+
+        @Column(displayName = "Object.wait calls",
+                description = "The number of `Object.wait` calls.")
+        int waitCalls;
+
+        @Column(displayName = "Native calls",
+                description = "The number of calls to native methods outside of the JDK.")
+        int nativeCalls;
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.table;
+
+import lombok.Value;
+import org.openrewrite.Column;
+import org.openrewrite.DataTable;
+import org.openrewrite.Recipe;
+
+public class VirtualThreadSkippedMethods extends DataTable<VirtualThreadSkippedMethods.Row> {
+
+    public VirtualThreadSkippedMethods(Recipe recipe) {
+        super(recipe,
+                "Methods not moved to virtual threads",
+                "Blocking endpoint methods that were not annotated with `@RunOnVirtualThread` because they would pin " +
+                "the carrier thread.");
+    }
+
+    @Value
+    public static class Row {
+        @Column(displayName = "Source path",
+                description = "The path of the source file declaring the method.")
+        String sourcePath;
+
+        @Column(displayName = "Class",
+                description = "The fully qualified name of the class declaring the method.")
+        String className;
+
+        @Column(displayName = "Method",
+                description = "The name of the method.")
+        String methodName;
+
+        @Column(displayName = "Reason",
+                description = "Why the method would pin its carrier thread, such as a `synchronized` block or a `ThreadLocal`.")
+        String reason;
+    }
+}
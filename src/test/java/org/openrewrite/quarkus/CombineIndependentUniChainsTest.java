@@ -0,0 +1,221 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class CombineIndependentUniChainsTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new CombineIndependentUniChains())
+          .parser(JavaParser.fromJavaVersion()
+            .classpath("mutiny", "reactive-streams"));
+    }
+
+    @DocumentExample
+    @Test
+    void combineIndependentChain() {
+        rewriteRun(
+          java(
+            //language=java
+            """
+              import io.smallrye.mutiny.Uni;
+
+              class CheckoutService {
+                  Uni<String> user;
+                  Uni<Integer> stock;
+                  Uni<Double> price;
+
+                  Uni<Integer> getStock() {
+                      return stock;
+                  }
+
+                  Uni<Double> checkout() {
+                      return user.chain(u -> getStock()).chain(s -> price);
+                  }
+              }
+              """,
+            //language=java
+            """
+              import io.smallrye.mutiny.Uni;
+
+              class CheckoutService {
+                  Uni<String> user;
+                  Uni<Integer> stock;
+                  Uni<Double> price;
+
+                  Uni<Integer> getStock() {
+                      return stock;
+                  }
+
+                  Uni<Double> checkout() {
+                      return Uni.combine().all().unis(user, getStock(), price).with((item1, item2, item3) -> item3);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void combineOnlyIndependentTail() {
+        rewriteRun(
+          java(
+            //language=java
+            """
+              import io.smallrye.mutiny.Uni;
+
+              class CheckoutService {
+                  Uni<String> user() {
+                      return Uni.createFrom().item("user");
+                  }
+
+                  Uni<Integer> orders(String user) {
+                      return Uni.createFrom().item(user.length());
+                  }
+
+                  Uni<Double> checkout() {
+                      return user().chain(u -> orders(u)).chain(() -> Uni.createFrom().item(9.99));
+                  }
+              }
+              """,
+            //language=java
+            """
+              import io.smallrye.mutiny.Uni;
+
+              class CheckoutService {
+                  Uni<String> user() {
+                      return Uni.createFrom().item("user");
+                  }
+
+                  Uni<Integer> orders(String user) {
+                      return Uni.createFrom().item(user.length());
+                  }
+
+                  Uni<Double> checkout() {
+                      return Uni.combine().all().unis(user().chain(u -> orders(u)), Uni.createFrom().item(9.99)).with((item1, item2) -> item2);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void markLinkCallingMethods() {
+        rewriteRun(
+          java(
+            //language=java
+            """
+              import io.smallrye.mutiny.Uni;
+
+              class CheckoutService {
+                  Uni<Void> persist(String order) {
+                      return Uni.createFrom().voidItem();
+                  }
+
+                  Uni<Long> count(String table) {
+                      return Uni.createFrom().item(1L);
+                  }
+
+                  Uni<Long> checkout(String order) {
+                      return persist(order).chain(x -> count("orders"));
+                  }
+              }
+              """,
+            //language=java
+            """
+              import io.smallrye.mutiny.Uni;
+
+              class CheckoutService {
+                  Uni<Void> persist(String order) {
+                      return Uni.createFrom().voidItem();
+                  }
+
+                  Uni<Long> count(String table) {
+                      return Uni.createFrom().item(1L);
+                  }
+
+                  Uni<Long> checkout(String order) {
+                      return /*~~(Ignores the previous item, consider `Uni.combine().all().unis(...)`)~~>*/persist(order).chain(x -> count("orders"));
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void markLinkWithSideEffects() {
+        rewriteRun(
+          java(
+            //language=java
+            """
+              import io.smallrye.mutiny.Uni;
+
+              class CheckoutService {
+                  int calls;
+
+                  Uni<String> user() {
+                      return Uni.createFrom().item("user");
+                  }
+
+                  Uni<Double> price() {
+                      return Uni.createFrom().item(9.99);
+                  }
+
+                  Uni<Double> checkout() {
+                      return user().chain(u -> {
+                          calls++;
+                          return price();
+                      });
+                  }
+              }
+              """,
+            //language=java
+            """
+              import io.smallrye.mutiny.Uni;
+
+              class CheckoutService {
+                  int calls;
+
+                  Uni<String> user() {
+                      return Uni.createFrom().item("user");
+                  }
+
+                  Uni<Double> price() {
+                      return Uni.createFrom().item(9.99);
+                  }
+
+                  Uni<Double> checkout() {
+                      return /*~~(Ignores the previous item, consider `Uni.combine().all().unis(...)`)~~>*/user().chain(u -> {
+                          calls++;
+                          return price();
+                      });
+                  }
+              }
+              """
+          )
+        );
+    }
+}
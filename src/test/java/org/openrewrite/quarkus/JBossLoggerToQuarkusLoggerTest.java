@@ -0,0 +1,158 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class JBossLoggerToQuarkusLoggerTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new JBossLoggerToQuarkusLogger())
+          .parser(JavaParser.fromJavaVersion().classpath(
+            "jakarta.inject",
+            "jboss-logging",
+            "quarkus-core"
+          ));
+    }
+
+    @DocumentExample
+    @Test
+    void shouldReplaceInjectedLogger() {
+        rewriteRun(
+          java(
+            //language=java
+            """
+              import jakarta.inject.Inject;
+              import org.jboss.logging.Logger;
+
+              class GreetingService {
+
+                  @Inject
+                  Logger log;
+
+                  public void greet(String name, Exception e) {
+                      log.info("Greeting");
+                      log.debugf("Greeting %s", name);
+                      log.infov("Greeting {0}", name);
+                      log.error("Greeting failed", e);
+                  }
+              }
+              """,
+            //language=java
+            """
+              import io.quarkus.logging.Log;
+
+              class GreetingService {
+
+                  public void greet(String name, Exception e) {
+                      Log.info("Greeting");
+                      Log.debugf("Greeting %s", name);
+                      Log.infov("Greeting {0}", name);
+                      Log.error("Greeting failed", e);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void shouldReplaceStaticLoggerAndLevelCheck() {
+        rewriteRun(
+          java(
+            //language=java
+            """
+              import org.jboss.logging.Logger;
+
+              class GreetingService {
+
+                  private static final Logger LOG = Logger.getLogger(GreetingService.class);
+
+                  public void greet(String name) {
+                      if (LOG.isDebugEnabled()) {
+                          LOG.debugf("Greeting %s", name.trim());
+                      }
+                  }
+              }
+              """,
+            //language=java
+            """
+              import io.quarkus.logging.Log;
+
+              class GreetingService {
+
+                  public void greet(String name) {
+                      if (Log.isDebugEnabled()) {
+                          Log.debugf("Greeting %s", name.trim());
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void shouldKeepLoggerFormattingObjectParameters() {
+        rewriteRun(
+          java(
+            //language=java
+            """
+              import org.jboss.logging.Logger;
+
+              class GreetingService {
+
+                  private static final Logger LOG = Logger.getLogger(GreetingService.class);
+
+                  public void greet(String name) {
+                      LOG.info("Greeting");
+                      LOG.debug("Greeting {0}", new Object[]{name});
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void shouldKeepLoggerLoggingWithLoggerClassName() {
+        rewriteRun(
+          java(
+            //language=java
+            """
+              import org.jboss.logging.Logger;
+
+              class GreetingService {
+
+                  private static final Logger LOG = Logger.getLogger(GreetingService.class);
+
+                  public void greet(String name, Exception e) {
+                      LOG.info("Greeting");
+                      LOG.debug(GreetingService.class.getName(), "Greeting failed", e);
+                  }
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,273 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class JulToQuarkusLoggerTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new JulToQuarkusLogger())
+          .parser(JavaParser.fromJavaVersion().classpath("quarkus-core"));
+    }
+
+    @DocumentExample
+    @Test
+    void shouldReplaceJulLogger() {
+        rewriteRun(
+          java(
+            //language=java
+            """
+              import java.util.logging.Level;
+              import java.util.logging.Logger;
+
+              class InventoryService {
+
+                  private static final Logger LOGGER = Logger.getLogger(InventoryService.class.getName());
+
+                  public void restock(String sku, int quantity, Exception e) {
+                      LOGGER.info("Restocking");
+                      LOGGER.fine("Restocking " + sku);
+                      LOGGER.log(Level.WARNING, "Restocking {0} with {1}", new Object[]{sku, quantity});
+                      LOGGER.log(Level.SEVERE, "Restocking failed", e);
+                  }
+              }
+              """,
+            //language=java
+            """
+              import io.quarkus.logging.Log;
+
+              class InventoryService {
+
+                  public void restock(String sku, int quantity, Exception e) {
+                      Log.info("Restocking");
+                      Log.debug("Restocking " + sku);
+                      Log.warnv("Restocking {0} with {1}", new Object[]{sku, quantity});
+                      Log.error("Restocking failed", e);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void shouldGuardConcatenatedMessages() {
+        rewriteRun(
+          spec -> spec.recipe(new JulToQuarkusLogger(true)),
+          java(
+            //language=java
+            """
+              import java.util.logging.Level;
+              import java.util.logging.Logger;
+
+              class InventoryService {
+
+                  private static final Logger LOGGER = Logger.getLogger(InventoryService.class.getName());
+
+                  public void restock(String sku) {
+                      if (LOGGER.isLoggable(Level.FINER)) {
+                          LOGGER.finer("Restocking " + sku.trim());
+                      }
+                      LOGGER.fine("Restocking " + sku);
+                  }
+              }
+              """,
+            //language=java
+            """
+              import io.quarkus.logging.Log;
+
+              class InventoryService {
+
+                  public void restock(String sku) {
+                      if (Log.isTraceEnabled()) {
+                          Log.tracef("Restocking %s", sku.trim());
+                      }
+                      Log.debugf("Restocking %s", sku);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void shouldKeepLoggerLoggingAtVariableLevel() {
+        rewriteRun(
+          java(
+            //language=java
+            """
+              import java.util.logging.Level;
+              import java.util.logging.Logger;
+
+              class InventoryService {
+
+                  private static final Logger LOGGER = Logger.getLogger(InventoryService.class.getName());
+
+                  public void restock(String sku, Level level) {
+                      LOGGER.info("Restocking");
+                      LOGGER.log(level, "Restocking {0}", sku);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void shouldKeepLoggerLoggingAtLevelOff() {
+        rewriteRun(
+          java(
+            //language=java
+            """
+              import java.util.logging.Level;
+              import java.util.logging.Logger;
+
+              class InventoryService {
+
+                  private static final Logger LOGGER = Logger.getLogger(InventoryService.class.getName());
+
+                  public void restock(String sku) {
+                      LOGGER.info("Restocking");
+                      LOGGER.log(Level.OFF, "Restocking {0}", sku);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void shouldKeepLoggerLoggingAtLevelAll() {
+        rewriteRun(
+          java(
+            //language=java
+            """
+              import java.util.logging.Level;
+              import java.util.logging.Logger;
+
+              class InventoryService {
+
+                  private static final Logger LOGGER = Logger.getLogger(InventoryService.class.getName());
+
+                  public void restock(String sku) {
+                      LOGGER.info("Restocking");
+                      LOGGER.log(Level.ALL, "Restocking {0}", sku);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void shouldKeepLoggerLoggingSuppliedMessage() {
+        rewriteRun(
+          java(
+            //language=java
+            """
+              import java.util.logging.Logger;
+
+              class InventoryService {
+
+                  private static final Logger LOGGER = Logger.getLogger(InventoryService.class.getName());
+
+                  public void restock(String sku) {
+                      LOGGER.info("Restocking");
+                      LOGGER.fine(() -> "Restocking " + sku);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void shouldKeepLoggerTracingEntryAndExit() {
+        rewriteRun(
+          java(
+            //language=java
+            """
+              import java.util.logging.Logger;
+
+              class InventoryService {
+
+                  private static final Logger LOGGER = Logger.getLogger(InventoryService.class.getName());
+
+                  public void restock(String sku) {
+                      LOGGER.entering("InventoryService", "restock");
+                      LOGGER.info("Restocking");
+                      LOGGER.exiting("InventoryService", "restock");
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void shouldKeepLoggerSettingLevel() {
+        rewriteRun(
+          java(
+            //language=java
+            """
+              import java.util.logging.Level;
+              import java.util.logging.Logger;
+
+              class InventoryService {
+
+                  private static final Logger LOGGER = Logger.getLogger(InventoryService.class.getName());
+
+                  public void restock(String sku) {
+                      LOGGER.setLevel(Level.FINE);
+                      LOGGER.info("Restocking");
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void shouldKeepLoggerAddingHandler() {
+        rewriteRun(
+          java(
+            //language=java
+            """
+              import java.util.logging.ConsoleHandler;
+              import java.util.logging.Logger;
+
+              class InventoryService {
+
+                  private static final Logger LOGGER = Logger.getLogger(InventoryService.class.getName());
+
+                  public void restock(String sku) {
+                      LOGGER.addHandler(new ConsoleHandler());
+                      LOGGER.info("Restocking");
+                  }
+              }
+              """
+          )
+        );
+    }
+}
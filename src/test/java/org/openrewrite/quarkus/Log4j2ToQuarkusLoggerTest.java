@@ -0,0 +1,206 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class Log4j2ToQuarkusLoggerTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new Log4j2ToQuarkusLogger())
+          .parser(JavaParser.fromJavaVersion()
+            .classpath("quarkus-core")
+            .dependsOn(
+              """
+                package org.apache.logging.log4j;
+                import org.apache.logging.log4j.message.Message;
+                import org.apache.logging.log4j.util.MessageSupplier;
+                import org.apache.logging.log4j.util.Supplier;
+                public interface Logger {
+                    void debug(String message);
+                    void debug(String message, Object... params);
+                    void debug(String message, Throwable t);
+                    void debug(String message, Supplier<?>... paramSuppliers);
+                    void debug(Message message);
+                    void debug(MessageSupplier messageSupplier);
+                    void debug(Supplier<?> messageSupplier);
+                    void debug(Marker marker, String message, Object... params);
+                    void info(String message);
+                    void info(String message, Object... params);
+                    void info(String message, Throwable t);
+                    void info(String message, Supplier<?>... paramSuppliers);
+                    void info(Message message);
+                    void info(MessageSupplier messageSupplier);
+                    void info(Supplier<?> messageSupplier);
+                    void info(Marker marker, String message, Object... params);
+                    void error(String message);
+                    void error(String message, Object... params);
+                    void error(String message, Throwable t);
+                    void error(String message, Supplier<?>... paramSuppliers);
+                    void error(Message message);
+                    void error(MessageSupplier messageSupplier);
+                    void error(Supplier<?> messageSupplier);
+                    void error(Marker marker, String message, Object... params);
+                    void fatal(String message);
+                    void fatal(String message, Object... params);
+                    void fatal(String message, Throwable t);
+                    void fatal(String message, Supplier<?>... paramSuppliers);
+                    void fatal(Message message);
+                    void fatal(MessageSupplier messageSupplier);
+                    void fatal(Supplier<?> messageSupplier);
+                    void fatal(Marker marker, String message, Object... params);
+                    boolean isDebugEnabled();
+                }
+                """,
+              """
+                package org.apache.logging.log4j;
+                public interface Marker {
+                }
+                """,
+              """
+                package org.apache.logging.log4j.message;
+                public interface Message {
+                }
+                """,
+              """
+                package org.apache.logging.log4j.util;
+                import org.apache.logging.log4j.message.Message;
+                public interface MessageSupplier {
+                    Message get();
+                }
+                """,
+              """
+                package org.apache.logging.log4j.util;
+                public interface Supplier<T> {
+                    T get();
+                }
+                """,
+              """
+                package org.apache.logging.log4j;
+                public class LogManager {
+                    public static Logger getLogger(Class<?> clazz) { return null; }
+                }
+                """
+            ));
+    }
+
+    @DocumentExample
+    @Test
+    void shouldReplaceLog4j2Logger() {
+        rewriteRun(
+          java(
+            //language=java
+            """
+              import org.apache.logging.log4j.LogManager;
+              import org.apache.logging.log4j.Logger;
+
+              class PaymentService {
+
+                  private static final Logger logger = LogManager.getLogger(PaymentService.class);
+
+                  public void pay(String account, long amount) {
+                      if (logger.isDebugEnabled()) {
+                          logger.debug("Paying {} to {}", amount, account);
+                      }
+                      logger.info("Paid");
+                      logger.fatal("Payment to {} failed", account);
+                  }
+              }
+              """,
+            //language=java
+            """
+              import io.quarkus.logging.Log;
+
+              class PaymentService {
+
+                  public void pay(String account, long amount) {
+                      if (Log.isDebugEnabled()) {
+                          Log.debugf("Paying %s to %s", amount, account);
+                      }
+                      Log.info("Paid");
+                      Log.fatalf("Payment to %s failed", account);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepThrowable() {
+        rewriteRun(
+          java(
+            //language=java
+            """
+              import org.apache.logging.log4j.LogManager;
+              import org.apache.logging.log4j.Logger;
+
+              class PaymentService {
+
+                  private static final Logger logger = LogManager.getLogger(PaymentService.class);
+
+                  public void pay(String account, Exception e) {
+                      logger.error("failed", e);
+                      logger.error("Payment to {} failed: {}", account, e);
+                  }
+              }
+              """,
+            //language=java
+            """
+              import io.quarkus.logging.Log;
+
+              class PaymentService {
+
+                  public void pay(String account, Exception e) {
+                      Log.error("failed", e);
+                      Log.errorf("Payment to %s failed: %s", account, e);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepSupplierAndUnconsumedThrowableCalls() {
+        rewriteRun(
+          java(
+            //language=java
+            """
+              import org.apache.logging.log4j.LogManager;
+              import org.apache.logging.log4j.Logger;
+
+              class PaymentService {
+
+                  private static final Logger logger = LogManager.getLogger(PaymentService.class);
+
+                  public void pay(String account, Exception e) {
+                      logger.debug("Paying {}", () -> account);
+                      logger.error("Payment to {} failed", account, e);
+                  }
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.quarkus.table.ConcatenatedMultiTransformations;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.java.Assertions.java;
+
+class MergeOrderInsensitiveMultiTransformationsTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new MergeOrderInsensitiveMultiTransformations(8))
+          .parser(JavaParser.fromJavaVersion()
+            .classpath("mutiny", "reactive-streams"));
+    }
+
+    @DocumentExample
+    @Test
+    void mergeWhenCollectedIntoSet() {
+        rewriteRun(
+          java(
+            //language=java
+            """
+              import io.smallrye.mutiny.Multi;
+              import io.smallrye.mutiny.Uni;
+
+              import java.util.Set;
+              import java.util.stream.Collectors;
+
+              class PriceService {
+                  Uni<Double> price(String product) {
+                      return Uni.createFrom().item(9.99);
+                  }
+
+                  Uni<Set<Double>> prices(Multi<String> products) {
+                      return products.onItem().transformToUniAndConcatenate(this::price).collect().asSet();
+                  }
+
+                  Uni<Long> count(Multi<String> products) {
+                      return products.onItem().transformToUni(p -> price(p)).concatenate()
+                        .select().where(p -> p > 5)
+                        .collect().with(Collectors.counting());
+                  }
+              }
+              """,
+            //language=java
+            """
+              import io.smallrye.mutiny.Multi;
+              import io.smallrye.mutiny.Uni;
+
+              import java.util.Set;
+              import java.util.stream.Collectors;
+
+              class PriceService {
+                  Uni<Double> price(String product) {
+                      return Uni.createFrom().item(9.99);
+                  }
+
+                  Uni<Set<Double>> prices(Multi<String> products) {
+                      return products.onItem().transformToUni(this::price).merge(8).collect().asSet();
+                  }
+
+                  Uni<Long> count(Multi<String> products) {
+                      return products.onItem().transformToUni(p -> price(p)).merge(8)
+                        .select().where(p -> p > 5)
+                        .collect().with(Collectors.counting());
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void reportOrderSensitiveDownstream() {
+        rewriteRun(
+          spec -> spec.dataTable(ConcatenatedMultiTransformations.Row.class, rows ->
+            assertThat(rows)
+              .extracting(ConcatenatedMultiTransformations.Row::getDownstream)
+              .containsExactly("collect().asList()", "", "onItem().ignoreAsUni()")),
+          java(
+            //language=java
+            """
+              import io.smallrye.mutiny.Multi;
+              import io.smallrye.mutiny.Uni;
+
+              import java.util.List;
+
+              class PriceService {
+                  Uni<Double> price(String product) {
+                      return Uni.createFrom().item(9.99);
+                  }
+
+                  Uni<List<Double>> prices(Multi<String> products) {
+                      return products.onItem().transformToUniAndConcatenate(this::price).collect().asList();
+                  }
+
+                  Multi<Double> stream(Multi<String> products) {
+                      return products.onItem().transformToUniAndConcatenate(this::price);
+                  }
+
+                  Uni<Void> refresh(Multi<String> products) {
+                      return products.onItem().transformToUniAndConcatenate(this::price).onItem().ignoreAsUni();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepFloatingPointSums() {
+        rewriteRun(
+          java(
+            //language=java
+            """
+              import io.smallrye.mutiny.Multi;
+              import io.smallrye.mutiny.Uni;
+
+              import java.util.stream.Collectors;
+
+              class PriceService {
+                  Uni<Double> price(String product) {
+                      return Uni.createFrom().item(9.99);
+                  }
+
+                  Uni<Double> total(Multi<String> products) {
+                      return products.onItem().transformToUniAndConcatenate(this::price)
+                        .collect().with(Collectors.summingDouble(p -> p));
+                  }
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.*;
+import org.openrewrite.properties.PropertiesParser;
+import org.openrewrite.quarkus.search.FindQuarkusProperties;
+import org.openrewrite.yaml.YamlParser;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the property recipes on configuration files of growing size and fails when the running time grows clearly
+ * faster than the number of entries. The number of entries matching the recipes grows with the file, so that work
+ * done once per matching entry over the whole file shows up as quadratic. The sizes grow tenfold, so that a linear
+ * recipe takes about ten times longer and a quadratic one about a hundred times, and the median thread CPU time of
+ * several runs is compared, which leaves a wide margin for a busy machine.
+ * <p>
+ * {@link ChangeQuarkusPropertyKey}, {@link ChangeQuarkusPropertyValue} and {@link DeleteQuarkusProperty} visit the
+ * whole file again for each matching entry, and are not covered until their visitors edit all entries in one pass.
+ */
+class QuarkusPropertyRecipesScalingTest {
+
+    private static final int[] SIZES = {500, 5_000, 50_000};
+
+    private static final int RUNS = 5;
+
+    /**
+     * One entry in this many matches {@link #TARGET_KEY}, in a profile of its own.
+     */
+    private static final int MATCH_EVERY = 100;
+
+    /**
+     * A linear visitor has an exponent close to 1 (or lower, as fixed costs weigh more on small inputs),
+     * a quadratic one close to 2.
+     */
+    private static final double MAX_EXPONENT = 1.5;
+
+    private static final String TARGET_KEY = "quarkus.bench.target";
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    @Test
+    void findQuarkusProperties() {
+        assertLinear(new FindQuarkusProperties(TARGET_KEY, null, null, null));
+    }
+
+    @Test
+    void findQuarkusPropertiesOfSingleProfile() {
+        assertLinear(new FindQuarkusProperties(TARGET_KEY, "dev", false, null));
+    }
+
+    @Test
+    void addQuarkusProperty() {
+        assertLinear(new AddQuarkusProperty("quarkus.bench.added", "added", null, "dev", null));
+    }
+
+    private static void assertLinear(Recipe recipe) {
+        assertLinear(recipe, "properties");
+        assertLinear(recipe, "yaml");
+    }
+
+    private static void assertLinear(Recipe recipe, String format) {
+        SourceFile[] sourceFiles = new SourceFile[SIZES.length];
+        for (int i = 0; i < SIZES.length; i++) {
+            sourceFiles[i] = parse(format, SIZES[i]);
+        }
+
+        // Warm up on the largest input, so that the smaller ones are not measured before JIT compilation
+        run(recipe, sourceFiles[SIZES.length - 1]);
+        run(recipe, sourceFiles[SIZES.length - 1]);
+
+        long[] nanos = new long[SIZES.length];
+        for (int i = 0; i < SIZES.length; i++) {
+            long[] runs = new long[RUNS];
+            for (int r = 0; r < RUNS; r++) {
+                runs[r] = run(recipe, sourceFiles[i]);
+            }
+            Arrays.sort(runs);
+            nanos[i] = runs[RUNS / 2];
+        }
+
+        // The two largest sizes, where fixed costs weigh the least
+        int last = SIZES.length - 1;
+        double exponent = Math.log((double) Math.max(nanos[last], 1) / Math.max(nanos[last - 1], 1)) /
+                          Math.log((double) SIZES[last] / SIZES[last - 1]);
+        assertThat(exponent)
+          .as("%s on %s with %s entries took %s ns", recipe.getName(), format,
+            Arrays.toString(SIZES), Arrays.toString(nanos))
+          .isLessThan(MAX_EXPONENT);
+    }
+
+    private static long run(Recipe recipe, SourceFile sourceFile) {
+        long start = cpuTime();
+        recipe.getVisitor().visit(sourceFile, new InMemoryExecutionContext(Throwable::printStackTrace));
+        return cpuTime() - start;
+    }
+
+    private static long cpuTime() {
+        return THREADS.isCurrentThreadCpuTimeSupported() ? THREADS.getCurrentThreadCpuTime() : System.nanoTime();
+    }
+
+    private static SourceFile parse(String format, int entries) {
+        ExecutionContext ctx = new InMemoryExecutionContext(Throwable::printStackTrace);
+        Parser parser = "yaml".equals(format) ? new YamlParser() : new PropertiesParser();
+        String source = "yaml".equals(format) ? yaml(entries) : properties(entries);
+        return parser.parse(ctx, source)
+          .findFirst()
+          .orElseThrow(() -> new IllegalStateException("Unable to parse the generated configuration"))
+          .withSourcePath(Paths.get("src/main/resources/application." + format));
+    }
+
+    private static String properties(int entries) {
+        StringBuilder properties = new StringBuilder();
+        for (int i = 0; i < entries; i++) {
+            properties.append("quarkus.bench.group").append(i / MATCH_EVERY).append(".key").append(i)
+              .append("=value").append(i).append('\n');
+            if (i % MATCH_EVERY == 0) {
+                properties.append("%dev,p").append(i / MATCH_EVERY).append('.').append(TARGET_KEY).append("=value\n");
+            }
+        }
+        properties.append(TARGET_KEY).append("=value\n");
+        return properties.toString();
+    }
+
+    private static String yaml(int entries) {
+        StringBuilder yaml = new StringBuilder("quarkus:\n  bench:\n    target: value\n");
+        for (int i = 0; i < entries; i++) {
+            if (i % MATCH_EVERY == 0) {
+                yaml.append("    group").append(i / MATCH_EVERY).append(":\n");
+            }
+            yaml.append("      key").append(i).append(": value").append(i).append('\n');
+        }
+        for (int i = 0; i < entries; i += MATCH_EVERY) {
+            yaml.append("\"%dev,p").append(i / MATCH_EVERY).append("\":\n  quarkus:\n    bench:\n      target: value\n");
+        }
+        return yaml.toString();
+    }
+}
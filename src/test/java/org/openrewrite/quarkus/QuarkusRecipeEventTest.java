@@ -0,0 +1,185 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openrewrite.test.RewriteTest;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.maven.Assertions.pomXml;
+import static org.openrewrite.properties.Assertions.properties;
+
+class QuarkusRecipeEventTest implements RewriteTest {
+
+    @Test
+    void recordsConfigEdit(@TempDir Path tempDir) throws Exception {
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable("org.openrewrite.quarkus.QuarkusConfigEdit");
+            recording.start();
+            rewriteRun(
+              spec -> spec.recipe(new ChangeQuarkusPropertyValue("quarkus.http.port", "9090", null, null, null, null)),
+              //language=properties
+              properties(
+                """
+                  quarkus.http.port=8080
+                  """,
+                """
+                  quarkus.http.port=9090
+                  """,
+                spec -> spec.path("src/main/resources/application.properties")
+              )
+            );
+            recording.stop();
+            Path dump = tempDir.resolve("quarkus.jfr");
+            recording.dump(dump);
+            events = RecordingFile.readAllEvents(dump);
+        }
+
+        assertThat(events).anySatisfy(event -> {
+            assertThat(event.getEventType().getName()).isEqualTo("org.openrewrite.quarkus.QuarkusConfigEdit");
+            assertThat(event.getString("recipe")).isEqualTo(ChangeQuarkusPropertyValue.class.getName());
+            assertThat(event.getString("sourcePath")).endsWith("application.properties");
+            assertThat(event.getInt("entriesTouched")).isEqualTo(1);
+        });
+    }
+
+    @Test
+    void recordsPomEditOnceEdited(@TempDir Path tempDir) throws Exception {
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable("org.openrewrite.quarkus.QuarkusPomEdit");
+            recording.start();
+            rewriteRun(
+              spec -> spec.recipe(new MigrateQuarkusMavenPluginNativeImageGoal()),
+              //language=xml
+              pomXml(
+                """
+                  <project>
+                    <modelVersion>4.0.0</modelVersion>
+                    <groupId>org.openrewrite.example</groupId>
+                    <artifactId>my-app</artifactId>
+                    <version>1</version>
+                    <build>
+                      <plugins>
+                        <plugin>
+                          <groupId>io.quarkus</groupId>
+                          <artifactId>quarkus-maven-plugin</artifactId>
+                          <version>1.13.5.Final</version>
+                          <executions>
+                            <execution>
+                              <goals>
+                                <goal>build</goal>
+                                <goal>native-image</goal>
+                              </goals>
+                            </execution>
+                          </executions>
+                        </plugin>
+                      </plugins>
+                    </build>
+                  </project>
+                  """,
+                """
+                  <project>
+                    <modelVersion>4.0.0</modelVersion>
+                    <groupId>org.openrewrite.example</groupId>
+                    <artifactId>my-app</artifactId>
+                    <version>1</version>
+                    <build>
+                      <plugins>
+                        <plugin>
+                          <groupId>io.quarkus</groupId>
+                          <artifactId>quarkus-maven-plugin</artifactId>
+                          <version>1.13.5.Final</version>
+                          <executions>
+                            <execution>
+                              <goals>
+                                <goal>build</goal>
+                              </goals>
+                            </execution>
+                          </executions>
+                        </plugin>
+                      </plugins>
+                    </build>
+                  </project>
+                  """
+              )
+            );
+            recording.stop();
+            Path dump = tempDir.resolve("quarkus.jfr");
+            recording.dump(dump);
+            events = RecordingFile.readAllEvents(dump);
+        }
+
+        assertThat(events).singleElement().satisfies(event -> {
+            assertThat(event.getString("recipe")).isEqualTo(MigrateQuarkusMavenPluginNativeImageGoal.class.getName());
+            assertThat(event.getString("sourcePath")).endsWith("pom.xml");
+            assertThat(event.getInt("entriesTouched")).isEqualTo(1);
+        });
+    }
+
+    @Test
+    void skipPomEditWhenUnchanged(@TempDir Path tempDir) throws Exception {
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable("org.openrewrite.quarkus.QuarkusPomEdit");
+            recording.start();
+            rewriteRun(
+              spec -> spec.recipe(new MigrateQuarkusMavenPluginNativeImageGoal()),
+              //language=xml
+              pomXml(
+                """
+                  <project>
+                    <modelVersion>4.0.0</modelVersion>
+                    <groupId>org.openrewrite.example</groupId>
+                    <artifactId>my-app</artifactId>
+                    <version>1</version>
+                    <build>
+                      <plugins>
+                        <plugin>
+                          <groupId>io.quarkus</groupId>
+                          <artifactId>quarkus-maven-plugin</artifactId>
+                          <version>1.13.5.Final</version>
+                          <executions>
+                            <execution>
+                              <goals>
+                                <goal>build</goal>
+                              </goals>
+                            </execution>
+                          </executions>
+                        </plugin>
+                      </plugins>
+                    </build>
+                  </project>
+                  """
+              )
+            );
+            recording.stop();
+            Path dump = tempDir.resolve("quarkus.jfr");
+            recording.dump(dump);
+            events = RecordingFile.readAllEvents(dump);
+        }
+
+        assertThat(events).isEmpty();
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.quarkus.quarkus2.UseIdentifierOnDefaultKafkaBroker;
+import org.openrewrite.quarkus.table.QuarkusRecipePerformance;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.java.Assertions.java;
+import static org.openrewrite.properties.Assertions.properties;
+
+class QuarkusRecipePerformanceTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new AddQuarkusProperty("quarkus.http.port", "9090", null, null, null));
+    }
+
+    @Test
+    void recordsVisitsWhenEnabled() {
+        rewriteRun(
+          spec -> spec
+            .executionContext(QuarkusExecutionContextView.view(new InMemoryExecutionContext())
+              .setRecipePerformanceEnabled(true))
+            .dataTable(QuarkusRecipePerformance.Row.class, rows ->
+              assertThat(rows).anySatisfy(row -> {
+                  assertThat(row.getRecipe()).isEqualTo("org.openrewrite.quarkus.AddQuarkusProperty");
+                  assertThat(row.getSourceFileType()).isEqualTo("Properties.File");
+                  assertThat(row.getFilesVisited()).isEqualTo(1);
+                  assertThat(row.getFilesChanged()).isEqualTo(1);
+                  assertThat(row.getAfterVisitsScheduled()).isZero();
+                  assertThat(row.getCycle()).isEqualTo(1);
+              })),
+          //language=properties
+          properties(
+            """
+              quarkus.http.root-path=/api
+              """,
+            """
+              quarkus.http.port=9090
+              quarkus.http.root-path=/api
+              """,
+            spec -> spec.path("src/main/resources/application.properties")
+          )
+        );
+    }
+
+    @Test
+    void countsImportsScheduledAfterTheVisit() {
+        rewriteRun(
+          spec -> spec
+            .recipe(new UseIdentifierOnDefaultKafkaBroker())
+            .parser(JavaParser.fromJavaVersion()
+              .classpath("smallrye-common-annotation")
+              .dependsOn(
+                """
+                  package javax.inject;
+                  public @interface Named {
+                      String value();
+                  }
+                  """
+              ))
+            .executionContext(QuarkusExecutionContextView.view(new InMemoryExecutionContext())
+              .setRecipePerformanceEnabled(true))
+            .dataTable(QuarkusRecipePerformance.Row.class, rows ->
+              assertThat(rows).anySatisfy(row -> {
+                  assertThat(row.getRecipe()).isEqualTo("org.openrewrite.quarkus.quarkus2.UseIdentifierOnDefaultKafkaBroker");
+                  assertThat(row.getSourceFileType()).isEqualTo("J.CompilationUnit");
+                  assertThat(row.getFilesChanged()).isEqualTo(1);
+                  // maybeRemoveImport of `@Named` and maybeAddImport of `@Identifier`
+                  assertThat(row.getAfterVisitsScheduled()).isEqualTo(2);
+                  assertThat(row.getCycle()).isEqualTo(1);
+              })),
+          java(
+            """
+              import javax.inject.Named;
+              import java.util.Map;
+
+              class KafkaProviders {
+                  @Named("default-kafka-broker")
+                  Map<String, Object> config;
+              }
+              """,
+            """
+              import io.smallrye.common.annotation.Identifier;
+
+              import java.util.Map;
+
+              class KafkaProviders {
+                  @Identifier("default-kafka-broker")
+                  Map<String, Object> config;
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void disabledByDefault() {
+        rewriteRun(
+          spec -> spec.afterRecipe(run ->
+            assertThat(run.getDataTable(QuarkusRecipePerformance.class.getName())).isNull()),
+          //language=properties
+          properties(
+            """
+              quarkus.http.root-path=/api
+              """,
+            """
+              quarkus.http.port=9090
+              quarkus.http.root-path=/api
+              """,
+            spec -> spec.path("src/main/resources/application.properties")
+          )
+        );
+    }
+}
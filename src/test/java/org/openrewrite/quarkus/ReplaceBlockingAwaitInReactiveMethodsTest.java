@@ -0,0 +1,201 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class ReplaceBlockingAwaitInReactiveMethodsTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new ReplaceBlockingAwaitInReactiveMethods())
+          .parser(JavaParser.fromJavaVersion()
+            .classpath("mutiny", "reactive-streams")
+            .dependsOn(
+              """
+                package io.smallrye.common.annotation;
+                public @interface NonBlocking {}
+                """
+            ));
+    }
+
+    @DocumentExample
+    @Test
+    void composeAwaitedUni() {
+        rewriteRun(
+          java(
+            //language=java
+            """
+              import io.smallrye.mutiny.Uni;
+
+              class GreetingService {
+                  Uni<String> name() {
+                      return Uni.createFrom().item("world");
+                  }
+
+                  Uni<String> name2() {
+                      return Uni.createFrom().item(name().await().indefinitely());
+                  }
+
+                  Uni<String> greeting() {
+                      return Uni.createFrom().item(() -> "Hello " + name().await().indefinitely());
+                  }
+              }
+              """,
+            //language=java
+            """
+              import io.smallrye.mutiny.Uni;
+
+              class GreetingService {
+                  Uni<String> name() {
+                      return Uni.createFrom().item("world");
+                  }
+
+                  Uni<String> name2() {
+                      return name();
+                  }
+
+                  Uni<String> greeting() {
+                      return name().map(item -> "Hello " + item);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void composeWithoutShadowingItem() {
+        rewriteRun(
+          java(
+            //language=java
+            """
+              import io.smallrye.mutiny.Uni;
+
+              class GreetingService {
+                  Uni<String> name() {
+                      return Uni.createFrom().item("world");
+                  }
+
+                  Uni<String> greeting(String item) {
+                      return Uni.createFrom().item(() -> item + " " + name().await().indefinitely());
+                  }
+              }
+              """,
+            //language=java
+            """
+              import io.smallrye.mutiny.Uni;
+
+              class GreetingService {
+                  Uni<String> name() {
+                      return Uni.createFrom().item("world");
+                  }
+
+                  Uni<String> greeting(String item) {
+                      return name().map(item1 -> item + " " + item1);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void markOtherBlockingSubscriptions() {
+        rewriteRun(
+          java(
+            //language=java
+            """
+              import io.smallrye.common.annotation.NonBlocking;
+              import io.smallrye.mutiny.Multi;
+              import io.smallrye.mutiny.Uni;
+
+              import java.time.Duration;
+
+              class GreetingService {
+                  Uni<String> name() {
+                      return Uni.createFrom().item("world");
+                  }
+
+                  Multi<String> names() {
+                      return Multi.createFrom().items("a", "b");
+                  }
+
+                  @NonBlocking
+                  String greeting() {
+                      return "Hello " + name().await().atMost(Duration.ofSeconds(1));
+                  }
+
+                  @NonBlocking
+                  int count() {
+                      int count = 0;
+                      for (String name : names().subscribe().asIterable()) {
+                          count++;
+                      }
+                      return count;
+                  }
+
+                  String blocking() {
+                      return name().await().indefinitely();
+                  }
+              }
+              """,
+            //language=java
+            """
+              import io.smallrye.common.annotation.NonBlocking;
+              import io.smallrye.mutiny.Multi;
+              import io.smallrye.mutiny.Uni;
+
+              import java.time.Duration;
+
+              class GreetingService {
+                  Uni<String> name() {
+                      return Uni.createFrom().item("world");
+                  }
+
+                  Multi<String> names() {
+                      return Multi.createFrom().items("a", "b");
+                  }
+
+                  @NonBlocking
+                  String greeting() {
+                      return "Hello " + /*~~(Blocks the event loop, compose with `chain` or `map` instead)~~>*/name().await().atMost(Duration.ofSeconds(1));
+                  }
+
+                  @NonBlocking
+                  int count() {
+                      int count = 0;
+                      for (String name : /*~~(Blocks the event loop, compose with `chain` or `map` instead)~~>*/names().subscribe().asIterable()) {
+                          count++;
+                      }
+                      return count;
+                  }
+
+                  String blocking() {
+                      return name().await().indefinitely();
+                  }
+              }
+              """
+          )
+        );
+    }
+}
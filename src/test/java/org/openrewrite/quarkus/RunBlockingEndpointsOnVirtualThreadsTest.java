@@ -0,0 +1,266 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.quarkus.table.VirtualThreadSkippedMethods;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.java.Assertions.java;
+import static org.openrewrite.properties.Assertions.properties;
+
+class RunBlockingEndpointsOnVirtualThreadsTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new RunBlockingEndpointsOnVirtualThreads())
+          .parser(JavaParser.fromJavaVersion()
+            .classpath("javaee-api", "mutiny")
+            .dependsOn(
+              """
+                package io.smallrye.common.annotation;
+                public @interface RunOnVirtualThread {}
+                """
+            ));
+    }
+
+    @DocumentExample
+    @Test
+    void annotateBlockingEndpoint() {
+        rewriteRun(
+          java(
+            //language=java
+            """
+              import javax.persistence.EntityManager;
+              import javax.ws.rs.GET;
+              import javax.ws.rs.Path;
+
+              @Path("/fruits")
+              class FruitResource {
+                  EntityManager em;
+
+                  @GET
+                  public Object list() {
+                      return em.createQuery("from Fruit").getResultList();
+                  }
+
+                  @GET
+                  @Path("/count")
+                  public int count() {
+                      return 42;
+                  }
+              }
+              """,
+            //language=java
+            """
+              import io.smallrye.common.annotation.RunOnVirtualThread;
+
+              import javax.persistence.EntityManager;
+              import javax.ws.rs.GET;
+              import javax.ws.rs.Path;
+
+              @Path("/fruits")
+              class FruitResource {
+                  EntityManager em;
+
+                  @GET
+                  @RunOnVirtualThread
+                  public Object list() {
+                      return em.createQuery("from Fruit").getResultList();
+                  }
+
+                  @GET
+                  @Path("/count")
+                  public int count() {
+                      return 42;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void skipSubResourceLocator() {
+        rewriteRun(
+          java(
+            //language=java
+            """
+              import javax.persistence.EntityManager;
+              import javax.ws.rs.Path;
+
+              @Path("/fruits")
+              class FruitResource {
+                  EntityManager em;
+
+                  @Path("/{id}")
+                  public Object fruit(long id) {
+                      return em.find(Object.class, id);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void skipReactiveEndpoint() {
+        rewriteRun(
+          java(
+            //language=java
+            """
+              import io.smallrye.mutiny.Uni;
+
+              import javax.persistence.EntityManager;
+              import javax.ws.rs.GET;
+              import javax.ws.rs.Path;
+
+              @Path("/fruits")
+              class FruitResource {
+                  EntityManager em;
+
+                  @GET
+                  public Uni<Object> list() {
+                      return Uni.createFrom().item(() -> em.find(Object.class, 1L));
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void reportPinningEndpoint() {
+        rewriteRun(
+          spec -> spec.dataTable(VirtualThreadSkippedMethods.Row.class, rows ->
+            assertThat(rows).singleElement().satisfies(row -> {
+                assertThat(row.getClassName()).isEqualTo("FruitResource");
+                assertThat(row.getMethodName()).isEqualTo("list");
+                assertThat(row.getReason()).isEqualTo("synchronized block");
+            })),
+          java(
+            //language=java
+            """
+              import javax.persistence.EntityManager;
+              import javax.ws.rs.GET;
+              import javax.ws.rs.Path;
+
+              @Path("/fruits")
+              class FruitResource {
+                  EntityManager em;
+
+                  @GET
+                  public Object list() {
+                      synchronized (this) {
+                          return em.createQuery("from Fruit").getResultList();
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void enableVirtualThreads() {
+        rewriteRun(
+          java(
+            //language=java
+            """
+              import javax.persistence.EntityManager;
+              import javax.ws.rs.GET;
+              import javax.ws.rs.Path;
+
+              @Path("/fruits")
+              class FruitResource {
+                  EntityManager em;
+
+                  @GET
+                  public Object list() {
+                      return em.createQuery("from Fruit").getResultList();
+                  }
+              }
+              """,
+            //language=java
+            """
+              import io.smallrye.common.annotation.RunOnVirtualThread;
+
+              import javax.persistence.EntityManager;
+              import javax.ws.rs.GET;
+              import javax.ws.rs.Path;
+
+              @Path("/fruits")
+              class FruitResource {
+                  EntityManager em;
+
+                  @GET
+                  @RunOnVirtualThread
+                  public Object list() {
+                      return em.createQuery("from Fruit").getResultList();
+                  }
+              }
+              """
+          ),
+          //language=properties
+          properties(
+            """
+              quarkus.http.root-path=/api
+              """,
+            """
+              quarkus.http.root-path=/api
+              quarkus.virtual-threads.enabled=true
+              """,
+            spec -> spec.path("src/main/resources/application.properties")
+          )
+        );
+    }
+
+    @Test
+    void keepConfigurationWithoutVirtualThreads() {
+        rewriteRun(
+          java(
+            //language=java
+            """
+              import java.io.ByteArrayOutputStream;
+              import javax.ws.rs.GET;
+              import javax.ws.rs.Path;
+
+              @Path("/fruits")
+              class FruitResource {
+
+                  @GET
+                  public byte[] export() {
+                      ByteArrayOutputStream out = new ByteArrayOutputStream();
+                      out.write(42);
+                      return out.toByteArray();
+                  }
+              }
+              """
+          ),
+          //language=properties
+          properties(
+            """
+              quarkus.http.root-path=/api
+              """,
+            spec -> spec.path("src/main/resources/application.properties")
+          )
+        );
+    }
+}
@@ -305,4 +305,96 @@ class Slf4JToQuarkusLoggerTest implements RewriteTest {
           )
         );
     }
+
+    @Test
+    void shouldMapLevelChecks() {
+        rewriteRun(
+          java(
+            //language=java
+            """
+              import org.slf4j.Logger;
+              import org.slf4j.LoggerFactory;
+
+              class OrderService {
+
+                  private static final Logger log = LoggerFactory.getLogger(OrderService.class);
+
+                  public void save(Object order) {
+                      if (log.isDebugEnabled()) {
+                          log.debug("Saving {}", order.hashCode());
+                      }
+                      if (log.isWarnEnabled()) {
+                          log.warn("Saving {}", order);
+                      }
+                  }
+              }
+              """,
+            //language=java
+            """
+              import io.quarkus.logging.Log;
+              import org.jboss.logging.Logger;
+
+              class OrderService {
+
+                  public void save(Object order) {
+                      if (Log.isDebugEnabled()) {
+                          Log.debugf("Saving %s", order.hashCode());
+                      }
+                      if (Log.isEnabled(Logger.Level.WARN)) {
+                          Log.warnf("Saving %s", order);
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void shouldGuardExpensiveArguments() {
+        rewriteRun(
+          spec -> spec.recipe(new Slf4jToQuarkusLogger(true)),
+          java(
+            //language=java
+            """
+              import org.slf4j.Logger;
+              import org.slf4j.LoggerFactory;
+
+              class OrderService {
+
+                  private static final Logger log = LoggerFactory.getLogger(OrderService.class);
+
+                  public void save(String id, Object order) {
+                      log.debug("Saving {}", order.toString());
+                      log.debug("Saved " + id + " at 100%");
+                      if (log.isDebugEnabled()) {
+                          log.debug("Order {}", order.hashCode());
+                      }
+                      log.trace("Order {}", id);
+                      log.info("Saved {}", order.toString());
+                  }
+              }
+              """,
+            //language=java
+            """
+              import io.quarkus.logging.Log;
+
+              class OrderService {
+
+                  public void save(String id, Object order) {
+                      if (Log.isDebugEnabled()) {
+                          Log.debugf("Saving %s", order.toString());
+                      }
+                      Log.debugf("Saved %s at 100%%", id);
+                      if (Log.isDebugEnabled()) {
+                          Log.debugf("Order %s", order.hashCode());
+                      }
+                      Log.tracef("Order %s", id);
+                      Log.infof("Saved %s", order.toString());
+                  }
+              }
+              """
+          )
+        );
+    }
 }
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.quarkus.table.ConsolePrintReplacements;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.java.Assertions.java;
+
+class SystemOutToQuarkusLogTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new SystemOutToQuarkusLog())
+          .parser(JavaParser.fromJavaVersion().classpath(
+            "jakarta.enterprise.cdi-api",
+            "javaee-api",
+            "quarkus-core"
+          ));
+    }
+
+    @DocumentExample
+    @Test
+    void shouldReplacePrintingInResource() {
+        rewriteRun(
+          spec -> spec.dataTable(ConsolePrintReplacements.Row.class, rows ->
+            assertThat(rows).singleElement().satisfies(row -> {
+                assertThat(row.getSourcePath()).isEqualTo("GreetingResource.java");
+                assertThat(row.getReplacements()).isEqualTo(3);
+            })),
+          java(
+            //language=java
+            """
+              import javax.ws.rs.GET;
+              import javax.ws.rs.Path;
+
+              @Path("/hello")
+              public class GreetingResource {
+
+                  @GET
+                  public String hello(String name) {
+                      System.out.println("Hello " + name);
+                      System.out.printf("Greeted %s times%n", 3);
+                      try {
+                          return "Hello";
+                      } catch (RuntimeException e) {
+                          System.err.println(e);
+                          throw e;
+                      }
+                  }
+              }
+              """,
+            //language=java
+            """
+              import io.quarkus.logging.Log;
+
+              import javax.ws.rs.GET;
+              import javax.ws.rs.Path;
+
+              @Path("/hello")
+              public class GreetingResource {
+
+                  @GET
+                  public String hello(String name) {
+                      Log.infof("Hello %s", name);
+                      Log.infof("Greeted %s times", 3);
+                      try {
+                          return "Hello";
+                      } catch (RuntimeException e) {
+                          Log.error(e);
+                          throw e;
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void shouldReplacePrintingInScopedBean() {
+        rewriteRun(
+          java(
+            //language=java
+            """
+              import jakarta.enterprise.context.ApplicationScoped;
+
+              @ApplicationScoped
+              class GreetingService {
+                  void greet() {
+                      System.out.println("Hello");
+                  }
+              }
+              """,
+            //language=java
+            """
+              import io.quarkus.logging.Log;
+              import jakarta.enterprise.context.ApplicationScoped;
+
+              @ApplicationScoped
+              class GreetingService {
+                  void greet() {
+                      Log.info("Hello");
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void shouldNotChangeOtherClasses() {
+        rewriteRun(
+          java(
+            //language=java
+            """
+              class Main {
+                  public static void main(String[] args) {
+                      System.out.println("Hello");
+                  }
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,316 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.quarkus2;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.quarkus.table.UnpagedPanacheEndpoints;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.java.Assertions.java;
+
+class AddPagingToPanacheListEndpointsTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new AddPagingToPanacheListEndpoints())
+          .parser(JavaParser.fromJavaVersion()
+            .classpath("javaee-api", "quarkus-hibernate-orm-panache", "quarkus-hibernate-reactive-panache", "quarkus-panache-common", "persistence-api", "mutiny", "reactive-streams")
+            .dependsOn(
+              """
+                package org.openrewrite.example;
+
+                import io.quarkus.hibernate.orm.panache.PanacheEntity;
+
+                public class Fruit extends PanacheEntity {
+                    public String name;
+                    public String color;
+                }
+                """,
+              """
+                package org.openrewrite.example;
+
+                import io.quarkus.hibernate.reactive.panache.PanacheEntity;
+
+                public class Vegetable extends PanacheEntity {
+                    public String name;
+                }
+                """
+            ));
+    }
+
+    @DocumentExample
+    @Test
+    void pageListAll() {
+        rewriteRun(
+          java(
+            """
+              package org.openrewrite.example;
+
+              import javax.ws.rs.GET;
+              import javax.ws.rs.Path;
+              import java.util.List;
+
+              @Path("/fruits")
+              class FruitResource {
+                  @GET
+                  public List<Fruit> list() {
+                      return Fruit.listAll();
+                  }
+              }
+              """,
+            """
+              package org.openrewrite.example;
+
+              import io.quarkus.panache.common.Page;
+
+              import javax.ws.rs.DefaultValue;
+              import javax.ws.rs.GET;
+              import javax.ws.rs.Path;
+              import javax.ws.rs.QueryParam;
+              import java.util.List;
+
+              @Path("/fruits")
+              class FruitResource {
+                  @GET
+                  public List<Fruit> list(@QueryParam("page") @DefaultValue("0") int page, @QueryParam("size") @DefaultValue("20") int size) {
+                      return Fruit.findAll().page(Page.of(page, size)).list();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void pageFindQueryKeepingParameters() {
+        rewriteRun(
+          spec -> spec.recipe(new AddPagingToPanacheListEndpoints(50)),
+          java(
+            """
+              package org.openrewrite.example;
+
+              import javax.ws.rs.GET;
+              import javax.ws.rs.Path;
+              import javax.ws.rs.PathParam;
+              import java.util.List;
+
+              @Path("/fruits")
+              class FruitResource {
+                  @GET
+                  @Path("/{color}")
+                  public List<Fruit> byColor(@PathParam("color") String color) {
+                      return Fruit.find("color", color).list();
+                  }
+              }
+              """,
+            """
+              package org.openrewrite.example;
+
+              import io.quarkus.panache.common.Page;
+
+              import javax.ws.rs.*;
+              import java.util.List;
+
+              @Path("/fruits")
+              class FruitResource {
+                  @GET
+                  @Path("/{color}")
+                  public List<Fruit> byColor(@PathParam("color") String color, @QueryParam("page") @DefaultValue("0") int page, @QueryParam("size") @DefaultValue("50") int size) {
+                      return Fruit.find("color", color).page(Page.of(page, size)).list();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void pageReactiveList() {
+        rewriteRun(
+          java(
+            """
+              package org.openrewrite.example;
+
+              import io.smallrye.mutiny.Uni;
+
+              import javax.ws.rs.GET;
+              import javax.ws.rs.Path;
+              import java.util.List;
+
+              @Path("/vegetables")
+              class VegetableResource {
+                  @GET
+                  public Uni<List<Vegetable>> byName() {
+                      return Vegetable.list("name", "carrot");
+                  }
+              }
+              """,
+            """
+              package org.openrewrite.example;
+
+              import io.quarkus.panache.common.Page;
+              import io.smallrye.mutiny.Uni;
+
+              import javax.ws.rs.DefaultValue;
+              import javax.ws.rs.GET;
+              import javax.ws.rs.Path;
+              import javax.ws.rs.QueryParam;
+              import java.util.List;
+
+              @Path("/vegetables")
+              class VegetableResource {
+                  @GET
+                  public Uni<List<Vegetable>> byName(@QueryParam("page") @DefaultValue("0") int page, @QueryParam("size") @DefaultValue("20") int size) {
+                      return Vegetable.find("name", "carrot").page(Page.of(page, size)).list();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void reportEndpointProcessingTheListedEntities() {
+        rewriteRun(
+          spec -> spec.dataTable(UnpagedPanacheEndpoints.Row.class, rows ->
+            assertThat(rows).singleElement().satisfies(row -> {
+                assertThat(row.getMethodName()).isEqualTo("names");
+                assertThat(row.getReason()).isEqualTo("does not return the listed entities as is");
+            })),
+          java(
+            """
+              package org.openrewrite.example;
+
+              import javax.ws.rs.GET;
+              import javax.ws.rs.Path;
+              import java.util.ArrayList;
+              import java.util.List;
+
+              @Path("/fruits")
+              class FruitResource {
+                  @GET
+                  public List<String> names() {
+                      List<String> names = new ArrayList<>();
+                      for (Fruit fruit : Fruit.<Fruit>listAll()) {
+                          names.add(fruit.name);
+                      }
+                      return names;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void pageListInResponse() {
+        rewriteRun(
+          java(
+            """
+              package org.openrewrite.example;
+
+              import javax.ws.rs.GET;
+              import javax.ws.rs.Path;
+              import javax.ws.rs.core.Response;
+
+              @Path("/fruits")
+              class FruitResource {
+                  @GET
+                  public Response list() {
+                      return Response.ok(Fruit.listAll()).build();
+                  }
+              }
+              """,
+            """
+              package org.openrewrite.example;
+
+              import io.quarkus.panache.common.Page;
+
+              import javax.ws.rs.DefaultValue;
+              import javax.ws.rs.GET;
+              import javax.ws.rs.Path;
+              import javax.ws.rs.QueryParam;
+              import javax.ws.rs.core.Response;
+
+              @Path("/fruits")
+              class FruitResource {
+                  @GET
+                  public Response list(@QueryParam("page") @DefaultValue("0") int page, @QueryParam("size") @DefaultValue("20") int size) {
+                      return Response.ok(Fruit.findAll().page(Page.of(page, size)).list()).build();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void reportEndpointCountingTheListedEntities() {
+        rewriteRun(
+          spec -> spec.dataTable(UnpagedPanacheEndpoints.Row.class, rows ->
+            assertThat(rows).singleElement().satisfies(row -> {
+                assertThat(row.getMethodName()).isEqualTo("count");
+                assertThat(row.getReason()).isEqualTo("does not return the listed entities as is");
+            })),
+          java(
+            """
+              package org.openrewrite.example;
+
+              import javax.ws.rs.GET;
+              import javax.ws.rs.Path;
+
+              @Path("/fruits")
+              class FruitResource {
+                  @GET
+                  @Path("/count")
+                  public int count() {
+                      return Fruit.listAll().size();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepPagedQuery() {
+        rewriteRun(
+          java(
+            """
+              package org.openrewrite.example;
+
+              import io.quarkus.panache.common.Page;
+
+              import javax.ws.rs.GET;
+              import javax.ws.rs.Path;
+              import java.util.List;
+
+              @Path("/fruits")
+              class FruitResource {
+                  @GET
+                  public List<Fruit> list() {
+                      return Fruit.findAll().page(Page.ofSize(10)).list();
+                  }
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,291 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.quarkus2;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+import static org.openrewrite.properties.Assertions.properties;
+
+class BatchPanachePersistsInLoopsTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new BatchPanachePersistsInLoops())
+          .parser(JavaParser.fromJavaVersion()
+            .classpath("quarkus-hibernate-orm-panache", "quarkus-hibernate-reactive-panache", "persistence-api", "mutiny", "reactive-streams")
+            .dependsOn(
+              """
+                package org.openrewrite.example;
+
+                import io.quarkus.hibernate.orm.panache.PanacheEntity;
+
+                public class Fruit extends PanacheEntity {
+                    public String name;
+                }
+                """,
+              """
+                package org.openrewrite.example;
+
+                import io.quarkus.hibernate.reactive.panache.PanacheEntity;
+
+                public class Vegetable extends PanacheEntity {
+                    public String name;
+                }
+                """
+            ));
+    }
+
+    @DocumentExample
+    @Test
+    void persistIterable() {
+        rewriteRun(
+          java(
+            """
+              package org.openrewrite.example;
+
+              import java.util.List;
+
+              class FruitService {
+                  void save(List<Fruit> fruits) {
+                      for (Fruit fruit : fruits) {
+                          fruit.persist();
+                      }
+                  }
+              }
+              """,
+            """
+              package org.openrewrite.example;
+
+              import java.util.List;
+
+              class FruitService {
+                  void save(List<Fruit> fruits) {
+                      Fruit.persist(fruits);
+                  }
+              }
+              """
+          ),
+          properties(
+            """
+              quarkus.datasource.db-kind=postgresql
+              """,
+            """
+              quarkus.datasource.db-kind=postgresql
+              quarkus.hibernate-orm.jdbc.statement-batch-size=50
+              """,
+            spec -> spec.path("src/main/resources/application.properties")
+          )
+        );
+    }
+
+    @Test
+    void persistCollectedEntities() {
+        rewriteRun(
+          java(
+            """
+              package org.openrewrite.example;
+
+              import java.util.List;
+
+              class FruitService {
+                  void save(List<String> names) {
+                      for (String name : names) {
+                          Fruit fruit = new Fruit();
+                          fruit.name = name;
+                          fruit.persist();
+                      }
+                  }
+              }
+              """,
+            """
+              package org.openrewrite.example;
+
+              import java.util.ArrayList;
+              import java.util.List;
+
+              class FruitService {
+                  void save(List<String> names) {
+                      List<Fruit> toPersist = new ArrayList<>();
+                      for (String name : names) {
+                          Fruit fruit = new Fruit();
+                          fruit.name = name;
+                          toPersist.add(fruit);
+                      }
+                      Fruit.persist(toPersist);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void combineReactivePersists() {
+        rewriteRun(
+          java(
+            """
+              package org.openrewrite.example;
+
+              import io.smallrye.mutiny.Uni;
+
+              import java.util.List;
+
+              class VegetableService {
+                  Uni<Void> save(List<String> names) {
+                      Uni<Void> saved = Uni.createFrom().voidItem();
+                      for (String name : names) {
+                          Vegetable vegetable = new Vegetable();
+                          vegetable.name = name;
+                          saved = saved.call(() -> vegetable.persist());
+                      }
+                      return saved;
+                  }
+              }
+              """,
+            """
+              package org.openrewrite.example;
+
+              import io.smallrye.mutiny.Uni;
+
+              import java.util.ArrayList;
+              import java.util.List;
+
+              class VegetableService {
+                  Uni<Void> save(List<String> names) {
+                      Uni<Void> saved = Uni.createFrom().voidItem();
+                      List<Vegetable> toPersist = new ArrayList<>();
+                      for (String name : names) {
+                          Vegetable vegetable = new Vegetable();
+                          vegetable.name = name;
+                          toPersist.add(vegetable);
+                      }
+                      saved = saved.call(() -> Vegetable.persist(toPersist));
+                      return saved;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void collectReactivePersistsOfIterable() {
+        rewriteRun(
+          java(
+            """
+              package org.openrewrite.example;
+
+              import io.smallrye.mutiny.Uni;
+
+              import java.util.List;
+
+              class VegetableService {
+                  Uni<Void> save(List<Vegetable> vegetables) {
+                      Uni<Void> saved = Uni.createFrom().voidItem();
+                      for (Vegetable vegetable : vegetables) {
+                          saved = saved.call(() -> vegetable.persist());
+                      }
+                      vegetables = null;
+                      return saved;
+                  }
+              }
+              """,
+            """
+              package org.openrewrite.example;
+
+              import io.smallrye.mutiny.Uni;
+
+              import java.util.ArrayList;
+              import java.util.List;
+
+              class VegetableService {
+                  Uni<Void> save(List<Vegetable> vegetables) {
+                      Uni<Void> saved = Uni.createFrom().voidItem();
+                      List<Vegetable> toPersist = new ArrayList<>();
+                      for (Vegetable vegetable : vegetables) {
+                          toPersist.add(vegetable);
+                      }
+                      saved = saved.call(() -> Vegetable.persist(toPersist));
+                      vegetables = null;
+                      return saved;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepReactivePersistsChainedWithOtherUnis() {
+        rewriteRun(
+          java(
+            """
+              package org.openrewrite.example;
+
+              import io.smallrye.mutiny.Uni;
+
+              import java.util.List;
+
+              class VegetableService {
+                  Uni<Void> audit(String name) {
+                      return Uni.createFrom().voidItem();
+                  }
+
+                  Uni<Void> save(List<String> names) {
+                      Uni<Void> saved = Uni.createFrom().voidItem();
+                      for (String name : names) {
+                          Vegetable vegetable = new Vegetable();
+                          vegetable.name = name;
+                          saved = saved.call(() -> audit(name));
+                          saved = saved.call(() -> vegetable.persist());
+                      }
+                      return saved;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepLoopsReturningEarly() {
+        rewriteRun(
+          java(
+            """
+              package org.openrewrite.example;
+
+              import java.util.List;
+
+              class FruitService {
+                  void save(List<Fruit> fruits) {
+                      for (Fruit fruit : fruits) {
+                          if (fruit.name == null) {
+                              return;
+                          }
+                          fruit.persist();
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.quarkus2;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class FetchPanacheAssociationsLazilyTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new FetchPanacheAssociationsLazily())
+          .parser(JavaParser.fromJavaVersion()
+            .classpath("quarkus-hibernate-orm-panache", "quarkus-panache-common", "persistence-api", "hibernate-core"));
+    }
+
+    @DocumentExample
+    @Test
+    void fetchLazily() {
+        rewriteRun(
+          java(
+            """
+              package org.openrewrite.example;
+
+              import io.quarkus.hibernate.orm.panache.PanacheEntity;
+
+              import javax.persistence.Entity;
+              import javax.persistence.FetchType;
+              import javax.persistence.OneToMany;
+              import java.util.List;
+
+              @Entity
+              public class Tree extends PanacheEntity {
+                  public String name;
+
+                  @OneToMany(mappedBy = "tree", fetch = FetchType.EAGER)
+                  public List<Fruit> fruits;
+              }
+              """,
+            """
+              package org.openrewrite.example;
+
+              import io.quarkus.hibernate.orm.panache.PanacheEntity;
+              import org.hibernate.annotations.BatchSize;
+
+              import javax.persistence.Entity;
+              import javax.persistence.FetchType;
+              import javax.persistence.OneToMany;
+              import java.util.List;
+
+              @Entity
+              public class Tree extends PanacheEntity {
+                  public String name;
+
+                  @BatchSize(size = 16)
+                  @OneToMany(mappedBy = "tree", fetch = FetchType.LAZY)
+                  public List<Fruit> fruits;
+              }
+              """
+          ),
+          java(
+            """
+              package org.openrewrite.example;
+
+              import io.quarkus.hibernate.orm.panache.PanacheEntity;
+
+              import javax.persistence.Entity;
+              import javax.persistence.ManyToOne;
+
+              @Entity
+              public class Fruit extends PanacheEntity {
+                  public String name;
+
+                  @ManyToOne
+                  public Tree tree;
+              }
+              """,
+            """
+              package org.openrewrite.example;
+
+              import io.quarkus.hibernate.orm.panache.PanacheEntity;
+
+              import javax.persistence.Entity;
+              import javax.persistence.FetchType;
+              import javax.persistence.ManyToOne;
+
+              @Entity
+              public class Fruit extends PanacheEntity {
+                  public String name;
+
+                  @ManyToOne(fetch = FetchType.LAZY)
+                  public Tree tree;
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void joinFetchNavigatedAssociation() {
+        rewriteRun(
+          java(
+            """
+              package org.openrewrite.example;
+
+              import io.quarkus.hibernate.orm.panache.PanacheEntity;
+
+              import javax.persistence.Entity;
+              import javax.persistence.FetchType;
+              import javax.persistence.OneToMany;
+              import java.util.List;
+
+              @Entity
+              public class Tree extends PanacheEntity {
+                  public String name;
+
+                  @OneToMany(mappedBy = "tree", fetch = FetchType.LAZY)
+                  public List<Fruit> fruits;
+              }
+              """
+          ),
+          java(
+            """
+              package org.openrewrite.example;
+
+              import io.quarkus.hibernate.orm.panache.PanacheEntity;
+
+              import javax.persistence.Entity;
+              import javax.persistence.FetchType;
+              import javax.persistence.ManyToOne;
+
+              @Entity
+              public class Fruit extends PanacheEntity {
+                  public String name;
+
+                  @ManyToOne(fetch = FetchType.LAZY)
+                  public Tree tree;
+              }
+              """
+          ),
+          java(
+            """
+              package org.openrewrite.example;
+
+              class TreeService {
+                  int fruits() {
+                      int count = 0;
+                      for (Tree tree : Tree.<Tree>listAll()) {
+                          count += tree.fruits.size();
+                      }
+                      return count;
+                  }
+              }
+              """,
+            """
+              package org.openrewrite.example;
+
+              class TreeService {
+                  int fruits() {
+                      int count = 0;
+                      for (Tree tree : Tree.<Tree>list("select distinct e from Tree e left join fetch e.fruits")) {
+                          count += tree.fruits.size();
+                      }
+                      return count;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepEntityNamedOtherwise() {
+        rewriteRun(
+          java(
+            """
+              package org.openrewrite.example;
+
+              import io.quarkus.hibernate.orm.panache.PanacheEntity;
+
+              import javax.persistence.Entity;
+              import javax.persistence.FetchType;
+              import javax.persistence.OneToMany;
+              import java.util.List;
+
+              @Entity(name = "FruitTree")
+              public class Tree extends PanacheEntity {
+                  public String name;
+
+                  @OneToMany(mappedBy = "tree", fetch = FetchType.LAZY)
+                  public List<Fruit> fruits;
+              }
+              """
+          ),
+          java(
+            """
+              package org.openrewrite.example;
+
+              import io.quarkus.hibernate.orm.panache.PanacheEntity;
+
+              import javax.persistence.Entity;
+              import javax.persistence.FetchType;
+              import javax.persistence.ManyToOne;
+
+              @Entity
+              public class Fruit extends PanacheEntity {
+                  public String name;
+
+                  @ManyToOne(fetch = FetchType.LAZY)
+                  public Tree tree;
+              }
+              """
+          ),
+          java(
+            """
+              package org.openrewrite.example;
+
+              class TreeService {
+                  int fruits() {
+                      int count = 0;
+                      for (Tree tree : Tree.<Tree>listAll()) {
+                          count += tree.fruits.size();
+                      }
+                      return count;
+                  }
+              }
+              """
+          )
+        );
+    }
+}
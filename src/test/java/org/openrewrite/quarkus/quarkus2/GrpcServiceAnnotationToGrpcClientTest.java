@@ -116,4 +116,52 @@ class GrpcServiceAnnotationToGrpcClientTest implements RewriteTest {
         );
     }
 
+    @Test
+    void constructorAndMethodParameters() {
+        rewriteRun(
+          java(
+            """
+              package org.openrewrite.example;
+
+              import io.quarkus.grpc.runtime.annotations.GrpcService;
+
+              import javax.inject.Inject;
+
+              class ExampleResource {
+                  final GreeterGrpc.GreeterBlockingStub client;
+
+                  @Inject
+                  ExampleResource(@GrpcService("client") GreeterGrpc.GreeterBlockingStub client) {
+                      this.client = client;
+                  }
+
+                  @Inject
+                  void setOther(@GrpcService("hello-service") GreeterGrpc.GreeterBlockingStub other) {
+                  }
+              }
+              """,
+            """
+              package org.openrewrite.example;
+
+              import io.quarkus.grpc.GrpcClient;
+
+              import javax.inject.Inject;
+
+              class ExampleResource {
+                  final GreeterGrpc.GreeterBlockingStub client;
+
+                  @Inject
+                  ExampleResource(@GrpcClient GreeterGrpc.GreeterBlockingStub client) {
+                      this.client = client;
+                  }
+
+                  @Inject
+                  void setOther(@GrpcClient("hello-service") GreeterGrpc.GreeterBlockingStub other) {
+                  }
+              }
+              """
+          )
+        );
+    }
+
 }
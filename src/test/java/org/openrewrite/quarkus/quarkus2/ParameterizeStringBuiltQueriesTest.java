@@ -0,0 +1,328 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.quarkus2;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class ParameterizeStringBuiltQueriesTest implements RewriteTest {
+
+    private static final String FRUIT =
+      """
+        package org.openrewrite.example;
+
+        import io.quarkus.hibernate.orm.panache.PanacheEntity;
+
+        import javax.persistence.Entity;
+
+        @Entity
+        public class Fruit extends PanacheEntity {
+            public String name;
+            public int weight;
+        }
+        """;
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new ParameterizeStringBuiltQueries())
+          .parser(JavaParser.fromJavaVersion()
+            .classpath("quarkus-hibernate-orm-panache", "quarkus-panache-common", "persistence-api"));
+    }
+
+    @DocumentExample
+    @Test
+    void namePanacheQuery() {
+        rewriteRun(
+          java(
+            """
+              package org.openrewrite.example;
+
+              import io.quarkus.hibernate.orm.panache.PanacheEntity;
+
+              import javax.persistence.Entity;
+
+              @Entity
+              public class Fruit extends PanacheEntity {
+                  public String name;
+                  public int weight;
+              }
+              """,
+            """
+              package org.openrewrite.example;
+
+              import io.quarkus.hibernate.orm.panache.PanacheEntity;
+
+              import javax.persistence.Entity;
+              import javax.persistence.NamedQuery;
+
+              @Entity
+              @NamedQuery(name = "Fruit.byName", query = "from Fruit where name = ?1")
+              public class Fruit extends PanacheEntity {
+                  public String name;
+                  public int weight;
+              }
+              """
+          ),
+          java(
+            """
+              package org.openrewrite.example;
+
+              import java.util.List;
+
+              class FruitService {
+                  List<Fruit> byName(String name) {
+                      return Fruit.<Fruit>find("name = '" + name + "'").list();
+                  }
+              }
+              """,
+            """
+              package org.openrewrite.example;
+
+              import java.util.List;
+
+              class FruitService {
+                  List<Fruit> byName(String name) {
+                      return Fruit.<Fruit>find("#Fruit.byName", name).list();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void parameterizePanacheQuery() {
+        rewriteRun(
+          java(FRUIT),
+          java(
+            """
+              package org.openrewrite.example;
+
+              class FruitService {
+                  long heavierThan(int weight) {
+                      return Fruit.count("weight > " + weight);
+                  }
+
+                  long delete(String name, int weight) {
+                      return Fruit.delete("weight = ?1 and name = '" + name + "'", weight);
+                  }
+              }
+              """,
+            """
+              package org.openrewrite.example;
+
+              class FruitService {
+                  long heavierThan(int weight) {
+                      return Fruit.count("weight > ?1", weight);
+                  }
+
+                  long delete(String name, int weight) {
+                      return Fruit.delete("weight = ?1 and name = ?2", weight, name);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void parameterizeEntityManagerQuery() {
+        rewriteRun(
+          java(FRUIT),
+          java(
+            """
+              package org.openrewrite.example;
+
+              import javax.persistence.EntityManager;
+
+              class FruitService {
+                  EntityManager em;
+
+                  int rename(String from, String to) {
+                      return em.createQuery("update Fruit set name = '" + to + "' where name = '" + from + "'").executeUpdate();
+                  }
+              }
+              """,
+            """
+              package org.openrewrite.example;
+
+              import javax.persistence.EntityManager;
+
+              class FruitService {
+                  EntityManager em;
+
+                  int rename(String from, String to) {
+                      return em.createQuery("update Fruit set name = ?1 where name = ?2").setParameter(1, to).setParameter(2, from).executeUpdate();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void parameterizeEntityManagerQueryAfterExistingParameters() {
+        rewriteRun(
+          java(FRUIT),
+          java(
+            """
+              package org.openrewrite.example;
+
+              import javax.persistence.EntityManager;
+
+              class FruitService {
+                  EntityManager em;
+
+                  int rename(String from, String to) {
+                      return em.createQuery("update Fruit set name = ?1 where name = '" + from + "'").setParameter(1, to).executeUpdate();
+                  }
+              }
+              """,
+            """
+              package org.openrewrite.example;
+
+              import javax.persistence.EntityManager;
+
+              class FruitService {
+                  EntityManager em;
+
+                  int rename(String from, String to) {
+                      return em.createQuery("update Fruit set name = ?1 where name = ?2").setParameter(2, from).setParameter(1, to).executeUpdate();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void nameEntityManagerQuery() {
+        rewriteRun(
+          java(
+            """
+              package org.openrewrite.example;
+
+              import io.quarkus.hibernate.orm.panache.PanacheEntity;
+
+              import javax.persistence.Entity;
+
+              @Entity
+              public class Fruit extends PanacheEntity {
+                  public String name;
+                  public int weight;
+              }
+              """,
+            """
+              package org.openrewrite.example;
+
+              import io.quarkus.hibernate.orm.panache.PanacheEntity;
+
+              import javax.persistence.Entity;
+              import javax.persistence.NamedQuery;
+
+              @Entity
+              @NamedQuery(name = "Fruit.heavierThan", query = "select f from Fruit f where f.weight > ?1")
+              public class Fruit extends PanacheEntity {
+                  public String name;
+                  public int weight;
+              }
+              """
+          ),
+          java(
+            """
+              package org.openrewrite.example;
+
+              import javax.persistence.EntityManager;
+              import java.util.List;
+
+              class FruitService {
+                  EntityManager em;
+
+                  List<Fruit> heavierThan(int weight) {
+                      return em.createQuery("select f from Fruit f where f.weight > " + weight, Fruit.class).getResultList();
+                  }
+              }
+              """,
+            """
+              package org.openrewrite.example;
+
+              import javax.persistence.EntityManager;
+              import java.util.List;
+
+              class FruitService {
+                  EntityManager em;
+
+                  List<Fruit> heavierThan(int weight) {
+                      return em.createNamedQuery("Fruit.heavierThan", Fruit.class).setParameter(1, weight).getResultList();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepConcatenatedQueryParts() {
+        rewriteRun(
+          java(FRUIT),
+          java(
+            """
+              package org.openrewrite.example;
+
+              import java.util.List;
+
+              class FruitService {
+                  List<Fruit> sorted(String column) {
+                      return Fruit.<Fruit>find("order by " + column).list();
+                  }
+
+                  List<Fruit> containing(String text) {
+                      return Fruit.<Fruit>find("name like '%" + text + "%'").list();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepQueryWithNamedParameters() {
+        rewriteRun(
+          java(FRUIT),
+          java(
+            """
+              package org.openrewrite.example;
+
+              import javax.persistence.EntityManager;
+              import java.util.List;
+
+              class FruitService {
+                  EntityManager em;
+
+                  List<?> find(String c, String n) {
+                      return em.createQuery("from Fruit f where f.color = :color and f.name = '" + n + "'").setParameter("color", c).getResultList();
+                  }
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,526 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.quarkus2;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class UsePanacheBulkUpdatesAndDeletesTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new UsePanacheBulkUpdatesAndDeletes())
+          .parser(JavaParser.fromJavaVersion()
+            .classpath("quarkus-hibernate-orm-panache", "quarkus-hibernate-reactive-panache", "persistence-api", "mutiny", "reactive-streams")
+            .dependsOn(
+              """
+                package org.openrewrite.example;
+
+                import io.quarkus.hibernate.orm.panache.PanacheEntity;
+
+                public class Fruit extends PanacheEntity {
+                    public String name;
+                    public String color;
+                    public boolean ripe;
+                }
+                """,
+              """
+                package org.openrewrite.example;
+
+                import io.quarkus.hibernate.reactive.panache.PanacheEntity;
+
+                public class Vegetable extends PanacheEntity {
+                    public String name;
+                    public boolean ripe;
+                }
+                """
+            ));
+    }
+
+    @DocumentExample
+    @Test
+    void bulkUpdate() {
+        rewriteRun(
+          java(
+            """
+              package org.openrewrite.example;
+
+              class FruitService {
+                  void ripen(String color) {
+                      for (Fruit fruit : Fruit.<Fruit>list("color", color)) {
+                          fruit.ripe = true;
+                      }
+                  }
+              }
+              """,
+            """
+              package org.openrewrite.example;
+
+              class FruitService {
+                  void ripen(String color) {
+                      Fruit.update("ripe = ?2 where color = ?1", color, true);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void bulkUpdateOfAllEntities() {
+        rewriteRun(
+          java(
+            """
+              package org.openrewrite.example;
+
+              import java.util.List;
+
+              class FruitService {
+                  void repaint(String color) {
+                      List<Fruit> fruits = Fruit.listAll();
+                      for (Fruit fruit : fruits) {
+                          fruit.color = color;
+                          fruit.ripe = false;
+                      }
+                  }
+              }
+              """,
+            """
+              package org.openrewrite.example;
+
+              import java.util.List;
+
+              class FruitService {
+                  void repaint(String color) {
+                      Fruit.update("color = ?1, ripe = ?2", color, false);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void bulkDelete() {
+        rewriteRun(
+          java(
+            """
+              package org.openrewrite.example;
+
+              class FruitService {
+                  void removeRotten() {
+                      for (Fruit fruit : Fruit.<Fruit>find("ripe = ?1 and color = ?2", true, "brown").list()) {
+                          fruit.delete();
+                      }
+                  }
+              }
+              """,
+            """
+              package org.openrewrite.example;
+
+              class FruitService {
+                  void removeRotten() {
+                      Fruit.delete("ripe = ?1 and color = ?2", true, "brown");
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void bulkDeleteOfAllEntities() {
+        rewriteRun(
+          java(
+            """
+              package org.openrewrite.example;
+
+              class FruitService {
+                  void clear() {
+                      for (Fruit fruit : Fruit.<Fruit>listAll()) {
+                          fruit.delete();
+                      }
+                  }
+              }
+              """,
+            """
+              package org.openrewrite.example;
+
+              class FruitService {
+                  void clear() {
+                      Fruit.deleteAll();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void reactiveBulkUpdate() {
+        rewriteRun(
+          java(
+            """
+              package org.openrewrite.example;
+
+              import io.smallrye.mutiny.Uni;
+
+              import java.util.List;
+
+              class VegetableService {
+                  Uni<Void> ripen(String name) {
+                      return Vegetable.<Vegetable>list("name", name)
+                              .invoke(vegetables -> {
+                                  for (Vegetable vegetable : vegetables) {
+                                      vegetable.ripe = true;
+                                  }
+                              })
+                              .replaceWithVoid();
+                  }
+              }
+              """,
+            """
+              package org.openrewrite.example;
+
+              import io.smallrye.mutiny.Uni;
+
+              import java.util.List;
+
+              class VegetableService {
+                  Uni<Void> ripen(String name) {
+                      return Vegetable.update("ripe = ?2 where name = ?1", name, true)
+                              .replaceWithVoid();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepLoopReadingTheEntity() {
+        rewriteRun(
+          java(
+            """
+              package org.openrewrite.example;
+
+              class FruitService {
+                  void rename() {
+                      for (Fruit fruit : Fruit.<Fruit>listAll()) {
+                          fruit.name = fruit.name.trim();
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepListUsedAfterTheLoop() {
+        rewriteRun(
+          java(
+            """
+              package org.openrewrite.example;
+
+              import java.util.List;
+
+              class FruitService {
+                  List<Fruit> ripen() {
+                      List<Fruit> fruits = Fruit.listAll();
+                      for (Fruit fruit : fruits) {
+                          fruit.ripe = true;
+                      }
+                      return fruits;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepNamedParameters() {
+        rewriteRun(
+          java(
+            """
+              package org.openrewrite.example;
+
+              class FruitService {
+                  void ripen(String color) {
+                      for (Fruit fruit : Fruit.<Fruit>list("color = :color", io.quarkus.panache.common.Parameters.with("color", color))) {
+                          fruit.ripe = true;
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepDeletesCascadingToAssociations() {
+        rewriteRun(
+          java(
+            """
+              package org.openrewrite.example;
+
+              import io.quarkus.hibernate.orm.panache.PanacheEntity;
+
+              import javax.persistence.CascadeType;
+              import javax.persistence.Entity;
+              import javax.persistence.OneToMany;
+              import java.util.List;
+
+              @Entity
+              public class Basket extends PanacheEntity {
+                  public String owner;
+                  @OneToMany(cascade = CascadeType.REMOVE)
+                  public List<Fruit> fruits;
+              }
+              """
+          ),
+          java(
+            """
+              package org.openrewrite.example;
+
+              class BasketService {
+                  void clear(String owner) {
+                      for (Basket basket : Basket.<Basket>list("owner", owner)) {
+                          basket.delete();
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepDeletesRemovingOrphans() {
+        rewriteRun(
+          java(
+            """
+              package org.openrewrite.example;
+
+              import io.quarkus.hibernate.orm.panache.PanacheEntity;
+
+              import javax.persistence.Entity;
+              import javax.persistence.OneToMany;
+              import java.util.List;
+
+              @Entity
+              public class Basket extends PanacheEntity {
+                  public String owner;
+                  @OneToMany(orphanRemoval = true)
+                  public List<Fruit> fruits;
+              }
+              """
+          ),
+          java(
+            """
+              package org.openrewrite.example;
+
+              class BasketService {
+                  void clear(String owner) {
+                      for (Basket basket : Basket.<Basket>list("owner", owner)) {
+                          basket.delete();
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepEntitiesWithCallbacks() {
+        rewriteRun(
+          java(
+            """
+              package org.openrewrite.example;
+
+              import io.quarkus.hibernate.orm.panache.PanacheEntity;
+
+              import javax.persistence.Entity;
+              import javax.persistence.PreUpdate;
+              import java.time.Instant;
+
+              @Entity
+              public class Basket extends PanacheEntity {
+                  public String owner;
+                  public Instant updated;
+
+                  @PreUpdate
+                  void touch() {
+                      updated = Instant.now();
+                  }
+              }
+              """
+          ),
+          java(
+            """
+              package org.openrewrite.example;
+
+              class BasketService {
+                  void transfer(String from, String to) {
+                      for (Basket basket : Basket.<Basket>list("owner", from)) {
+                          basket.owner = to;
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepEntitiesWithListeners() {
+        rewriteRun(
+          java(
+            """
+              package org.openrewrite.example;
+
+              import io.quarkus.hibernate.orm.panache.PanacheEntity;
+
+              import javax.persistence.Entity;
+              import javax.persistence.EntityListeners;
+
+              @Entity
+              @EntityListeners(AuditListener.class)
+              public class Basket extends PanacheEntity {
+                  public String owner;
+              }
+
+              class AuditListener {
+              }
+              """
+          ),
+          java(
+            """
+              package org.openrewrite.example;
+
+              class BasketService {
+                  void clear(String owner) {
+                      for (Basket basket : Basket.<Basket>list("owner", owner)) {
+                          basket.delete();
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepVersionedEntities() {
+        rewriteRun(
+          java(
+            """
+              package org.openrewrite.example;
+
+              import io.quarkus.hibernate.orm.panache.PanacheEntity;
+
+              import javax.persistence.Entity;
+              import javax.persistence.Version;
+
+              @Entity
+              public class Basket extends PanacheEntity {
+                  public String owner;
+                  @Version
+                  public long version;
+              }
+              """
+          ),
+          java(
+            """
+              package org.openrewrite.example;
+
+              class BasketService {
+                  void transfer(String from, String to) {
+                      for (Basket basket : Basket.<Basket>list("owner", from)) {
+                          basket.owner = to;
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepFieldsWithSetters() {
+        rewriteRun(
+          java(
+            """
+              package org.openrewrite.example;
+
+              import io.quarkus.hibernate.orm.panache.PanacheEntity;
+
+              import javax.persistence.Entity;
+
+              @Entity
+              public class Basket extends PanacheEntity {
+                  public String owner;
+
+                  public void setOwner(String owner) {
+                      this.owner = owner.toLowerCase();
+                  }
+              }
+              """
+          ),
+          java(
+            """
+              package org.openrewrite.example;
+
+              class BasketService {
+                  void transfer(String from, String to) {
+                      for (Basket basket : Basket.<Basket>list("owner", from)) {
+                          basket.owner = to;
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepAssignmentsIncrementingVariables() {
+        rewriteRun(
+          java(
+            """
+              package org.openrewrite.example;
+
+              class FruitService {
+                  int renamed;
+
+                  void rename(String color) {
+                      for (Fruit fruit : Fruit.<Fruit>list("color", color)) {
+                          fruit.name = color + renamed++;
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+}
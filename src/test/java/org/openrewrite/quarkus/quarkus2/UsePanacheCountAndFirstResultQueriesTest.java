@@ -0,0 +1,239 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.quarkus2;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class UsePanacheCountAndFirstResultQueriesTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new UsePanacheCountAndFirstResultQueries())
+          .parser(JavaParser.fromJavaVersion()
+            .classpath("quarkus-hibernate-orm-panache", "quarkus-hibernate-reactive-panache", "quarkus-panache-common", "persistence-api", "mutiny", "reactive-streams")
+            .dependsOn(
+              """
+                package org.openrewrite.example;
+
+                import io.quarkus.hibernate.orm.panache.PanacheEntity;
+
+                public class Fruit extends PanacheEntity {
+                    public String name;
+                    public String color;
+                }
+                """,
+              """
+                package org.openrewrite.example;
+
+                import io.quarkus.hibernate.reactive.panache.PanacheEntity;
+
+                public class Vegetable extends PanacheEntity {
+                    public String name;
+                }
+                """
+            ));
+    }
+
+    @DocumentExample
+    @Test
+    void countInsteadOfSize() {
+        rewriteRun(
+          java(
+            """
+              package org.openrewrite.example;
+
+              class FruitService {
+                  boolean tooMany() {
+                      return Fruit.listAll().size() > 100;
+                  }
+
+                  int red() {
+                      return Fruit.list("color", "red").size();
+                  }
+              }
+              """,
+            """
+              package org.openrewrite.example;
+
+              class FruitService {
+                  boolean tooMany() {
+                      return Fruit.count() > 100;
+                  }
+
+                  int red() {
+                      return (int) Fruit.count("color", "red");
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void countInsteadOfIsEmpty() {
+        rewriteRun(
+          java(
+            """
+              package org.openrewrite.example;
+
+              class FruitService {
+                  boolean none() {
+                      return Fruit.findAll().list().isEmpty();
+                  }
+
+                  boolean any(String color) {
+                      return !Fruit.find("color", color).list().isEmpty();
+                  }
+              }
+              """,
+            """
+              package org.openrewrite.example;
+
+              class FruitService {
+                  boolean none() {
+                      return Fruit.count() == 0;
+                  }
+
+                  boolean any(String color) {
+                      return Fruit.count("color", color) > 0;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void firstResult() {
+        rewriteRun(
+          java(
+            """
+              package org.openrewrite.example;
+
+              import io.quarkus.panache.common.Sort;
+
+              import java.util.Optional;
+
+              class FruitService {
+                  Fruit first(String color) {
+                      return Fruit.<Fruit>find("color", Sort.by("name"), color).list().get(0);
+                  }
+
+                  Optional<Fruit> any() {
+                      return Fruit.<Fruit>listAll().stream().findFirst();
+                  }
+              }
+              """,
+            """
+              package org.openrewrite.example;
+
+              import io.quarkus.panache.common.Sort;
+
+              import java.util.Optional;
+
+              class FruitService {
+                  Fruit first(String color) {
+                      return Fruit.find("color", Sort.by("name"), color).firstResult();
+                  }
+
+                  Optional<Fruit> any() {
+                      return Fruit.findAll().firstResultOptional();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void reactiveCountAndFirstResult() {
+        rewriteRun(
+          java(
+            """
+              package org.openrewrite.example;
+
+              import io.smallrye.mutiny.Uni;
+
+              import java.util.List;
+
+              class VegetableService {
+                  Uni<Integer> size() {
+                      return Vegetable.listAll().map(List::size);
+                  }
+
+                  Uni<Boolean> exists(String name) {
+                      return Vegetable.list("name", name).map(vegetables -> !vegetables.isEmpty());
+                  }
+
+                  Uni<Vegetable> first(String name) {
+                      return Vegetable.<Vegetable>find("name", name).list().map(vegetables -> vegetables.get(0));
+                  }
+              }
+              """,
+            """
+              package org.openrewrite.example;
+
+              import io.smallrye.mutiny.Uni;
+
+              import java.util.List;
+
+              class VegetableService {
+                  Uni<Integer> size() {
+                      return Vegetable.count().map(Long::intValue);
+                  }
+
+                  Uni<Boolean> exists(String name) {
+                      return Vegetable.count("name", name).map(count -> count > 0);
+                  }
+
+                  Uni<Vegetable> first(String name) {
+                      return Vegetable.find("name", name).firstResult();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepListUsedOtherwise() {
+        rewriteRun(
+          java(
+            """
+              package org.openrewrite.example;
+
+              import java.util.List;
+
+              class FruitService {
+                  Fruit second() {
+                      return Fruit.<Fruit>listAll().get(1);
+                  }
+
+                  List<Fruit> page() {
+                      return Fruit.<Fruit>findAll().page(0, 10).list();
+                  }
+              }
+              """
+          )
+        );
+    }
+}
@@ -81,4 +81,42 @@ class UsePanacheEntityBaseStaticMethodsTest implements RewriteTest {
           )
         );
     }
+
+    @Test
+    void rewritesEveryCallInOnePass() {
+        rewriteRun(
+          java(
+            """
+              package org.openrewrite.example;
+
+              import java.util.List;
+
+              class Test {
+                  void flushAll(List<Person> people) {
+                      for (Person p : people) {
+                          p.flush();
+                      }
+                      people.get(0).getEntityManager();
+                      people.get(0).flush();
+                  }
+              }
+              """,
+            """
+              package org.openrewrite.example;
+
+              import java.util.List;
+
+              class Test {
+                  void flushAll(List<Person> people) {
+                      for (Person p : people) {
+                          Person.flush();
+                      }
+                      Person.getEntityManager();
+                      Person.flush();
+                  }
+              }
+              """
+          )
+        );
+    }
 }
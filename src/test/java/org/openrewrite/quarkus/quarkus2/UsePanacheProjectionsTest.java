@@ -0,0 +1,202 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.quarkus2;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class UsePanacheProjectionsTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new UsePanacheProjections())
+          .parser(JavaParser.fromJavaVersion()
+            .classpath("quarkus-core", "quarkus-hibernate-orm-panache", "quarkus-panache-common", "persistence-api")
+            .dependsOn(
+              """
+                package org.openrewrite.example;
+
+                import io.quarkus.hibernate.orm.panache.PanacheEntity;
+
+                public class Fruit extends PanacheEntity {
+                    public String name;
+                    public String color;
+                    public boolean ripe;
+                    public String description;
+
+                    public String getColor() {
+                        return color;
+                    }
+                }
+                """
+            ));
+    }
+
+    @DocumentExample
+    @Test
+    void projectOntoGeneratedView() {
+        rewriteRun(
+          java(
+            """
+              package org.openrewrite.example;
+
+              import java.util.ArrayList;
+              import java.util.List;
+
+              class FruitService {
+                  List<String> labels() {
+                      List<String> labels = new ArrayList<>();
+                      for (Fruit fruit : Fruit.<Fruit>list("ripe", true)) {
+                          labels.add(fruit.name + " " + fruit.getColor());
+                      }
+                      return labels;
+                  }
+              }
+              """,
+            """
+              package org.openrewrite.example;
+
+              import io.quarkus.runtime.annotations.RegisterForReflection;
+
+              import java.util.ArrayList;
+              import java.util.List;
+
+              class FruitService {
+                  List<String> labels() {
+                      List<String> labels = new ArrayList<>();
+                      for (FruitView fruit : Fruit.find("ripe", true).project(FruitView.class).list()) {
+                          labels.add(fruit.name + " " + fruit.color);
+                      }
+                      return labels;
+                  }
+
+                  @RegisterForReflection
+                  public static class FruitView {
+                      public final String name;
+                      public final String color;
+
+                      public FruitView(String name, String color) {
+                          this.name = name;
+                          this.color = color;
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void projectOntoExistingDto() {
+        rewriteRun(
+          java(
+            """
+              package org.openrewrite.example;
+
+              public record FruitSummary(String name, String color) {
+              }
+              """
+          ),
+          java(
+            """
+              package org.openrewrite.example;
+
+              import java.util.List;
+              import java.util.stream.Collectors;
+
+              class FruitService {
+                  List<FruitSummary> summaries(boolean ripe) {
+                      return Fruit.<Fruit>find("ripe", ripe).list().stream()
+                              .map(fruit -> new FruitSummary(fruit.name, fruit.getColor()))
+                              .collect(Collectors.toList());
+                  }
+              }
+              """,
+            """
+              package org.openrewrite.example;
+
+              import java.util.List;
+              import java.util.stream.Collectors;
+
+              class FruitService {
+                  List<FruitSummary> summaries(boolean ripe) {
+                      return Fruit.find("ripe", ripe).project(FruitSummary.class).list().stream()
+                              .collect(Collectors.toList());
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepEntitiesUsedOtherwise() {
+        rewriteRun(
+          java(
+            """
+              package org.openrewrite.example;
+
+              import java.util.List;
+
+              class FruitService {
+                  void ripen(List<String> names) {
+                      for (Fruit fruit : Fruit.<Fruit>listAll()) {
+                          if (names.contains(fruit.name)) {
+                              fruit.ripe = true;
+                          }
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepDtoWithDifferentlyNamedParameters() {
+        rewriteRun(
+          java(
+            """
+              package org.openrewrite.example;
+
+              public record Label(String text, String color) {
+              }
+              """
+          ),
+          java(
+            """
+              package org.openrewrite.example;
+
+              import java.util.List;
+              import java.util.stream.Collectors;
+
+              class FruitService {
+                  List<Label> labels() {
+                      return Fruit.<Fruit>listAll().stream()
+                              .map(fruit -> new Label(fruit.name, fruit.color))
+                              .collect(Collectors.toList());
+                  }
+              }
+              """
+          )
+        );
+    }
+}
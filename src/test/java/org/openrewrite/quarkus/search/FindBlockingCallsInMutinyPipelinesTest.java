@@ -0,0 +1,166 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.search;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.quarkus.table.MutinyBlockingCalls;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.openrewrite.java.Assertions.java;
+
+class FindBlockingCallsInMutinyPipelinesTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new FindBlockingCallsInMutinyPipelines())
+          .parser(JavaParser.fromJavaVersion()
+            .classpath("javaee-api", "mutiny", "reactive-streams"));
+    }
+
+    @DocumentExample
+    @Test
+    void findBlockingCalls() {
+        rewriteRun(
+          spec -> spec.dataTable(MutinyBlockingCalls.Row.class, rows ->
+            assertThat(rows)
+              .extracting(MutinyBlockingCalls.Row::getOperator, MutinyBlockingCalls.Row::getBlockingCall)
+              .containsExactly(
+                tuple("item", "EntityManager.find"),
+                tuple("transform", "Thread.sleep"),
+                tuple("invoke", "EntityManager.persist")
+              )),
+          java(
+            //language=java
+            """
+              import io.smallrye.mutiny.Uni;
+
+              import javax.persistence.EntityManager;
+
+              class FruitService {
+                  EntityManager em;
+
+                  Uni<Object> find(long id) {
+                      return Uni.createFrom().item(() -> em.find(Object.class, id));
+                  }
+
+                  Uni<String> name(Uni<String> name) {
+                      return name.onItem().transform(n -> {
+                          try {
+                              Thread.sleep(100);
+                          } catch (InterruptedException e) {
+                              throw new IllegalStateException(e);
+                          }
+                          return n.toUpperCase();
+                      });
+                  }
+
+                  Uni<Object> save(Uni<Object> fruit) {
+                      return fruit.invoke(em::persist);
+                  }
+              }
+              """,
+            //language=java
+            """
+              import io.smallrye.mutiny.Uni;
+
+              import javax.persistence.EntityManager;
+
+              class FruitService {
+                  EntityManager em;
+
+                  Uni<Object> find(long id) {
+                      return Uni.createFrom().item(() -> /*~~(Blocking call on the event loop, use runSubscriptionOn(Infrastructure.getDefaultWorkerPool()))~~>*/em.find(Object.class, id));
+                  }
+
+                  Uni<String> name(Uni<String> name) {
+                      return name.onItem().transform(n -> {
+                          try {
+                              /*~~(Blocking call on the event loop, use emitOn(Infrastructure.getDefaultWorkerPool()))~~>*/Thread.sleep(100);
+                          } catch (InterruptedException e) {
+                              throw new IllegalStateException(e);
+                          }
+                          return n.toUpperCase();
+                      });
+                  }
+
+                  Uni<Object> save(Uni<Object> fruit) {
+                      return fruit.invoke(/*~~(Blocking call on the event loop, use emitOn(Infrastructure.getDefaultWorkerPool()))~~>*/em::persist);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void ignoreOffloadedPipelines() {
+        rewriteRun(
+          java(
+            //language=java
+            """
+              import io.smallrye.mutiny.Uni;
+              import io.smallrye.mutiny.infrastructure.Infrastructure;
+
+              import javax.persistence.EntityManager;
+
+              class FruitService {
+                  EntityManager em;
+
+                  Uni<Object> find(Uni<Long> id) {
+                      return id
+                        .emitOn(Infrastructure.getDefaultWorkerPool())
+                        .onItem().transform(i -> em.find(Object.class, i));
+                  }
+
+                  Uni<Object> load(long id) {
+                      return Uni.createFrom().item(() -> em.find(Object.class, id))
+                        .runSubscriptionOn(Infrastructure.getDefaultWorkerPool());
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void ignoreLambdasOutsideOfThePipeline() {
+        rewriteRun(
+          java(
+            //language=java
+            """
+              import io.smallrye.mutiny.Uni;
+
+              import javax.persistence.EntityManager;
+              import java.util.concurrent.ExecutorService;
+
+              class FruitService {
+                  EntityManager em;
+                  ExecutorService executor;
+
+                  Uni<Long> find(Uni<Long> id) {
+                      return id.onItem().invoke(i -> executor.submit(() -> em.find(Object.class, i)));
+                  }
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.search;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class FindPanacheNPlusOneQueriesTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new FindPanacheNPlusOneQueries())
+          .parser(JavaParser.fromJavaVersion()
+            .classpath("quarkus-hibernate-orm-panache", "quarkus-panache-common", "persistence-api"));
+    }
+
+    @DocumentExample
+    @Test
+    void findEagerAssociationsAndNavigatingLoops() {
+        rewriteRun(
+          java(
+            """
+              package org.openrewrite.example;
+
+              import io.quarkus.hibernate.orm.panache.PanacheEntity;
+
+              import javax.persistence.Entity;
+              import javax.persistence.FetchType;
+              import javax.persistence.OneToMany;
+              import java.util.List;
+
+              @Entity
+              public class Tree extends PanacheEntity {
+                  public String name;
+
+                  @OneToMany(mappedBy = "tree", fetch = FetchType.EAGER)
+                  public List<Fruit> fruits;
+              }
+              """,
+            """
+              package org.openrewrite.example;
+
+              import io.quarkus.hibernate.orm.panache.PanacheEntity;
+
+              import javax.persistence.Entity;
+              import javax.persistence.FetchType;
+              import javax.persistence.OneToMany;
+              import java.util.List;
+
+              @Entity
+              public class Tree extends PanacheEntity {
+                  public String name;
+
+                  /*~~(Fetched eagerly with every entity, consider `fetch = FetchType.LAZY`)~~>*/@OneToMany(mappedBy = "tree", fetch = FetchType.EAGER)
+                  public List<Fruit> fruits;
+              }
+              """
+          ),
+          java(
+            """
+              package org.openrewrite.example;
+
+              import io.quarkus.hibernate.orm.panache.PanacheEntity;
+
+              import javax.persistence.Entity;
+              import javax.persistence.FetchType;
+              import javax.persistence.ManyToOne;
+
+              @Entity
+              public class Fruit extends PanacheEntity {
+                  public String name;
+
+                  @ManyToOne
+                  public Tree tree;
+
+                  @ManyToOne(fetch = FetchType.LAZY)
+                  public Tree graft;
+
+                  public Tree getGraft() {
+                      return graft;
+                  }
+              }
+              """,
+            """
+              package org.openrewrite.example;
+
+              import io.quarkus.hibernate.orm.panache.PanacheEntity;
+
+              import javax.persistence.Entity;
+              import javax.persistence.FetchType;
+              import javax.persistence.ManyToOne;
+
+              @Entity
+              public class Fruit extends PanacheEntity {
+                  public String name;
+
+                  /*~~(Fetched eagerly with every entity, consider `fetch = FetchType.LAZY`)~~>*/@ManyToOne
+                  public Tree tree;
+
+                  @ManyToOne(fetch = FetchType.LAZY)
+                  public Tree graft;
+
+                  public Tree getGraft() {
+                      return graft;
+                  }
+              }
+              """
+          ),
+          java(
+            """
+              package org.openrewrite.example;
+
+              import java.util.ArrayList;
+              import java.util.List;
+
+              class FruitService {
+                  List<String> grafts() {
+                      List<String> grafts = new ArrayList<>();
+                      List<Fruit> fruits = Fruit.listAll();
+                      for (Fruit fruit : fruits) {
+                          grafts.add(fruit.name + " on " + fruit.getGraft().name);
+                      }
+                      return grafts;
+                  }
+              }
+              """,
+            """
+              package org.openrewrite.example;
+
+              import java.util.ArrayList;
+              import java.util.List;
+
+              class FruitService {
+                  List<String> grafts() {
+                      List<String> grafts = new ArrayList<>();
+                      List<Fruit> fruits = Fruit.listAll();
+                      for (Fruit fruit : fruits) {
+                          grafts.add(fruit.name + " on " + /*~~(Loads `graft` once per entity, consider `left join fetch` in the query)~~>*/fruit.getGraft().name);
+                      }
+                      return grafts;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void ignoreJoinFetchQueries() {
+        rewriteRun(
+          java(
+            """
+              package org.openrewrite.example;
+
+              import io.quarkus.hibernate.orm.panache.PanacheEntity;
+
+              import javax.persistence.Entity;
+              import javax.persistence.FetchType;
+              import javax.persistence.ManyToOne;
+
+              @Entity
+              public class Fruit extends PanacheEntity {
+                  public String name;
+
+                  @ManyToOne(fetch = FetchType.LAZY)
+                  public Fruit parent;
+              }
+              """
+          ),
+          java(
+            """
+              package org.openrewrite.example;
+
+              class FruitService {
+                  void print() {
+                      for (Fruit fruit : Fruit.<Fruit>list("from Fruit f left join fetch f.parent")) {
+                          System.out.println(fruit.parent.name);
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+}
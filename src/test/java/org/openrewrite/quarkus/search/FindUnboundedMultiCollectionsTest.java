@@ -0,0 +1,142 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.search;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class FindUnboundedMultiCollectionsTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new FindUnboundedMultiCollections())
+          .parser(JavaParser.fromJavaVersion()
+            .classpath("mutiny", "reactive-streams")
+            .dependsOn(
+              """
+                package io.quarkus.hibernate.reactive.panache;
+                import io.smallrye.mutiny.Multi;
+                public abstract class PanacheEntityBase {
+                    public static <T extends PanacheEntityBase> Multi<T> streamAll() { return null; }
+                }
+                """,
+              """
+                package org.eclipse.microprofile.reactive.messaging;
+                public @interface Channel {
+                    String value();
+                }
+                """
+            ));
+    }
+
+    @DocumentExample
+    @Test
+    void findUnboundedCollections() {
+        rewriteRun(
+          java(
+            //language=java
+            """
+              import io.quarkus.hibernate.reactive.panache.PanacheEntityBase;
+              import io.smallrye.mutiny.Multi;
+              import io.smallrye.mutiny.Uni;
+              import org.eclipse.microprofile.reactive.messaging.Channel;
+
+              import java.util.List;
+              import java.util.Map;
+
+              class Fruit extends PanacheEntityBase {
+                  String name;
+
+                  @Channel("prices")
+                  Multi<Double> prices;
+
+                  Uni<List<Fruit>> all() {
+                      return Fruit.<Fruit>streamAll().collect().asList();
+                  }
+
+                  Uni<Map<String, Fruit>> byName() {
+                      return Fruit.<Fruit>streamAll().collect().asMap(f -> f.name);
+                  }
+
+                  Uni<List<Double>> allPrices() {
+                      return prices.onItem().transform(p -> p * 2).collect().asList();
+                  }
+              }
+              """,
+            //language=java
+            """
+              import io.quarkus.hibernate.reactive.panache.PanacheEntityBase;
+              import io.smallrye.mutiny.Multi;
+              import io.smallrye.mutiny.Uni;
+              import org.eclipse.microprofile.reactive.messaging.Channel;
+
+              import java.util.List;
+              import java.util.Map;
+
+              class Fruit extends PanacheEntityBase {
+                  String name;
+
+                  @Channel("prices")
+                  Multi<Double> prices;
+
+                  Uni<List<Fruit>> all() {
+                      return /*~~(Collects all items of a Panache stream query into memory, consider `select().first(n)`, `group().intoLists().of(n)` or streaming the response)~~>*/Fruit.<Fruit>streamAll().collect().asList();
+                  }
+
+                  Uni<Map<String, Fruit>> byName() {
+                      return /*~~(Collects all items of a Panache stream query into memory, consider `select().first(n)`, `group().intoLists().of(n)` or streaming the response)~~>*/Fruit.<Fruit>streamAll().collect().asMap(f -> f.name);
+                  }
+
+                  Uni<List<Double>> allPrices() {
+                      return /*~~(Collects all items of a messaging channel into memory, consider `select().first(n)`, `group().intoLists().of(n)` or streaming the response)~~>*/prices.onItem().transform(p -> p * 2).collect().asList();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void ignoreBoundedOrUnknownStreams() {
+        rewriteRun(
+          java(
+            //language=java
+            """
+              import io.quarkus.hibernate.reactive.panache.PanacheEntityBase;
+              import io.smallrye.mutiny.Multi;
+              import io.smallrye.mutiny.Uni;
+
+              import java.util.List;
+
+              class Fruit extends PanacheEntityBase {
+                  Uni<List<Fruit>> firstTen() {
+                      return Fruit.<Fruit>streamAll().select().first(10).collect().asList();
+                  }
+
+                  Uni<List<String>> names() {
+                      return Multi.createFrom().items("apple", "pear").collect().asList();
+                  }
+              }
+              """
+          )
+        );
+    }
+}
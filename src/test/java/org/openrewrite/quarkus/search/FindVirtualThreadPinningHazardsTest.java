@@ -0,0 +1,192 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.quarkus.search;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.quarkus.table.VirtualThreadPinningHazards;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.java.Assertions.java;
+
+class FindVirtualThreadPinningHazardsTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new FindVirtualThreadPinningHazards())
+          .parser(JavaParser.fromJavaVersion()
+            .classpath("javaee-api")
+            .dependsOn(
+              """
+                package io.quarkus.scheduler;
+                public @interface Scheduled {
+                    String every() default "";
+                }
+                """
+            ));
+    }
+
+    @DocumentExample
+    @Test
+    void findHazardsInResource() {
+        rewriteRun(
+          spec -> spec.dataTable(VirtualThreadPinningHazards.Row.class, rows ->
+            assertThat(rows).singleElement().satisfies(row -> {
+                assertThat(row.getClassName()).isEqualTo("FruitResource");
+                assertThat(row.getHazards()).isEqualTo(3);
+                assertThat(row.getSynchronizedIo()).isEqualTo(1);
+                assertThat(row.getWaitCalls()).isEqualTo(1);
+                assertThat(row.getNativeCalls()).isEqualTo(1);
+            })),
+          java(
+            //language=java
+            """
+              import javax.persistence.EntityManager;
+              import javax.ws.rs.GET;
+              import javax.ws.rs.Path;
+
+              @Path("/fruits")
+              class FruitResource {
+                  EntityManager em;
+                  int count;
+
+                  @GET
+                  public Object list() throws InterruptedException {
+                      synchronized (this) {
+                          return em.createQuery("from Fruit").getResultList();
+                      }
+                  }
+
+                  @GET
+                  @Path("/count")
+                  public synchronized int count() {
+                      return count++;
+                  }
+
+                  @GET
+                  @Path("/next")
+                  public synchronized int next() throws InterruptedException {
+                      while (count == 0) {
+                          wait();
+                      }
+                      return checksum(count--);
+                  }
+
+                  private static native int checksum(int value);
+              }
+              """,
+            //language=java
+            """
+              import javax.persistence.EntityManager;
+              import javax.ws.rs.GET;
+              import javax.ws.rs.Path;
+
+              @Path("/fruits")
+              class FruitResource {
+                  EntityManager em;
+                  int count;
+
+                  @GET
+                  public Object list() throws InterruptedException {
+                      /*~~(synchronized block performing blocking I/O)~~>*/synchronized (this) {
+                          return em.createQuery("from Fruit").getResultList();
+                      }
+                  }
+
+                  @GET
+                  @Path("/count")
+                  public synchronized int count() {
+                      return count++;
+                  }
+
+                  @GET
+                  @Path("/next")
+                  public synchronized int next() throws InterruptedException {
+                      while (count == 0) {
+                          /*~~(Object.wait pins the carrier thread)~~>*/wait();
+                      }
+                      return /*~~(native call pins the carrier thread)~~>*/checksum(count--);
+                  }
+
+                  private static native int checksum(int value);
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void findSynchronizedMethodInScheduledJob() {
+        rewriteRun(
+          java(
+            //language=java
+            """
+              import io.quarkus.scheduler.Scheduled;
+
+              import javax.sql.DataSource;
+
+              class CleanupJob {
+                  DataSource dataSource;
+
+                  @Scheduled(every = "1h")
+                  synchronized void cleanup() throws Exception {
+                      dataSource.getConnection().close();
+                  }
+              }
+              """,
+            //language=java
+            """
+              import io.quarkus.scheduler.Scheduled;
+
+              import javax.sql.DataSource;
+
+              class CleanupJob {
+                  DataSource dataSource;
+
+                  /*~~(synchronized method performing blocking I/O)~~>*/@Scheduled(every = "1h")
+                  synchronized void cleanup() throws Exception {
+                      dataSource.getConnection().close();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void ignoreClassesWithoutEntryPoints() {
+        rewriteRun(
+          java(
+            //language=java
+            """
+              import javax.persistence.EntityManager;
+              import javax.ws.rs.Path;
+
+              class FruitRepository {
+                  EntityManager em;
+
+                  synchronized Object list() {
+                      return em.createQuery("from Fruit").getResultList();
+                  }
+              }
+              """
+          )
+        );
+    }
+}